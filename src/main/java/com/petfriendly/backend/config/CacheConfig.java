@@ -0,0 +1,49 @@
+package com.petfriendly.backend.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.StringUtils;
+
+/**
+ * Caffeine-backed read caches for single-entity lookups.
+ * Size, TTL and stats recording come from {@code spring.cache.caffeine.spec}; hit/miss/eviction
+ * metrics are published by actuator under {@code cache.*}.
+ * <p>
+ * The caches are transaction-aware: a put or {@code @CacheEvict} issued inside a transaction is applied
+ * once the outermost transaction commits, including when the annotated write joined a caller's
+ * transaction, so a concurrent reader cannot re-cache data that is about to change. The caching advice
+ * is ordered just outside the transaction advice, so a write that opens its own transaction evicts
+ * right after that commit as well.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    public static final String PETS_CACHE = "pets";
+    public static final String FOUNDATIONS_CACHE = "foundations";
+
+    /**
+     * Same Caffeine manager Spring Boot would configure from {@code spring.cache.*}, deferring writes
+     * to the cache until commit.
+     */
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        String spec = cacheProperties.getCaffeine().getSpec();
+        if (StringUtils.hasText(spec)) {
+            caffeineCacheManager.setCacheSpecification(spec);
+        }
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        }
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,12 @@
+package com.petfriendly.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} maintenance jobs. Each job has its own {@code app.*.enabled} switch.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -112,8 +112,14 @@ public class SecurityConfig {
                 .requestMatchers("/api/v1/auth/**").permitAll()
                 .requestMatchers("/api/v1/public/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/pets/**").permitAll()
+                // Foundation dashboards are admin-only and must match before the public foundation reads
+                .requestMatchers(HttpMethod.GET, "/api/v1/foundations/*/dashboard").hasAnyRole("FOUNDATION_ADMIN", "SUPER_ADMIN")
                 .requestMatchers(HttpMethod.GET, "/api/v1/foundations/**").permitAll()
+                // Chunked upload status is admin-only and must match before the public pet image reads
+                .requestMatchers(HttpMethod.GET, "/api/v1/pet-images/uploads/**").hasAnyRole("FOUNDATION_ADMIN", "SUPER_ADMIN")
                 .requestMatchers(HttpMethod.GET, "/api/v1/pet-images/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/v1/images/**").permitAll()
+                .requestMatchers(HttpMethod.HEAD, "/api/v1/images/**").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/v1/contact-messages").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/v1/users/register").permitAll()
                 
@@ -149,12 +155,18 @@ public class SecurityConfig {
                 
                 // Pet image management - foundation owners/admins
                 .requestMatchers(HttpMethod.POST, "/api/v1/pet-images").hasAnyRole("FOUNDATION_ADMIN", "SUPER_ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/v1/pet-images/uploads", "/api/v1/pet-images/uploads/**").hasAnyRole("FOUNDATION_ADMIN", "SUPER_ADMIN")
                 .requestMatchers(HttpMethod.PUT, "/api/v1/pet-images/**").hasAnyRole("FOUNDATION_ADMIN", "SUPER_ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/api/v1/pet-images/**").hasAnyRole("FOUNDATION_ADMIN", "SUPER_ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/v1/images").hasAnyRole("FOUNDATION_ADMIN", "SUPER_ADMIN")
                 
                 // Adoption request management - foundation owners/admins
                 .requestMatchers(HttpMethod.PUT, "/api/v1/adoption-requests/*/approve").hasAnyRole("FOUNDATION_ADMIN", "SUPER_ADMIN")
                 .requestMatchers(HttpMethod.PUT, "/api/v1/adoption-requests/*/reject").hasAnyRole("FOUNDATION_ADMIN", "SUPER_ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/v1/adoption-requests/foundation/*/claims").hasAnyRole("FOUNDATION_ADMIN", "SUPER_ADMIN")
+                .requestMatchers(HttpMethod.GET, "/api/v1/adoption-requests/analytics/**").hasAnyRole("FOUNDATION_ADMIN", "SUPER_ADMIN")
+                .requestMatchers(HttpMethod.GET, "/api/v1/adoption-requests/reports/**").hasAnyRole("FOUNDATION_ADMIN", "SUPER_ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/v1/adoption-requests/reports/monthly/rebuild").hasRole("SUPER_ADMIN")
                 .requestMatchers(HttpMethod.GET, "/api/v1/adoption-requests/pet/**").hasAnyRole("FOUNDATION_ADMIN", "SUPER_ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/api/v1/adoption-requests/**").hasAnyRole("FOUNDATION_ADMIN", "SUPER_ADMIN")
                 
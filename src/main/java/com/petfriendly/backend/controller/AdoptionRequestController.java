@@ -2,15 +2,18 @@ package com.petfriendly.backend.controller;
 
 import com.petfriendly.backend.dto.mapper.DtoMapper;
 import com.petfriendly.backend.dto.request.AdoptionRequestCreateRequest;
+import com.petfriendly.backend.dto.response.AdoptionApprovalResponse;
 import com.petfriendly.backend.dto.response.AdoptionRequestResponse;
+import com.petfriendly.backend.dto.response.AdoptionRequestSummaryResponse;
+import com.petfriendly.backend.dto.response.AdoptionReviewClaimResponse;
 import com.petfriendly.backend.dto.response.MessageResponse;
 import com.petfriendly.backend.entity.AdoptionRequest;
 import com.petfriendly.backend.entity.AdoptionRequestStatus;
-import com.petfriendly.backend.entity.Pet;
-import com.petfriendly.backend.entity.User;
+import com.petfriendly.backend.security.UserPrincipal;
+import com.petfriendly.backend.service.AdoptionAnalyticsService;
+import com.petfriendly.backend.service.AdoptionReportService;
 import com.petfriendly.backend.service.AdoptionRequestService;
-import com.petfriendly.backend.service.PetService;
-import com.petfriendly.backend.service.UserService;
+import com.petfriendly.backend.service.snapshot.StatisticsSnapshots;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -19,15 +22,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.web.server.ResponseStatusException;
@@ -44,8 +49,9 @@ import org.springframework.web.server.ResponseStatusException;
 public class AdoptionRequestController {
 
     private final AdoptionRequestService adoptionRequestService;
-    private final UserService userService;
-    private final PetService petService;
+    private final StatisticsSnapshots statisticsSnapshots;
+    private final AdoptionAnalyticsService adoptionAnalyticsService;
+    private final AdoptionReportService adoptionReportService;
 
     private AdoptionRequestResponse toResponse(AdoptionRequest adoptionRequest) {
         return DtoMapper.toAdoptionRequestResponse(adoptionRequest);
@@ -76,32 +82,27 @@ public class AdoptionRequestController {
             @ApiResponse(responseCode = "401", description = "Missing or invalid JWT",
                     content = @Content(schema = @Schema(implementation = MessageResponse.class))),
             @ApiResponse(responseCode = "404", description = "Pet not found",
+                    content = @Content(schema = @Schema(implementation = MessageResponse.class))),
+            @ApiResponse(responseCode = "409", description = "User already requested this pet",
                     content = @Content(schema = @Schema(implementation = MessageResponse.class)))
     })
     public ResponseEntity<AdoptionRequestResponse> createAdoptionRequest(@Valid @RequestBody AdoptionRequestCreateRequest request,
-                                                                 @AuthenticationPrincipal UserDetails currentUser) {
+                                                                 @AuthenticationPrincipal UserPrincipal currentUser) {
         if (currentUser == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
         }
 
-        User user = userService.findByEmail(currentUser.getUsername())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
-
-        Pet pet = petService.findById(request.getPetId())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Pet not found"));
-
-        log.info("Creating new adoption request for pet ID: {} by user ID: {}", pet.getId(), user.getId());
-
-        AdoptionRequest adoptionRequest = AdoptionRequest.builder()
-                .user(user)
-                .pet(pet)
-                .message(request.getMessage())
-                .experience(request.getExperience())
-                .livingSituation(request.getLivingSituation())
-                .build();
+        log.info("Creating new adoption request for pet ID: {} by user ID: {}", request.getPetId(), currentUser.getId());
 
-        AdoptionRequest createdRequest = adoptionRequestService.createAdoptionRequest(adoptionRequest);
-        return new ResponseEntity<>(DtoMapper.toAdoptionRequestResponse(createdRequest), HttpStatus.CREATED);
+        try {
+            AdoptionRequest createdRequest = adoptionRequestService.submitAdoptionRequest(currentUser.getId(),
+                    request.getPetId(), request.getMessage(), request.getExperience(), request.getLivingSituation());
+            return new ResponseEntity<>(DtoMapper.toAdoptionRequestResponse(createdRequest), HttpStatus.CREATED);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
     }
 
     /**
@@ -124,9 +125,7 @@ public class AdoptionRequestController {
     @GetMapping("/page")
     public ResponseEntity<Page<AdoptionRequestResponse>> getAllAdoptionRequestsWithPagination(Pageable pageable) {
         log.info("Getting all adoption requests with pagination");
-        Page<AdoptionRequestResponse> requests = adoptionRequestService.findAll(pageable)
-                .map(DtoMapper::toAdoptionRequestResponse);
-        return ResponseEntity.ok(requests);
+        return ResponseEntity.ok(adoptionRequestService.findAllResponses(pageable));
     }
 
     /**
@@ -161,9 +160,7 @@ public class AdoptionRequestController {
     @GetMapping("/user/{userId}/page")
     public ResponseEntity<Page<AdoptionRequestResponse>> getAdoptionRequestsByUserIdWithPagination(@PathVariable UUID userId, Pageable pageable) {
         log.info("Getting adoption requests by user ID with pagination: {}", userId);
-        Page<AdoptionRequestResponse> requests = adoptionRequestService.findByUserId(userId, pageable)
-                .map(DtoMapper::toAdoptionRequestResponse);
-        return ResponseEntity.ok(requests);
+        return ResponseEntity.ok(adoptionRequestService.findResponsesByUserId(userId, pageable));
     }
 
     /**
@@ -186,7 +183,7 @@ public class AdoptionRequestController {
     @GetMapping("/pet/{petId}/page")
     public ResponseEntity<Page<AdoptionRequestResponse>> getAdoptionRequestsByPetIdWithPagination(@PathVariable UUID petId, Pageable pageable) {
         log.info("Getting adoption requests by pet ID with pagination: {}", petId);
-        return ResponseEntity.ok(toResponsePage(adoptionRequestService.findByPetId(petId, pageable)));
+        return ResponseEntity.ok(adoptionRequestService.findResponsesByPetId(petId, pageable));
     }
 
     /**
@@ -206,7 +203,17 @@ public class AdoptionRequestController {
     @GetMapping("/status/{status}/page")
     public ResponseEntity<Page<AdoptionRequestResponse>> getAdoptionRequestsByStatusWithPagination(@PathVariable AdoptionRequestStatus status, Pageable pageable) {
         log.info("Getting adoption requests by status with pagination: {}", status);
-        return ResponseEntity.ok(toResponsePage(adoptionRequestService.findByStatus(status, pageable)));
+        return ResponseEntity.ok(adoptionRequestService.findResponsesByStatus(status, pageable));
+    }
+
+    /**
+     * Get adoption request summaries (no free-text answers) by status with pagination
+     * GET /api/v1/adoption-requests/status/{status}/summary
+     */
+    @GetMapping("/status/{status}/summary")
+    public ResponseEntity<Page<AdoptionRequestSummaryResponse>> getAdoptionRequestSummariesByStatus(@PathVariable AdoptionRequestStatus status, Pageable pageable) {
+        log.info("Getting adoption request summaries by status with pagination: {}", status);
+        return ResponseEntity.ok(adoptionRequestService.findSummariesByStatus(status, pageable));
     }
 
     /**
@@ -261,6 +268,9 @@ public class AdoptionRequestController {
         try {
             AdoptionRequest updatedRequest = adoptionRequestService.updateAdoptionRequest(id, adoptionRequest);
             return ResponseEntity.ok(toResponse(updatedRequest));
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            log.warn("Conflict updating adoption request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             log.error("Error updating adoption request: {}", e.getMessage());
             return ResponseEntity.notFound().build();
@@ -277,6 +287,9 @@ public class AdoptionRequestController {
         try {
             AdoptionRequest updatedRequest = adoptionRequestService.updateStatus(id, status);
             return ResponseEntity.ok(toResponse(updatedRequest));
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            log.warn("Conflict updating adoption request status: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             log.error("Error updating adoption request status: {}", e.getMessage());
             return ResponseEntity.notFound().build();
@@ -284,15 +297,20 @@ public class AdoptionRequestController {
     }
 
     /**
-     * Approve adoption request
+     * Approve adoption request, mark its pet as adopted and reject the pet's other pending requests
      * PUT /api/v1/adoption-requests/{id}/approve
      */
     @PutMapping("/{id}/approve")
-    public ResponseEntity<AdoptionRequestResponse> approveAdoptionRequest(@PathVariable UUID id) {
+    public ResponseEntity<AdoptionApprovalResponse> approveAdoptionRequest(@PathVariable UUID id,
+                                                                           @RequestParam(required = false) String reviewNotes) {
         log.info("Approving adoption request with ID: {}", id);
         try {
-            AdoptionRequest approvedRequest = adoptionRequestService.approveRequest(id);
-            return ResponseEntity.ok(toResponse(approvedRequest));
+            AdoptionRequestService.AdoptionApproval approval = adoptionRequestService.approveAdoption(id, reviewNotes);
+            return ResponseEntity.ok(new AdoptionApprovalResponse(toResponse(approval.getApprovedRequest()),
+                    approval.getPetStatus(), approval.getRejectedRequests()));
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            log.warn("Conflict approving adoption request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             log.error("Error approving adoption request: {}", e.getMessage());
             return ResponseEntity.notFound().build();
@@ -309,6 +327,9 @@ public class AdoptionRequestController {
         try {
             AdoptionRequest rejectedRequest = adoptionRequestService.rejectRequest(id);
             return ResponseEntity.ok(toResponse(rejectedRequest));
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            log.warn("Conflict rejecting adoption request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             log.error("Error rejecting adoption request: {}", e.getMessage());
             return ResponseEntity.notFound().build();
@@ -325,12 +346,49 @@ public class AdoptionRequestController {
         try {
             AdoptionRequest canceledRequest = adoptionRequestService.cancelRequest(id);
             return ResponseEntity.ok(toResponse(canceledRequest));
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            log.warn("Conflict canceling adoption request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             log.error("Error canceling adoption request: {}", e.getMessage());
             return ResponseEntity.notFound().build();
         }
     }
 
+    /**
+     * Claim the next pending requests of a foundation for the authenticated reviewer
+     * POST /api/v1/adoption-requests/foundation/{foundationId}/claims?limit=
+     */
+    @PostMapping("/foundation/{foundationId}/claims")
+    @Operation(
+            summary = "Claim pending requests for review",
+            description = "Leases the oldest unclaimed pending requests of the foundation to the caller. " +
+                    "Requests held by other reviewers are skipped without waiting."
+    )
+    public ResponseEntity<AdoptionReviewClaimResponse> claimAdoptionRequests(@PathVariable UUID foundationId,
+                                                                             @RequestParam(defaultValue = "10") int limit,
+                                                                             @AuthenticationPrincipal UserPrincipal currentUser) {
+        if (currentUser == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
+        }
+        log.info("Reviewer {} claiming up to {} adoption requests of foundation {}", currentUser.getId(), limit, foundationId);
+        AdoptionRequestService.ReviewClaim claim = adoptionRequestService.claimNextRequests(foundationId, currentUser.getId(), limit);
+        return ResponseEntity.ok(new AdoptionReviewClaimResponse(toResponses(claim.getRequests()), claim.getLeaseExpiresAt()));
+    }
+
+    /**
+     * Release the authenticated reviewer's claims on pending requests
+     * DELETE /api/v1/adoption-requests/claims
+     */
+    @DeleteMapping("/claims")
+    public ResponseEntity<Integer> releaseAdoptionRequestClaims(@AuthenticationPrincipal UserPrincipal currentUser) {
+        if (currentUser == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
+        }
+        log.info("Reviewer {} releasing adoption request claims", currentUser.getId());
+        return ResponseEntity.ok(adoptionRequestService.releaseClaims(currentUser.getId()));
+    }
+
     /**
      * Delete adoption request
      * DELETE /api/v1/adoption-requests/{id}
@@ -422,12 +480,15 @@ public class AdoptionRequestController {
     /**
      * Get adoption request statistics
      * GET /api/v1/adoption-requests/statistics
+     * Served from the last statistics snapshot; its age in seconds is in the Age header.
      */
     @GetMapping("/statistics")
     public ResponseEntity<AdoptionRequestService.AdoptionRequestStatistics> getAdoptionRequestStatistics() {
         log.info("Getting adoption request statistics");
-        AdoptionRequestService.AdoptionRequestStatistics statistics = adoptionRequestService.getStatistics();
-        return ResponseEntity.ok(statistics);
+        StatisticsSnapshots.Snapshot<AdoptionRequestService.AdoptionRequestStatistics> snapshot = statisticsSnapshots.adoptionRequests();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.AGE, String.valueOf(snapshot.age().toSeconds()))
+                .body(snapshot.statistics());
     }
 
     /**
@@ -451,4 +512,67 @@ public class AdoptionRequestController {
         AdoptionRequestService.AdoptionRequestStatistics statistics = adoptionRequestService.getStatisticsByPet(petId);
         return ResponseEntity.ok(statistics);
     }
+
+    /**
+     * Get review latency percentiles and outcome rates of a foundation
+     * GET /api/v1/adoption-requests/analytics/foundation/{foundationId}?from=yyyy-MM&to=yyyy-MM
+     */
+    @GetMapping("/analytics/foundation/{foundationId}")
+    @Operation(
+            summary = "Get adoption review analytics",
+            description = "Approval rate and p50/p90/p99 time from submission to review, per month and for the whole range. " +
+                    "Defaults to the last 12 months."
+    )
+    public ResponseEntity<AdoptionAnalyticsService.ReviewAnalytics> getReviewAnalytics(@PathVariable UUID foundationId,
+                                                                                       @RequestParam(required = false) YearMonth from,
+                                                                                       @RequestParam(required = false) YearMonth to) {
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(11);
+        log.info("Getting review analytics of foundation {} from {} to {}", foundationId, start, end);
+        try {
+            return ResponseEntity.ok(adoptionAnalyticsService.getReviewAnalytics(foundationId, start, end));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid review analytics range: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get adoption outcomes per month and species, for one foundation or all of them
+     * GET /api/v1/adoption-requests/reports/monthly?foundationId=&from=yyyy-MM&to=yyyy-MM
+     */
+    @GetMapping("/reports/monthly")
+    @Operation(
+            summary = "Get monthly adoption report",
+            description = "Approved and rejected requests and adopted pets per month and species, read from the " +
+                    "monthly rollup. Defaults to the last 12 months of all foundations."
+    )
+    public ResponseEntity<List<AdoptionReportService.MonthlyAdoptionReport>> getMonthlyAdoptionReport(
+            @RequestParam(required = false) UUID foundationId,
+            @RequestParam(required = false) YearMonth from,
+            @RequestParam(required = false) YearMonth to) {
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(11);
+        log.info("Getting monthly adoption report of foundation {} from {} to {}", foundationId, start, end);
+        try {
+            return ResponseEntity.ok(adoptionReportService.getMonthlyReport(foundationId, start, end));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid monthly adoption report range: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Recompute the monthly adoption rollup from adoption requests and pets
+     * POST /api/v1/adoption-requests/reports/monthly/rebuild
+     */
+    @PostMapping("/reports/monthly/rebuild")
+    @Operation(
+            summary = "Rebuild monthly adoption rollup",
+            description = "Recomputes the rollup from the source tables. Outcome writes wait until the rebuild commits."
+    )
+    public ResponseEntity<Integer> rebuildMonthlyAdoptionRollup() {
+        log.info("Rebuilding monthly adoption rollup");
+        return ResponseEntity.ok(adoptionReportService.rebuildMonthlyRollup());
+    }
 }
@@ -4,6 +4,7 @@ import com.petfriendly.backend.dto.mapper.DtoMapper;
 import com.petfriendly.backend.dto.response.ContactMessageResponse;
 import com.petfriendly.backend.entity.ContactMessage;
 import com.petfriendly.backend.service.ContactMessageService;
+import com.petfriendly.backend.service.snapshot.StatisticsSnapshots;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -31,6 +33,7 @@ public class ContactMessageController {
 
     private static final Logger log = LoggerFactory.getLogger(ContactMessageController.class);
     private final ContactMessageService contactMessageService;
+    private final StatisticsSnapshots statisticsSnapshots;
 
     private ContactMessageResponse toResponse(ContactMessage message) {
         return DtoMapper.toContactMessageResponse(message);
@@ -419,12 +422,15 @@ public class ContactMessageController {
     /**
      * Get contact message statistics
      * GET /api/v1/contact-messages/statistics
+     * Served from the last statistics snapshot; its age in seconds is in the Age header.
      */
     @GetMapping("/statistics")
     public ResponseEntity<ContactMessageService.ContactMessageStatistics> getContactMessageStatistics() {
         log.info("Getting contact message statistics");
-        ContactMessageService.ContactMessageStatistics statistics = contactMessageService.getStatistics();
-        return ResponseEntity.ok(statistics);
+        StatisticsSnapshots.Snapshot<ContactMessageService.ContactMessageStatistics> snapshot = statisticsSnapshots.contactMessages();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.AGE, String.valueOf(snapshot.age().toSeconds()))
+                .body(snapshot.statistics());
     }
 
     /**
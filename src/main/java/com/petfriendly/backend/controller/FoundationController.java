@@ -1,15 +1,20 @@
 package com.petfriendly.backend.controller;
 
 import com.petfriendly.backend.dto.mapper.DtoMapper;
+import com.petfriendly.backend.dto.response.FoundationDashboardResponse;
 import com.petfriendly.backend.dto.response.FoundationResponse;
+import com.petfriendly.backend.dto.response.FoundationSummaryResponse;
 import com.petfriendly.backend.entity.Foundation;
+import com.petfriendly.backend.service.FoundationDashboardService;
 import com.petfriendly.backend.service.FoundationService;
+import com.petfriendly.backend.service.snapshot.StatisticsSnapshots;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -29,6 +34,8 @@ import java.util.UUID;
 public class FoundationController {
 
     private final FoundationService foundationService;
+    private final FoundationDashboardService foundationDashboardService;
+    private final StatisticsSnapshots statisticsSnapshots;
 
     private FoundationResponse toResponse(Foundation foundation) {
         return DtoMapper.toFoundationResponse(foundation);
@@ -71,7 +78,17 @@ public class FoundationController {
     @GetMapping("/page")
     public ResponseEntity<Page<FoundationResponse>> getAllFoundationsWithPagination(Pageable pageable) {
         log.info("Getting all foundations with pagination");
-        return ResponseEntity.ok(toResponsePage(foundationService.findAll(pageable)));
+        return ResponseEntity.ok(foundationService.findAllResponses(pageable));
+    }
+
+    /**
+     * Get all foundations as summaries (no description or contact details) with pagination
+     * GET /api/v1/foundations/summary
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<Page<FoundationSummaryResponse>> getFoundationSummaries(Pageable pageable) {
+        log.info("Getting foundation summaries with pagination");
+        return ResponseEntity.ok(foundationService.findAllSummaries(pageable));
     }
 
     /**
@@ -81,8 +98,8 @@ public class FoundationController {
     @GetMapping("/{id}")
     public ResponseEntity<FoundationResponse> getFoundationById(@PathVariable UUID id) {
         log.info("Getting foundation by ID: {}", id);
-        return foundationService.findById(id)
-                .map(foundation -> ResponseEntity.ok(toResponse(foundation)))
+        return foundationService.findResponseById(id)
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -347,11 +364,37 @@ public class FoundationController {
     /**
      * Get foundation statistics
      * GET /api/v1/foundations/statistics
+     * Served from the last statistics snapshot; its age in seconds is in the Age header.
      */
     @GetMapping("/statistics")
     public ResponseEntity<FoundationService.FoundationStatistics> getFoundationStatistics() {
         log.info("Getting foundation statistics");
-        FoundationService.FoundationStatistics statistics = foundationService.getStatistics();
-        return ResponseEntity.ok(statistics);
+        StatisticsSnapshots.Snapshot<FoundationService.FoundationStatistics> snapshot = statisticsSnapshots.foundations();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.AGE, String.valueOf(snapshot.age().toSeconds()))
+                .body(snapshot.statistics());
+    }
+
+    /**
+     * Get the admin dashboard of a foundation in one call
+     * GET /api/v1/foundations/{id}/dashboard
+     */
+    @GetMapping("/{id}/dashboard")
+    @Operation(
+            summary = "Get foundation dashboard",
+            description = "Foundation, pet, adoption request and contact message statistics gathered concurrently. " +
+                    "Sections that miss the deadline are null and listed in unavailableSections.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<FoundationDashboardResponse> getFoundationDashboard(@PathVariable UUID id) {
+        log.info("Getting dashboard for foundation: {}", id);
+        try {
+            FoundationDashboardService.FoundationDashboard dashboard = foundationDashboardService.getDashboard(id);
+            return ResponseEntity.ok(new FoundationDashboardResponse(dashboard.getFoundationId(), dashboard.getFoundation(),
+                    dashboard.getPets(), dashboard.getAdoptionRequests(), dashboard.getContactMessages(),
+                    dashboard.getUnavailableSections(), dashboard.getGeneratedAt()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
     }
 }
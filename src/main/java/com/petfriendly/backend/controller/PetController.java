@@ -1,20 +1,31 @@
 package com.petfriendly.backend.controller;
 
 import com.petfriendly.backend.dto.mapper.DtoMapper;
+import com.petfriendly.backend.dto.response.CursorPage;
+import com.petfriendly.backend.dto.response.PetCardResponse;
 import com.petfriendly.backend.dto.response.PetResponse;
+import com.petfriendly.backend.dto.response.PetSummaryResponse;
 import com.petfriendly.backend.entity.Pet;
+import com.petfriendly.backend.entity.PetGender;
+import com.petfriendly.backend.entity.PetSize;
 import com.petfriendly.backend.entity.PetSpecies;
 import com.petfriendly.backend.entity.PetStatus;
 import com.petfriendly.backend.service.PetService;
+import com.petfriendly.backend.service.snapshot.StatisticsSnapshots;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -31,6 +42,7 @@ import java.util.UUID;
 public class PetController {
 
     private final PetService petService;
+    private final StatisticsSnapshots statisticsSnapshots;
 
     private PetResponse toResponse(Pet pet) {
         return DtoMapper.toPetResponse(pet);
@@ -44,6 +56,10 @@ public class PetController {
         return DtoMapper.mapPage(pets, DtoMapper::toPetResponse);
     }
 
+    private CursorPage<PetResponse> toCursorPage(CursorPage<Pet> pets) {
+        return pets.map(DtoMapper::toPetResponse);
+    }
+
     /**
      * Create a new pet
      * POST /api/v1/pets
@@ -63,7 +79,7 @@ public class PetController {
     @GetMapping
     public ResponseEntity<Page<PetResponse>> getAllPets(Pageable pageable) {
         log.info("Getting all pets with pagination");
-        return ResponseEntity.ok(toResponsePage(petService.findAll(pageable)));
+        return ResponseEntity.ok(petService.findAllResponses(pageable));
     }
 
     /**
@@ -73,7 +89,7 @@ public class PetController {
     @GetMapping("/page")
     public ResponseEntity<Page<PetResponse>> getAllPetsWithPagination(Pageable pageable) {
         log.info("Getting all pets with pagination");
-        return ResponseEntity.ok(toResponsePage(petService.findAll(pageable)));
+        return ResponseEntity.ok(petService.findAllResponses(pageable));
     }
 
     /**
@@ -83,8 +99,8 @@ public class PetController {
     @GetMapping("/{id}")
     public ResponseEntity<PetResponse> getPetById(@PathVariable UUID id) {
         log.info("Getting pet by ID: {}", id);
-        return petService.findById(id)
-                .map(pet -> ResponseEntity.ok(toResponse(pet)))
+        return petService.findResponseById(id)
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -125,7 +141,23 @@ public class PetController {
     @GetMapping("/status/{status}/page")
     public ResponseEntity<Page<PetResponse>> getPetsByStatusWithPagination(@PathVariable PetStatus status, Pageable pageable) {
         log.info("Getting pets by status with pagination: {}", status);
-        return ResponseEntity.ok(toResponsePage(petService.findByStatus(status, pageable)));
+        return ResponseEntity.ok(petService.findResponsesByStatus(status, pageable));
+    }
+
+    /**
+     * Get pets by status with cursor (keyset) pagination
+     * GET /api/v1/pets/status/{status}/cursor?cursor={cursor}&size={size}
+     */
+    @GetMapping("/status/{status}/cursor")
+    public ResponseEntity<CursorPage<PetResponse>> getPetsByStatusWithCursor(@PathVariable PetStatus status,
+                                                                            @RequestParam(required = false) String cursor,
+                                                                            @RequestParam(defaultValue = "20") int size) {
+        log.info("Getting pets by status with cursor: {}", status);
+        try {
+            return ResponseEntity.ok(toCursorPage(petService.findByStatus(status, cursor, size)));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 
     /**
@@ -207,7 +239,49 @@ public class PetController {
     @GetMapping("/available/page")
     public ResponseEntity<Page<PetResponse>> getAvailablePetsWithPagination(Pageable pageable) {
         log.info("Getting available pets for adoption with pagination");
-        return ResponseEntity.ok(toResponsePage(petService.findAvailableForAdoption(pageable)));
+        return ResponseEntity.ok(petService.findResponsesByStatus(PetStatus.AVAILABLE, pageable));
+    }
+
+    /**
+     * Get available pets for adoption as summaries (no description) with pagination
+     * GET /api/v1/pets/available/summary
+     */
+    @GetMapping("/available/summary")
+    public ResponseEntity<Page<PetSummaryResponse>> getAvailablePetSummaries(Pageable pageable) {
+        log.info("Getting available pet summaries with pagination");
+        return ResponseEntity.ok(petService.findSummariesByStatus(PetStatus.AVAILABLE, pageable));
+    }
+
+    /**
+     * Get available pets for adoption as catalog cards with their foundation and primary image, narrowed by
+     * the optional filters
+     * GET /api/v1/pets/available/cards?species={species}&size={size}&gender={gender}&city={city}
+     * Newest first unless the request asks for another sort, with the ID breaking ties so pages are stable.
+     */
+    @GetMapping("/available/cards")
+    public ResponseEntity<Page<PetCardResponse>> getAvailablePetCards(@RequestParam(required = false) PetSpecies species,
+                                                                      @RequestParam(required = false) PetSize size,
+                                                                      @RequestParam(required = false) PetGender gender,
+                                                                      @RequestParam(required = false) String city,
+                                                                      @PageableDefault(sort = {"createdAt", "id"}, direction = Sort.Direction.DESC)
+                                                                      Pageable pageable) {
+        log.info("Getting available pet cards with pagination");
+        return ResponseEntity.ok(petService.findAvailablePetCards(species, size, gender, city, pageable));
+    }
+
+    /**
+     * Get available pets for adoption with cursor (keyset) pagination
+     * GET /api/v1/pets/available/cursor?cursor={cursor}&size={size}
+     */
+    @GetMapping("/available/cursor")
+    public ResponseEntity<CursorPage<PetResponse>> getAvailablePetsWithCursor(@RequestParam(required = false) String cursor,
+                                                                             @RequestParam(defaultValue = "20") int size) {
+        log.info("Getting available pets for adoption with cursor");
+        try {
+            return ResponseEntity.ok(toCursorPage(petService.findAvailableForAdoption(cursor, size)));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 
     /**
@@ -230,6 +304,22 @@ public class PetController {
         return ResponseEntity.ok(toResponsePage(petService.findByNameContaining(name, pageable)));
     }
 
+    /**
+     * Full-text search pets by name, breed and description with cursor pagination
+     * GET /api/v1/pets/search/fulltext?q={query}&cursor={cursor}&size={size}
+     */
+    @GetMapping("/search/fulltext")
+    public ResponseEntity<CursorPage<PetResponse>> searchPetsFullText(@RequestParam("q") String query,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "20") int size) {
+        log.info("Full-text searching pets: {}", query);
+        try {
+            return ResponseEntity.ok(toCursorPage(petService.searchFullText(query, cursor, size)));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     /**
      * Get pets by foundation and status
      * GET /api/v1/pets/foundation/{foundationId}/status/{status}
@@ -261,6 +351,9 @@ public class PetController {
         try {
             Pet updatedPet = petService.updatePet(id, pet);
             return ResponseEntity.ok(toResponse(updatedPet));
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            log.warn("Conflict updating pet: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             log.error("Error updating pet: {}", e.getMessage());
             return ResponseEntity.notFound().build();
@@ -278,6 +371,9 @@ public class PetController {
         try {
             Pet updatedPet = petService.updateStatus(id, status);
             return ResponseEntity.ok(toResponse(updatedPet));
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            log.warn("Conflict updating pet status: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             log.error("Error updating pet status: {}", e.getMessage());
             return ResponseEntity.notFound().build();
@@ -295,6 +391,9 @@ public class PetController {
         try {
             Pet adoptedPet = petService.markAsAdopted(id);
             return ResponseEntity.ok(toResponse(adoptedPet));
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            log.warn("Conflict marking pet as adopted: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             log.error("Error marking pet as adopted: {}", e.getMessage());
             return ResponseEntity.notFound().build();
@@ -312,6 +411,9 @@ public class PetController {
         try {
             Pet availablePet = petService.markAsAvailable(id);
             return ResponseEntity.ok(toResponse(availablePet));
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            log.warn("Conflict marking pet as available: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             log.error("Error marking pet as available: {}", e.getMessage());
             return ResponseEntity.notFound().build();
@@ -404,15 +506,31 @@ public class PetController {
         return ResponseEntity.ok(count);
     }
 
+    /**
+     * Get facet counts of available pets, narrowed by the optional filters
+     * GET /api/v1/pets/facets?species={species}&size={size}&gender={gender}&city={city}
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<PetService.PetFacets> getAvailablePetFacets(@RequestParam(required = false) PetSpecies species,
+                                                                     @RequestParam(required = false) PetSize size,
+                                                                     @RequestParam(required = false) PetGender gender,
+                                                                     @RequestParam(required = false) String city) {
+        log.info("Getting available pet facets");
+        return ResponseEntity.ok(petService.getAvailablePetFacets(species, size, gender, city));
+    }
+
     /**
      * Get pet statistics
      * GET /api/v1/pets/statistics
+     * Served from the last statistics snapshot; its age in seconds is in the Age header.
      */
     @GetMapping("/statistics")
     public ResponseEntity<PetService.PetStatistics> getPetStatistics() {
         log.info("Getting pet statistics");
-        PetService.PetStatistics statistics = petService.getStatistics();
-        return ResponseEntity.ok(statistics);
+        StatisticsSnapshots.Snapshot<PetService.PetStatistics> snapshot = statisticsSnapshots.pets();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.AGE, String.valueOf(snapshot.age().toSeconds()))
+                .body(snapshot.statistics());
     }
 
     /**
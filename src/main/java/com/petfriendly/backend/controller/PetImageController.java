@@ -15,6 +15,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -197,6 +198,26 @@ public class PetImageController {
         }
     }
 
+    /**
+     * Set the gallery order of a pet's images
+     * PUT /api/v1/pet-images/pet/{petId}/order
+     */
+    @PutMapping("/pet/{petId}/order")
+    @Operation(
+            summary = "Reorder pet images",
+            description = "Body lists image IDs in display order; images left out follow them in their current order.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<Void> reorderPetImages(@PathVariable UUID petId, @RequestBody List<UUID> imageIds) {
+        log.info("Reordering {} images of pet ID: {}", imageIds.size(), petId);
+        try {
+            petImageService.reorderImages(petId, imageIds);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     /**
      * Remove primary status from image
      * PUT /api/v1/pet-images/{id}/remove-primary
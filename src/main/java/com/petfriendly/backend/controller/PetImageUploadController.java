@@ -0,0 +1,143 @@
+package com.petfriendly.backend.controller;
+
+import com.petfriendly.backend.dto.mapper.DtoMapper;
+import com.petfriendly.backend.dto.request.PetImageUploadRequest;
+import com.petfriendly.backend.dto.response.PetImageResponse;
+import com.petfriendly.backend.service.PetImageUploadService;
+import com.petfriendly.backend.service.PetImageUploadService.UploadStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * REST Controller for resumable, chunked pet image uploads
+ */
+@RestController
+@RequestMapping("/api/v1/pet-images/uploads")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*", exposedHeaders = PetImageUploadController.UPLOAD_OFFSET)
+public class PetImageUploadController {
+
+    /** Header carrying the offset a chunk starts at, and the offset reached in responses */
+    static final String UPLOAD_OFFSET = "Upload-Offset";
+
+    private final PetImageUploadService petImageUploadService;
+
+    /**
+     * Start an upload
+     * POST /api/v1/pet-images/uploads
+     */
+    @PostMapping
+    @Operation(summary = "Start chunked image upload", security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<UploadStatus> startUpload(@Valid @RequestBody PetImageUploadRequest request) throws IOException {
+        log.info("Starting image upload of {} bytes for pet ID: {}", request.getSize(), request.getPetId());
+        try {
+            UploadStatus status = petImageUploadService.startUpload(request.getPetId(), request.getSize(),
+                    request.getSha256(), request.getAltText(), request.isPrimary());
+            return ResponseEntity.created(URI.create("/api/v1/pet-images/uploads/" + status.getUploadId()))
+                    .header(UPLOAD_OFFSET, "0")
+                    .body(status);
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Append a chunk; the request body is the raw bytes starting at the Upload-Offset header
+     * PUT /api/v1/pet-images/uploads/{uploadId}
+     */
+    @PutMapping("/{uploadId}")
+    @Operation(
+            summary = "Upload image chunk",
+            description = "Streams the body to disk at the given offset, which must be the upload's current offset. " +
+                    "After a dropped connection, GET the upload and resume from the returned offset.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<UploadStatus> writeChunk(@PathVariable UUID uploadId,
+                                                   @RequestHeader(UPLOAD_OFFSET) long offset,
+                                                   HttpServletRequest request) throws IOException {
+        try {
+            UploadStatus status = petImageUploadService.writeChunk(uploadId, offset, request.getInputStream());
+            return ResponseEntity.ok().header(UPLOAD_OFFSET, String.valueOf(status.getOffset())).body(status);
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (IllegalStateException e) {
+            // Tell the client where to resume from
+            UploadStatus status = petImageUploadService.getStatus(uploadId);
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .header(UPLOAD_OFFSET, String.valueOf(status.getOffset()))
+                    .body(status);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, e.getMessage());
+        }
+    }
+
+    /**
+     * Get the progress of an upload
+     * GET /api/v1/pet-images/uploads/{uploadId}
+     */
+    @GetMapping("/{uploadId}")
+    @Operation(summary = "Get chunked upload status", security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<UploadStatus> getUploadStatus(@PathVariable UUID uploadId) throws IOException {
+        try {
+            UploadStatus status = petImageUploadService.getStatus(uploadId);
+            return ResponseEntity.ok()
+                    .header(UPLOAD_OFFSET, String.valueOf(status.getOffset()))
+                    .header("Cache-Control", "no-store")
+                    .body(status);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Store a complete upload and create its pet image
+     * POST /api/v1/pet-images/uploads/{uploadId}/commit
+     */
+    @PostMapping("/{uploadId}/commit")
+    @Operation(summary = "Commit chunked upload", security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<PetImageResponse> commitUpload(@PathVariable UUID uploadId) throws IOException {
+        log.info("Committing image upload: {}", uploadId);
+        try {
+            return new ResponseEntity<>(DtoMapper.toPetImageResponse(petImageUploadService.commitUpload(uploadId)),
+                    HttpStatus.CREATED);
+        } catch (NoSuchElementException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+        }
+    }
+
+    /**
+     * Abort an upload
+     * DELETE /api/v1/pet-images/uploads/{uploadId}
+     */
+    @DeleteMapping("/{uploadId}")
+    @Operation(summary = "Abort chunked upload", security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<Void> abortUpload(@PathVariable UUID uploadId) throws IOException {
+        log.info("Aborting image upload: {}", uploadId);
+        try {
+            petImageUploadService.abortUpload(uploadId);
+            return ResponseEntity.noContent().build();
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.petfriendly.backend.dto.response.UserResponse;
 import com.petfriendly.backend.entity.User;
 import com.petfriendly.backend.enums.Role;
 import com.petfriendly.backend.service.UserService;
+import com.petfriendly.backend.service.snapshot.StatisticsSnapshots;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -17,6 +18,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -34,6 +36,7 @@ public class UserController {
     private static final Logger log = LoggerFactory.getLogger(UserController.class);
 
     private final UserService userService;
+    private final StatisticsSnapshots statisticsSnapshots;
 
     @PostMapping
     @Operation(summary = "Create user", description = "Creates a new user. Requires SUPER_ADMIN role.")
@@ -202,6 +205,9 @@ public class UserController {
 
     @GetMapping("/statistics")
     public ResponseEntity<UserService.UserStatistics> getUserStatistics() {
-        return ResponseEntity.ok(userService.getStatistics());
+        StatisticsSnapshots.Snapshot<UserService.UserStatistics> snapshot = statisticsSnapshots.users();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.AGE, String.valueOf(snapshot.age().toSeconds()))
+                .body(snapshot.statistics());
     }
 }
@@ -77,6 +77,11 @@ public final class DtoMapper {
                 petImage.getImageUrl(),
                 Boolean.TRUE.equals(petImage.getIsPrimary()),
                 petImage.getAltText(),
+                petImage.getDisplayOrder(),
+                petImage.getVariantStatus(),
+                petImage.getThumbnailUrl(),
+                petImage.getMediumUrl(),
+                petImage.getLargeUrl(),
                 petImage.getPet() != null ? petImage.getPet().getId() : null,
                 petImage.getCreatedAt(),
                 petImage.getUpdatedAt()
@@ -0,0 +1,36 @@
+package com.petfriendly.backend.dto.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque {@code (score, id)} position used for keyset pagination of ranked search results.
+ * {@code asOf} pins the reference time of the recency boost so scores stay stable across pages.
+ */
+public record SearchCursor(double score, UUID id, Instant asOf) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = score + SEPARATOR + id + SEPARATOR + asOf.toEpochMilli();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor previously produced by {@link #encode()}.
+     * @param cursor the encoded cursor
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static SearchCursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = raw.split("\\|");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return new SearchCursor(Double.parseDouble(parts[0]), UUID.fromString(parts[1]),
+                Instant.ofEpochMilli(Long.parseLong(parts[2])));
+    }
+}
@@ -0,0 +1,42 @@
+package com.petfriendly.backend.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Chunked pet image upload start payload.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Start chunked pet image upload payload")
+public class PetImageUploadRequest {
+
+    @NotNull(message = "Pet id is required")
+    @Schema(description = "Pet the image belongs to", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+    private UUID petId;
+
+    @NotNull(message = "Size is required")
+    @Positive(message = "Size must be positive")
+    @Schema(description = "Total image size in bytes", example = "8388608")
+    private Long size;
+
+    @Pattern(regexp = "[0-9a-fA-F]{64}", message = "SHA-256 must be 64 hexadecimal characters")
+    @Schema(description = "Hex SHA-256 of the whole image, verified on commit")
+    private String sha256;
+
+    @Size(max = 255, message = "Alt text must not exceed 255 characters")
+    @Schema(description = "Image alt text")
+    private String altText;
+
+    @Schema(description = "Make the image the pet's primary image on commit")
+    private boolean primary;
+}
@@ -0,0 +1,11 @@
+package com.petfriendly.backend.dto.response;
+
+import com.petfriendly.backend.entity.PetStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of approving an adoption request and closing the pet's adoption")
+public record AdoptionApprovalResponse(
+        @Schema(description = "The approved request") AdoptionRequestResponse approvedRequest,
+        @Schema(description = "Pet status after the approval") PetStatus petStatus,
+        @Schema(description = "Other pending requests for the pet that were rejected") int rejectedRequests
+) {}
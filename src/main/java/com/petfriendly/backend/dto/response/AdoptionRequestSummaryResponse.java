@@ -0,0 +1,16 @@
+package com.petfriendly.backend.dto.response;
+
+import com.petfriendly.backend.entity.AdoptionRequestStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Adoption request summary payload for listings, without the free-text answers")
+public record AdoptionRequestSummaryResponse(
+        UUID id,
+        UUID userId,
+        UUID petId,
+        AdoptionRequestStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime reviewedAt
+) {}
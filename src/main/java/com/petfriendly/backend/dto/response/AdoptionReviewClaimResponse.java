@@ -0,0 +1,11 @@
+package com.petfriendly.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Pending adoption requests leased to the calling reviewer")
+public record AdoptionReviewClaimResponse(
+        @Schema(description = "Claimed requests, oldest first") List<AdoptionRequestResponse> requests,
+        @Schema(description = "When the claims lapse and the requests become claimable again") LocalDateTime leaseExpiresAt
+) {}
@@ -0,0 +1,18 @@
+package com.petfriendly.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.function.Function;
+
+@Schema(description = "Cursor (keyset) paginated response payload")
+public record CursorPage<T>(
+        @Schema(description = "Page content") List<T> content,
+        @Schema(description = "Opaque cursor for the next page, null when there are no more results") String nextCursor,
+        @Schema(description = "Whether another page is available") boolean hasNext
+) {
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorPage<>(mapped, nextCursor, hasNext);
+    }
+}
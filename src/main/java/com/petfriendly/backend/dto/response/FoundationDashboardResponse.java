@@ -0,0 +1,21 @@
+package com.petfriendly.backend.dto.response;
+
+import com.petfriendly.backend.service.AdoptionRequestService;
+import com.petfriendly.backend.service.ContactMessageService;
+import com.petfriendly.backend.service.FoundationService;
+import com.petfriendly.backend.service.PetService;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Foundation admin dashboard gathered in one round trip")
+public record FoundationDashboardResponse(
+        @Schema(description = "Foundation identifier") UUID foundationId,
+        @Schema(description = "Foundation pet and adoption overview") FoundationService.FoundationStatistics foundation,
+        @Schema(description = "Pet counts by status") PetService.PetStatistics pets,
+        @Schema(description = "Adoption request counts by status") AdoptionRequestService.AdoptionRequestStatistics adoptionRequests,
+        @Schema(description = "Contact message counts, including unread messages") ContactMessageService.ContactMessageStatistics contactMessages,
+        @Schema(description = "Sections that failed or timed out and are null in this response") List<String> unavailableSections,
+        @Schema(description = "When the dashboard was assembled") LocalDateTime generatedAt
+) {}
@@ -0,0 +1,13 @@
+package com.petfriendly.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+
+@Schema(description = "Foundation summary payload for listings, without description and contact details")
+public record FoundationSummaryResponse(
+        UUID id,
+        String name,
+        String city,
+        String state,
+        boolean verified
+) {}
@@ -0,0 +1,29 @@
+package com.petfriendly.backend.dto.response;
+
+import com.petfriendly.backend.entity.PetGender;
+import com.petfriendly.backend.entity.PetSize;
+import com.petfriendly.backend.entity.PetSpecies;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Pet card payload for catalog pages, with the foundation and primary image embedded")
+public record PetCardResponse(
+        UUID id,
+        String name,
+        PetSpecies species,
+        String breed,
+        Integer age,
+        PetGender gender,
+        PetSize size,
+        UUID foundationId,
+        String foundationName,
+        String foundationCity,
+        @Schema(description = "Primary image URL, null when the pet has no primary image")
+        String primaryImageUrl,
+        @Schema(description = "Thumbnail of the primary image, null until its variants are ready")
+        String thumbnailUrl,
+        @Schema(description = "Medium rendition of the primary image, null until its variants are ready")
+        String mediumUrl,
+        LocalDateTime createdAt
+) {}
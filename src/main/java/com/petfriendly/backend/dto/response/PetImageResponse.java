@@ -1,5 +1,6 @@
 package com.petfriendly.backend.dto.response;
 
+import com.petfriendly.backend.entity.ImageVariantStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -10,6 +11,15 @@ public record PetImageResponse(
         String imageUrl,
         boolean isPrimary,
         String altText,
+        Integer displayOrder,
+        @Schema(description = "Progress of the resized variants; null for external images, which have none")
+        ImageVariantStatus variantStatus,
+        @Schema(description = "160px wide progressive JPEG, once variants are ready")
+        String thumbnailUrl,
+        @Schema(description = "480px wide progressive JPEG, once variants are ready")
+        String mediumUrl,
+        @Schema(description = "1080px wide progressive JPEG, once variants are ready")
+        String largeUrl,
         UUID petId,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
@@ -0,0 +1,64 @@
+package com.petfriendly.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Write-maintained number of adoption outcomes per foundation, month and pet species,
+ * used to answer monthly reports without joining adoption requests to pets.
+ */
+@Entity
+@Table(name = "adoption_monthly_rollup", indexes = {
+        @Index(name = "idx_adoption_monthly_rollup_month", columnList = "month_start")
+})
+@IdClass(AdoptionMonthlyRollup.Key.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdoptionMonthlyRollup {
+
+    @Id
+    @Column(name = "foundation_id", nullable = false)
+    private UUID foundationId;
+
+    /**
+     * First day of the month the outcomes happened in
+     */
+    @Id
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private PetSpecies species;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AdoptionOutcome outcome;
+
+    @Column(name = "outcome_count", nullable = false)
+    private long outcomeCount;
+
+    /**
+     * Composite primary key (foundation_id, month_start, species, outcome)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID foundationId;
+        private LocalDate monthStart;
+        private PetSpecies species;
+        private AdoptionOutcome outcome;
+    }
+}
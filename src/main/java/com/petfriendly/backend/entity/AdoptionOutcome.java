@@ -0,0 +1,13 @@
+package com.petfriendly.backend.entity;
+
+/**
+ * Outcomes counted by the monthly adoption rollup
+ */
+public enum AdoptionOutcome {
+    /** An adoption request was approved */
+    APPROVED,
+    /** An adoption request was rejected, by a reviewer or because another request for the pet was approved */
+    REJECTED,
+    /** A pet is adopted, counted in the month it was adopted until it is returned */
+    ADOPTED
+}
@@ -15,10 +15,13 @@ import java.util.UUID;
  * AdoptionRequest entity representing adoption requests from users.
  */
 @Entity
-@Table(name = "adoption_requests", indexes = {
+@Table(name = "adoption_requests", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_adoption_requests_user_pet", columnNames = {"user_id", "pet_id"})
+}, indexes = {
         @Index(name = "idx_adoption_requests_user", columnList = "user_id"),
         @Index(name = "idx_adoption_requests_pet", columnList = "pet_id"),
-        @Index(name = "idx_adoption_requests_status", columnList = "status")
+        @Index(name = "idx_adoption_requests_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_adoption_requests_foundation_status_created", columnList = "foundation_id, status, created_at")
 })
 @Getter
 @Setter
@@ -41,6 +44,12 @@ public class AdoptionRequest {
     @NotNull(message = "Pet is required")
     private Pet pet;
 
+    /**
+     * Foundation of the requested pet, copied on insert so foundation-scoped queries skip the pets join.
+     */
+    @Column(name = "foundation_id", nullable = false, updatable = false)
+    private UUID foundationId;
+
     @Column(columnDefinition = "TEXT", nullable = false)
     @NotBlank(message = "Message is required")
     @Size(max = 2000, message = "Message must not exceed 2000 characters")
@@ -69,9 +78,26 @@ public class AdoptionRequest {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @Column(name = "reviewed_at")
     private LocalDateTime reviewedAt;
 
+    @Column(name = "claimed_by")
+    private UUID claimedBy;
+
+    @Column(name = "claim_expires_at")
+    private LocalDateTime claimExpiresAt;
+
+    @PrePersist
+    void copyFoundationFromPet() {
+        if (foundationId == null && pet != null && pet.getFoundation() != null) {
+            foundationId = pet.getFoundation().getId();
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,5 +1,10 @@
 package com.petfriendly.backend.entity;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Enum representing adoption request status in the PetFriendly platform
  */
@@ -9,12 +14,30 @@ public enum AdoptionRequestStatus {
     REJECTED("Rejected"),
     CANCELLED("Cancelled");
 
+    private static final Map<AdoptionRequestStatus, Set<AdoptionRequestStatus>> TRANSITIONS =
+            new EnumMap<>(AdoptionRequestStatus.class);
+
+    static {
+        TRANSITIONS.put(PENDING, EnumSet.of(APPROVED, REJECTED, CANCELLED));
+        // An approval has already marked the pet ADOPTED and fed the outcome rollups, so it is final
+        TRANSITIONS.put(APPROVED, EnumSet.noneOf(AdoptionRequestStatus.class));
+        TRANSITIONS.put(REJECTED, EnumSet.noneOf(AdoptionRequestStatus.class));
+        TRANSITIONS.put(CANCELLED, EnumSet.noneOf(AdoptionRequestStatus.class));
+    }
+
     private final String displayName;
 
     AdoptionRequestStatus(String displayName) {
         this.displayName = displayName;
     }
 
+    /**
+     * Whether a request in this status may be moved to the given status.
+     */
+    public boolean canTransitionTo(AdoptionRequestStatus target) {
+        return TRANSITIONS.get(this).contains(target);
+    }
+
     public String getDisplayName() {
         return displayName;
     }
@@ -0,0 +1,63 @@
+package com.petfriendly.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Review decisions taken on a foundation's adoption requests in one month, with a serialized
+ * quantile sketch of the time from submission to review (in seconds).
+ */
+@Entity
+@Table(name = "adoption_review_monthly_stats")
+@IdClass(AdoptionReviewMonthlyStats.Key.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdoptionReviewMonthlyStats {
+
+    @Id
+    @Column(name = "foundation_id", nullable = false)
+    private UUID foundationId;
+
+    /**
+     * First day of the month the decisions were taken in
+     */
+    @Id
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "approved_count", nullable = false)
+    private long approvedCount;
+
+    @Column(name = "rejected_count", nullable = false)
+    private long rejectedCount;
+
+    @Column(name = "cancelled_count", nullable = false)
+    private long cancelledCount;
+
+    @Column(name = "latency_sketch")
+    private byte[] latencySketch;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Composite primary key (foundation_id, month_start)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID foundationId;
+        private LocalDate monthStart;
+    }
+}
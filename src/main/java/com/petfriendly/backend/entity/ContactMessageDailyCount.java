@@ -0,0 +1,52 @@
+package com.petfriendly.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Write-maintained number of contact messages a foundation received on one day, and how many of
+ * them have been read, used to answer windowed statistics without range scans over contact_messages.
+ */
+@Entity
+@Table(name = "contact_message_daily_counts", indexes = {
+        @Index(name = "idx_contact_message_daily_counts_date", columnList = "bucket_date")
+})
+@IdClass(ContactMessageDailyCount.Key.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactMessageDailyCount {
+
+    @Id
+    @Column(name = "foundation_id", nullable = false)
+    private UUID foundationId;
+
+    @Id
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(name = "message_count", nullable = false)
+    private long messageCount;
+
+    @Column(name = "read_count", nullable = false)
+    private long readCount;
+
+    /**
+     * Composite primary key (foundation_id, bucket_date)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID foundationId;
+        private LocalDate bucketDate;
+    }
+}
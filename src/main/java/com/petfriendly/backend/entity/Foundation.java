@@ -5,6 +5,7 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -73,6 +74,25 @@ public class Foundation {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /*
+     * Counters owned by the write paths through FoundationRepository increments; read-only here so
+     * saving a loaded foundation never writes back a stale value.
+     */
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "available_pet_count", nullable = false, insertable = false, updatable = false)
+    private long availablePetCount = 0;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "pending_request_count", nullable = false, insertable = false, updatable = false)
+    private long pendingRequestCount = 0;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "unread_message_count", nullable = false, insertable = false, updatable = false)
+    private long unreadMessageCount = 0;
+
     @Builder.Default
     @OneToMany(mappedBy = "foundation", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Pet> pets = new ArrayList<>();
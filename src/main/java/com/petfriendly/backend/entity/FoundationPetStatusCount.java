@@ -0,0 +1,47 @@
+package com.petfriendly.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Write-maintained number of pets per foundation and status, used to answer statistics reads
+ * without counting the pets table.
+ */
+@Entity
+@Table(name = "foundation_pet_status_counts")
+@IdClass(FoundationPetStatusCount.Key.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoundationPetStatusCount {
+
+    @Id
+    @Column(name = "foundation_id", nullable = false)
+    private UUID foundationId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PetStatus status;
+
+    @Column(name = "pet_count", nullable = false)
+    private long petCount;
+
+    /**
+     * Composite primary key (foundation_id, status)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID foundationId;
+        private PetStatus status;
+    }
+}
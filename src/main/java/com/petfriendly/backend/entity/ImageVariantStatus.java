@@ -0,0 +1,12 @@
+package com.petfriendly.backend.entity;
+
+/**
+ * Progress of the resized variants of a stored pet image
+ */
+public enum ImageVariantStatus {
+    /** Waiting for generation, possibly again after a failed attempt */
+    PENDING,
+    READY,
+    /** Every allowed attempt failed; not retried until the image gets a new source */
+    FAILED
+}
@@ -21,7 +21,8 @@ import java.util.UUID;
 @Table(name = "pets", indexes = {
         @Index(name = "idx_pets_species", columnList = "species"),
         @Index(name = "idx_pets_status", columnList = "status"),
-        @Index(name = "idx_pets_foundation", columnList = "foundation_id")
+        @Index(name = "idx_pets_foundation", columnList = "foundation_id"),
+        @Index(name = "idx_pets_status_created_at_id", columnList = "status, created_at DESC, id DESC")
 })
 @Getter
 @Setter
@@ -80,6 +81,14 @@ public class Pet {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Set while the pet is ADOPTED; the monthly adoption rollup counts the pet in this month
+    @Column(name = "adopted_at")
+    private LocalDateTime adoptedAt;
+
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @Builder.Default
     @OneToMany(mappedBy = "pet", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<PetImage> images = new ArrayList<>();
@@ -35,6 +35,25 @@ public class PetImage {
     @Size(max = 255, message = "Alt text must not exceed 255 characters")
     private String altText;
 
+    @Column(name = "display_order")
+    private Integer displayOrder;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "variant_status", length = 20)
+    private ImageVariantStatus variantStatus;
+
+    @Column(name = "variant_attempts", nullable = false)
+    private int variantAttempts;
+
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url", length = 500)
+    private String mediumUrl;
+
+    @Column(name = "large_url", length = 500)
+    private String largeUrl;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "pet_id", nullable = false)
     @NotNull(message = "Pet is required")
@@ -94,6 +113,54 @@ public class PetImage {
         this.altText = altText;
     }
 
+    public Integer getDisplayOrder() {
+        return displayOrder;
+    }
+
+    public void setDisplayOrder(Integer displayOrder) {
+        this.displayOrder = displayOrder;
+    }
+
+    public ImageVariantStatus getVariantStatus() {
+        return variantStatus;
+    }
+
+    public void setVariantStatus(ImageVariantStatus variantStatus) {
+        this.variantStatus = variantStatus;
+    }
+
+    public int getVariantAttempts() {
+        return variantAttempts;
+    }
+
+    public void setVariantAttempts(int variantAttempts) {
+        this.variantAttempts = variantAttempts;
+    }
+
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    public String getMediumUrl() {
+        return mediumUrl;
+    }
+
+    public void setMediumUrl(String mediumUrl) {
+        this.mediumUrl = mediumUrl;
+    }
+
+    public String getLargeUrl() {
+        return largeUrl;
+    }
+
+    public void setLargeUrl(String largeUrl) {
+        this.largeUrl = largeUrl;
+    }
+
     public Pet getPet() {
         return pet;
     }
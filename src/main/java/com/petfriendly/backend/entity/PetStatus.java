@@ -1,5 +1,10 @@
 package com.petfriendly.backend.entity;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Enum representing pet adoption status in the PetFriendly platform
  */
@@ -9,12 +14,28 @@ public enum PetStatus {
     ADOPTED("Adopted"),
     UNAVAILABLE("Unavailable");
 
+    private static final Map<PetStatus, Set<PetStatus>> TRANSITIONS = new EnumMap<>(PetStatus.class);
+
+    static {
+        TRANSITIONS.put(AVAILABLE, EnumSet.of(PENDING, ADOPTED, UNAVAILABLE));
+        TRANSITIONS.put(PENDING, EnumSet.of(AVAILABLE, ADOPTED, UNAVAILABLE));
+        TRANSITIONS.put(ADOPTED, EnumSet.of(AVAILABLE));
+        TRANSITIONS.put(UNAVAILABLE, EnumSet.of(AVAILABLE, PENDING));
+    }
+
     private final String displayName;
 
     PetStatus(String displayName) {
         this.displayName = displayName;
     }
 
+    /**
+     * Whether a pet in this status may be moved to the given status.
+     */
+    public boolean canTransitionTo(PetStatus target) {
+        return TRANSITIONS.get(this).contains(target);
+    }
+
     public String getDisplayName() {
         return displayName;
     }
@@ -89,6 +89,25 @@ public class User {
     @Schema(description = "User active status", example = "true")
     private Boolean active = true;
 
+    @Column(name = "security_stamp", nullable = false)
+    @Schema(description = "Token invalidation stamp, rotated on credential or access changes")
+    @JsonIgnore
+    private java.util.UUID securityStamp;
+
+    @PrePersist
+    void initSecurityStamp() {
+        if (securityStamp == null) {
+            securityStamp = java.util.UUID.randomUUID();
+        }
+    }
+
+    /**
+     * Issues a new security stamp, invalidating every JWT issued with the previous one.
+     */
+    public void rotateSecurityStamp() {
+        securityStamp = java.util.UUID.randomUUID();
+    }
+
     /**
      * Returns whether the user is active.
      *
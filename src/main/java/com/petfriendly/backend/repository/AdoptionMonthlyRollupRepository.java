@@ -0,0 +1,120 @@
+package com.petfriendly.backend.repository;
+
+import com.petfriendly.backend.entity.AdoptionMonthlyRollup;
+import com.petfriendly.backend.entity.AdoptionOutcome;
+import com.petfriendly.backend.entity.PetSpecies;
+import com.petfriendly.backend.repository.projection.MonthlyOutcomeCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for the monthly adoption outcome rollup.
+ */
+@Repository
+public interface AdoptionMonthlyRollupRepository
+        extends JpaRepository<AdoptionMonthlyRollup, AdoptionMonthlyRollup.Key> {
+
+    /**
+     * Atomically add {@code delta} outcomes to an existing rollup cell
+     * @return number of rows updated (0 when the cell does not exist)
+     */
+    @Modifying
+    @Query("UPDATE AdoptionMonthlyRollup r SET r.outcomeCount = r.outcomeCount + :delta " +
+           "WHERE r.foundationId = :foundationId AND r.monthStart = :monthStart " +
+           "AND r.species = :species AND r.outcome = :outcome")
+    int increment(@Param("foundationId") UUID foundationId,
+                  @Param("monthStart") LocalDate monthStart,
+                  @Param("species") PetSpecies species,
+                  @Param("outcome") AdoptionOutcome outcome,
+                  @Param("delta") long delta);
+
+    /**
+     * Same as {@link #increment} for the species of a pet, so callers holding only a request need not
+     * load its pet
+     */
+    @Modifying
+    @Query("UPDATE AdoptionMonthlyRollup r SET r.outcomeCount = r.outcomeCount + :delta " +
+           "WHERE r.foundationId = :foundationId AND r.monthStart = :monthStart AND r.outcome = :outcome " +
+           "AND r.species = (SELECT p.species FROM Pet p WHERE p.id = :petId)")
+    int incrementForPet(@Param("foundationId") UUID foundationId,
+                        @Param("petId") UUID petId,
+                        @Param("monthStart") LocalDate monthStart,
+                        @Param("outcome") AdoptionOutcome outcome,
+                        @Param("delta") long delta);
+
+    /**
+     * Create a rollup cell; callers first make sure it does not exist while holding the foundation lock
+     */
+    @Modifying
+    @Query("INSERT INTO AdoptionMonthlyRollup (foundationId, monthStart, species, outcome, outcomeCount) " +
+           "VALUES (:foundationId, :monthStart, :species, :outcome, :count)")
+    int insert(@Param("foundationId") UUID foundationId,
+               @Param("monthStart") LocalDate monthStart,
+               @Param("species") PetSpecies species,
+               @Param("outcome") AdoptionOutcome outcome,
+               @Param("count") long count);
+
+    /**
+     * Same as {@link #insert} for the foundation and species of a pet
+     */
+    @Modifying
+    @Query("INSERT INTO AdoptionMonthlyRollup (foundationId, monthStart, species, outcome, outcomeCount) " +
+           "SELECT p.foundation.id, :monthStart, p.species, :outcome, :count FROM Pet p WHERE p.id = :petId")
+    int insertForPet(@Param("petId") UUID petId,
+                     @Param("monthStart") LocalDate monthStart,
+                     @Param("outcome") AdoptionOutcome outcome,
+                     @Param("count") long count);
+
+    /**
+     * Delete every rollup cell. Waits for increments in flight, which hold locks on the cells they update,
+     * and makes later increments of the deleted cells wait for the deleting transaction to end.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM adoption_monthly_rollup", nativeQuery = true)
+    int deleteAllRows();
+
+    /**
+     * Recompute every rollup cell from adoption_requests and pets: decided requests in the month they were
+     * reviewed, pets currently adopted in the month they were adopted, both under the pet's current species.
+     * @return number of cells written
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO adoption_monthly_rollup (foundation_id, month_start, species, outcome, outcome_count)
+            SELECT foundation_id, month_start, species, outcome, COUNT(*)
+            FROM (
+                SELECT ar.foundation_id AS foundation_id,
+                       CAST(date_trunc('month', COALESCE(ar.reviewed_at, ar.updated_at)) AS DATE) AS month_start,
+                       p.species AS species, CAST(ar.status AS VARCHAR(20)) AS outcome
+                FROM adoption_requests ar
+                JOIN pets p ON p.id = ar.pet_id
+                WHERE ar.status IN ('APPROVED', 'REJECTED')
+                UNION ALL
+                SELECT p.foundation_id, CAST(date_trunc('month', p.adopted_at) AS DATE), p.species, 'ADOPTED'
+                FROM pets p
+                WHERE p.status = 'ADOPTED' AND p.adopted_at IS NOT NULL
+            ) outcomes
+            GROUP BY foundation_id, month_start, species, outcome
+            """, nativeQuery = true)
+    int insertFromSourceTables();
+
+    @Query("SELECT r.monthStart AS monthStart, r.species AS species, r.outcome AS outcome, r.outcomeCount AS count " +
+           "FROM AdoptionMonthlyRollup r " +
+           "WHERE r.foundationId = :foundationId AND r.monthStart BETWEEN :from AND :to")
+    List<MonthlyOutcomeCount> findByFoundation(@Param("foundationId") UUID foundationId,
+                                               @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to);
+
+    @Query("SELECT r.monthStart AS monthStart, r.species AS species, r.outcome AS outcome, SUM(r.outcomeCount) AS count " +
+           "FROM AdoptionMonthlyRollup r " +
+           "WHERE r.monthStart BETWEEN :from AND :to " +
+           "GROUP BY r.monthStart, r.species, r.outcome")
+    List<MonthlyOutcomeCount> sumAcrossFoundations(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
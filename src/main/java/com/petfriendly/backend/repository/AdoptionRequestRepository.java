@@ -1,18 +1,28 @@
 package com.petfriendly.backend.repository;
 
+import com.petfriendly.backend.dto.response.AdoptionRequestResponse;
+import com.petfriendly.backend.dto.response.AdoptionRequestSummaryResponse;
 import com.petfriendly.backend.entity.AdoptionRequest;
 import com.petfriendly.backend.entity.AdoptionRequestStatus;
 import com.petfriendly.backend.entity.Foundation;
 import com.petfriendly.backend.entity.Pet;
 import com.petfriendly.backend.entity.User;
+import com.petfriendly.backend.repository.projection.DecidedRequest;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,7 +31,7 @@ import java.util.UUID;
  * Repository interface for AdoptionRequest entity operations.
  */
 @Repository
-public interface AdoptionRequestRepository extends JpaRepository<AdoptionRequest, UUID> {
+public interface AdoptionRequestRepository extends JpaRepository<AdoptionRequest, UUID>, AdoptionRequestRepositoryCustom {
 
     List<AdoptionRequest> findByUser(User user);
 
@@ -57,31 +67,70 @@ public interface AdoptionRequestRepository extends JpaRepository<AdoptionRequest
 
     Optional<AdoptionRequest> findByUserAndPet(User user, Pet pet);
 
-    @Query("SELECT ar FROM AdoptionRequest ar JOIN ar.pet p WHERE p.foundation.id = :foundationId")
+    // Read-only listings selected directly into response records (no entity hydration)
+
+    @Query(value = "SELECT new com.petfriendly.backend.dto.response.AdoptionRequestResponse(" +
+                   "ar.id, ar.user.id, ar.pet.id, ar.message, ar.experience, ar.livingSituation, ar.reviewNotes, " +
+                   "ar.status, ar.createdAt, ar.updatedAt, ar.reviewedAt) FROM AdoptionRequest ar",
+           countQuery = "SELECT COUNT(ar) FROM AdoptionRequest ar")
+    Page<AdoptionRequestResponse> findAllResponses(Pageable pageable);
+
+    @Query(value = "SELECT new com.petfriendly.backend.dto.response.AdoptionRequestResponse(" +
+                   "ar.id, ar.user.id, ar.pet.id, ar.message, ar.experience, ar.livingSituation, ar.reviewNotes, " +
+                   "ar.status, ar.createdAt, ar.updatedAt, ar.reviewedAt) FROM AdoptionRequest ar " +
+                   "WHERE ar.status = :status",
+           countQuery = "SELECT COUNT(ar) FROM AdoptionRequest ar " +
+                   "WHERE ar.status = :status")
+    Page<AdoptionRequestResponse> findResponsesByStatus(@Param("status") AdoptionRequestStatus status, Pageable pageable);
+
+    @Query(value = "SELECT new com.petfriendly.backend.dto.response.AdoptionRequestResponse(" +
+                   "ar.id, ar.user.id, ar.pet.id, ar.message, ar.experience, ar.livingSituation, ar.reviewNotes, " +
+                   "ar.status, ar.createdAt, ar.updatedAt, ar.reviewedAt) FROM AdoptionRequest ar " +
+                   "WHERE ar.user.id = :userId",
+           countQuery = "SELECT COUNT(ar) FROM AdoptionRequest ar " +
+                   "WHERE ar.user.id = :userId")
+    Page<AdoptionRequestResponse> findResponsesByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query(value = "SELECT new com.petfriendly.backend.dto.response.AdoptionRequestResponse(" +
+                   "ar.id, ar.user.id, ar.pet.id, ar.message, ar.experience, ar.livingSituation, ar.reviewNotes, " +
+                   "ar.status, ar.createdAt, ar.updatedAt, ar.reviewedAt) FROM AdoptionRequest ar " +
+                   "WHERE ar.pet.id = :petId",
+           countQuery = "SELECT COUNT(ar) FROM AdoptionRequest ar " +
+                   "WHERE ar.pet.id = :petId")
+    Page<AdoptionRequestResponse> findResponsesByPetId(@Param("petId") UUID petId, Pageable pageable);
+
+    @Query(value = "SELECT new com.petfriendly.backend.dto.response.AdoptionRequestSummaryResponse(" +
+                   "ar.id, ar.user.id, ar.pet.id, ar.status, ar.createdAt, ar.reviewedAt) " +
+                   "FROM AdoptionRequest ar WHERE ar.status = :status",
+           countQuery = "SELECT COUNT(ar) FROM AdoptionRequest ar " +
+                   "WHERE ar.status = :status")
+    Page<AdoptionRequestSummaryResponse> findSummariesByStatus(@Param("status") AdoptionRequestStatus status, Pageable pageable);
+
+    @Query("SELECT ar FROM AdoptionRequest ar WHERE ar.foundationId = :foundationId")
     List<AdoptionRequest> findByPetFoundationId(@Param("foundationId") UUID foundationId);
 
-    @Query("SELECT ar FROM AdoptionRequest ar JOIN ar.pet p WHERE p.foundation.id = :foundationId")
+    @Query("SELECT ar FROM AdoptionRequest ar WHERE ar.foundationId = :foundationId")
     Page<AdoptionRequest> findByPetFoundationId(@Param("foundationId") UUID foundationId, Pageable pageable);
 
-    @Query("SELECT ar FROM AdoptionRequest ar JOIN ar.pet p WHERE p.foundation.id = :foundationId AND ar.status = :status")
+    @Query("SELECT ar FROM AdoptionRequest ar WHERE ar.foundationId = :foundationId AND ar.status = :status")
     List<AdoptionRequest> findByPetFoundationIdAndStatus(@Param("foundationId") UUID foundationId,
                                                          @Param("status") AdoptionRequestStatus status);
 
-    @Query("SELECT COUNT(ar) FROM AdoptionRequest ar WHERE ar.pet.foundation.id = :foundationId")
+    @Query("SELECT COUNT(ar) FROM AdoptionRequest ar WHERE ar.foundationId = :foundationId")
     long countByFoundation(@Param("foundationId") UUID foundationId);
 
-    @Query("SELECT COUNT(ar) FROM AdoptionRequest ar WHERE ar.pet.foundation.id = :foundationId AND ar.status = 'PENDING'")
+    @Query("SELECT COUNT(ar) FROM AdoptionRequest ar WHERE ar.foundationId = :foundationId AND ar.status = 'PENDING'")
     long countPendingRequestsByFoundation(@Param("foundationId") UUID foundationId);
 
-    @Query("SELECT COUNT(ar) FROM AdoptionRequest ar WHERE ar.pet.foundation.id = :foundationId AND ar.status = :status")
+    @Query("SELECT COUNT(ar) FROM AdoptionRequest ar WHERE ar.foundationId = :foundationId AND ar.status = :status")
     long countByFoundationAndStatus(@Param("foundationId") UUID foundationId,
                                     @Param("status") AdoptionRequestStatus status);
 
-    @Query("SELECT COUNT(ar) FROM AdoptionRequest ar WHERE ar.pet.foundation = :foundation AND ar.status = :status")
+    @Query("SELECT COUNT(ar) FROM AdoptionRequest ar WHERE ar.foundationId = :#{#foundation.id} AND ar.status = :status")
     long countByPetFoundationAndStatus(@Param("foundation") Foundation foundation,
                                        @Param("status") AdoptionRequestStatus status);
 
-    @Query("SELECT ar FROM AdoptionRequest ar WHERE ar.pet.foundation.id = :foundationId AND ar.status = 'PENDING'")
+    @Query("SELECT ar FROM AdoptionRequest ar WHERE ar.foundationId = :foundationId AND ar.status = 'PENDING'")
     Page<AdoptionRequest> findPendingRequestsByFoundation(@Param("foundationId") UUID foundationId, Pageable pageable);
 
     Page<AdoptionRequest> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
@@ -102,6 +151,104 @@ public interface AdoptionRequestRepository extends JpaRepository<AdoptionRequest
 
     boolean existsByUserAndPet(User user, Pet pet);
 
+    /**
+     * Insert a PENDING request, copying the pet's foundation. A second request of the same user for the
+     * pet violates {@code uk_adoption_requests_user_pet}; callers translate that violation.
+     * @return 1 if inserted, 0 if the user or the pet does not exist
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO adoption_requests (id, user_id, pet_id, foundation_id, message, experience, living_situation,
+                                           status, created_at, updated_at, version)
+            SELECT :id, :userId, p.id, p.foundation_id, :message, :experience, :livingSituation, 'PENDING', :now, :now, 0
+            FROM pets p
+            JOIN users u ON u.id = :userId
+            WHERE p.id = :petId
+            """, nativeQuery = true)
+    int insertForPet(@Param("id") UUID id,
+                     @Param("userId") UUID userId,
+                     @Param("petId") UUID petId,
+                     @Param("message") String message,
+                     @Param("experience") String experience,
+                     @Param("livingSituation") String livingSituation,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * Lock the oldest PENDING requests of a foundation that nobody holds a live lease on.
+     * Rows locked by another reviewer's claim are skipped rather than waited for.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")) // SKIP LOCKED
+    @Query("SELECT ar FROM AdoptionRequest ar " +
+           "WHERE ar.status = com.petfriendly.backend.entity.AdoptionRequestStatus.PENDING " +
+           "AND ar.foundationId = :foundationId " +
+           "AND (ar.claimExpiresAt IS NULL OR ar.claimExpiresAt < :now) " +
+           "ORDER BY ar.createdAt, ar.id")
+    List<AdoptionRequest> findClaimableByFoundationForUpdate(@Param("foundationId") UUID foundationId,
+                                                             @Param("now") LocalDateTime now,
+                                                             Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AdoptionRequest ar SET ar.claimedBy = :reviewerId, ar.claimExpiresAt = :expiresAt WHERE ar.id IN :ids")
+    int claim(@Param("ids") Collection<UUID> ids,
+              @Param("reviewerId") UUID reviewerId,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE AdoptionRequest ar SET ar.claimedBy = NULL, ar.claimExpiresAt = NULL " +
+           "WHERE ar.claimedBy = :reviewerId AND ar.status = com.petfriendly.backend.entity.AdoptionRequestStatus.PENDING")
+    int releaseClaims(@Param("reviewerId") UUID reviewerId);
+
+    /**
+     * Lock up to {@code limit} of the oldest PENDING requests created before {@code cutoff}, walking
+     * idx_adoption_requests_status_created. Rows a reviewer is working on are skipped rather than waited for.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")) // SKIP LOCKED
+    @Query("SELECT ar FROM AdoptionRequest ar " +
+           "WHERE ar.status = com.petfriendly.backend.entity.AdoptionRequestStatus.PENDING AND ar.createdAt < :cutoff " +
+           "ORDER BY ar.createdAt")
+    List<AdoptionRequest> findExpirableForUpdate(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    /**
+     * Cancel the given PENDING requests, typically a batch locked by {@link #findExpirableForUpdate}.
+     * @return the number of requests cancelled
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AdoptionRequest ar SET ar.status = com.petfriendly.backend.entity.AdoptionRequestStatus.CANCELLED, " +
+           "ar.reviewNotes = :reviewNotes, ar.reviewedAt = :now, ar.updatedAt = :now, ar.version = ar.version + 1 " +
+           "WHERE ar.id IN :ids AND ar.status = com.petfriendly.backend.entity.AdoptionRequestStatus.PENDING")
+    int cancelPending(@Param("ids") Collection<UUID> ids,
+                      @Param("reviewNotes") String reviewNotes,
+                      @Param("now") LocalDateTime now);
+
+    @Query("SELECT ar.pet.id FROM AdoptionRequest ar WHERE ar.id = :id")
+    Optional<UUID> findPetIdById(@Param("id") UUID id);
+
+    /**
+     * Reject every other PENDING request for a pet in one statement, e.g. once one of them is approved.
+     * @return the number of requests rejected
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AdoptionRequest ar SET ar.status = com.petfriendly.backend.entity.AdoptionRequestStatus.REJECTED, " +
+           "ar.reviewNotes = :reviewNotes, ar.reviewedAt = :now, ar.updatedAt = :now, ar.version = ar.version + 1 " +
+           "WHERE ar.pet.id = :petId AND ar.id <> :approvedId " +
+           "AND ar.status = com.petfriendly.backend.entity.AdoptionRequestStatus.PENDING")
+    int rejectOtherPendingForPet(@Param("petId") UUID petId,
+                                 @Param("approvedId") UUID approvedId,
+                                 @Param("reviewNotes") String reviewNotes,
+                                 @Param("now") LocalDateTime now);
+
+    /**
+     * Approved and rejected requests for a pet with the time they were decided, as counted by the monthly
+     * adoption rollup
+     */
+    @Query("SELECT ar.foundationId AS foundationId, ar.status AS status, " +
+           "COALESCE(ar.reviewedAt, ar.updatedAt) AS decidedAt FROM AdoptionRequest ar " +
+           "WHERE ar.pet.id = :petId AND ar.status IN (com.petfriendly.backend.entity.AdoptionRequestStatus.APPROVED, " +
+           "com.petfriendly.backend.entity.AdoptionRequestStatus.REJECTED)")
+    List<DecidedRequest> findDecidedByPetId(@Param("petId") UUID petId);
+
     boolean existsByUserAndStatus(User user, AdoptionRequestStatus status);
 
     boolean existsByUser_IdAndPet_Id(UUID userId, UUID petId);
@@ -0,0 +1,22 @@
+package com.petfriendly.backend.repository;
+
+import com.petfriendly.backend.entity.AdoptionRequest;
+import com.petfriendly.backend.entity.AdoptionRequestStatus;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adoption request operations that Spring Data cannot derive.
+ */
+public interface AdoptionRequestRepositoryCustom {
+
+    /**
+     * Move a request from {@code from} to {@code to}, recording the review, and read the updated row back
+     * in the same statement. User and pet are uninitialized references.
+     * @return the request as updated, empty if it is gone or no longer in {@code from}
+     */
+    Optional<AdoptionRequest> transitionStatus(UUID id, AdoptionRequestStatus from, AdoptionRequestStatus to,
+                                               String reviewNotes, LocalDateTime now);
+}
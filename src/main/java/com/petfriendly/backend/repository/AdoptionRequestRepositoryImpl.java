@@ -0,0 +1,81 @@
+package com.petfriendly.backend.repository;
+
+import com.petfriendly.backend.entity.AdoptionRequest;
+import com.petfriendly.backend.entity.AdoptionRequestStatus;
+import com.petfriendly.backend.entity.Pet;
+import com.petfriendly.backend.entity.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC-backed part of {@link AdoptionRequestRepository}.
+ */
+@RequiredArgsConstructor
+class AdoptionRequestRepositoryImpl implements AdoptionRequestRepositoryCustom {
+
+    private static final String TRANSITION_SQL = """
+            UPDATE adoption_requests
+            SET status = ?, review_notes = ?, reviewed_at = ?, updated_at = ?, version = version + 1
+            WHERE id = ? AND status = ?
+            """;
+
+    // Read back through generated keys: PostgreSQL turns them into RETURNING, H2 reports the updated row
+    private static final String[] RETURNED_COLUMNS = {
+            "user_id", "pet_id", "foundation_id", "message", "experience", "living_situation",
+            "created_at", "version", "claimed_by", "claim_expires_at"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<AdoptionRequest> transitionStatus(UUID id, AdoptionRequestStatus from, AdoptionRequestStatus to,
+                                                      String reviewNotes, LocalDateTime now) {
+        // Same contract as a flushing and clearing @Modifying query: pending changes go first, and no
+        // managed copy of the request survives with its old status
+        entityManager.flush();
+        entityManager.clear();
+
+        return jdbcTemplate.execute(connection -> connection.prepareStatement(TRANSITION_SQL, RETURNED_COLUMNS),
+                (PreparedStatement statement) -> {
+                    statement.setString(1, to.name());
+                    statement.setString(2, reviewNotes);
+                    statement.setObject(3, now);
+                    statement.setObject(4, now);
+                    statement.setObject(5, id);
+                    statement.setString(6, from.name());
+                    if (statement.executeUpdate() == 0) {
+                        return Optional.empty();
+                    }
+                    try (ResultSet row = statement.getGeneratedKeys()) {
+                        if (!row.next()) {
+                            throw new IllegalStateException("Updated adoption request " + id + " was not returned");
+                        }
+                        return Optional.of(AdoptionRequest.builder()
+                                .id(id)
+                                .user(entityManager.getReference(User.class, row.getObject("user_id", UUID.class)))
+                                .pet(entityManager.getReference(Pet.class, row.getObject("pet_id", UUID.class)))
+                                .foundationId(row.getObject("foundation_id", UUID.class))
+                                .message(row.getString("message"))
+                                .experience(row.getString("experience"))
+                                .livingSituation(row.getString("living_situation"))
+                                .status(to)
+                                .reviewNotes(reviewNotes)
+                                .createdAt(row.getObject("created_at", LocalDateTime.class))
+                                .updatedAt(now)
+                                .reviewedAt(now)
+                                .version(row.getLong("version"))
+                                .claimedBy(row.getObject("claimed_by", UUID.class))
+                                .claimExpiresAt(row.getObject("claim_expires_at", LocalDateTime.class))
+                                .build());
+                    }
+                });
+    }
+}
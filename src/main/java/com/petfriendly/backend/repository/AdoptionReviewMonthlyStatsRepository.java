@@ -0,0 +1,34 @@
+package com.petfriendly.backend.repository;
+
+import com.petfriendly.backend.entity.AdoptionReviewMonthlyStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for monthly adoption review analytics.
+ */
+@Repository
+public interface AdoptionReviewMonthlyStatsRepository
+        extends JpaRepository<AdoptionReviewMonthlyStats, AdoptionReviewMonthlyStats.Key> {
+
+    /**
+     * Lock a month's row so concurrent flushes from several instances merge into it one at a time
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AdoptionReviewMonthlyStats s WHERE s.foundationId = :foundationId AND s.monthStart = :monthStart")
+    Optional<AdoptionReviewMonthlyStats> findForUpdate(@Param("foundationId") UUID foundationId,
+                                                       @Param("monthStart") LocalDate monthStart);
+
+    List<AdoptionReviewMonthlyStats> findByFoundationIdAndMonthStartBetweenOrderByMonthStart(UUID foundationId,
+                                                                                           LocalDate from,
+                                                                                           LocalDate to);
+}
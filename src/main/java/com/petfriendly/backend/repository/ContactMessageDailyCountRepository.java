@@ -0,0 +1,67 @@
+package com.petfriendly.backend.repository;
+
+import com.petfriendly.backend.entity.ContactMessageDailyCount;
+import com.petfriendly.backend.repository.projection.DailyMessageCount;
+import com.petfriendly.backend.repository.projection.MessageTotals;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for per-foundation daily contact message buckets.
+ */
+@Repository
+public interface ContactMessageDailyCountRepository
+        extends JpaRepository<ContactMessageDailyCount, ContactMessageDailyCount.Key> {
+
+    /**
+     * Create a bucket; callers first make sure it does not exist while holding the foundation lock
+     */
+    @Modifying
+    @Query("INSERT INTO ContactMessageDailyCount (foundationId, bucketDate, messageCount, readCount) " +
+           "VALUES (:foundationId, :day, :messageCount, :readCount)")
+    int insert(@Param("foundationId") UUID foundationId,
+               @Param("day") LocalDate day,
+               @Param("messageCount") long messageCount,
+               @Param("readCount") long readCount);
+
+    /**
+     * Atomically add the deltas to an existing bucket
+     * @return number of rows updated (0 when the bucket does not exist)
+     */
+    @Modifying
+    @Query("UPDATE ContactMessageDailyCount c SET c.messageCount = c.messageCount + :messageDelta, " +
+           "c.readCount = c.readCount + :readDelta " +
+           "WHERE c.foundationId = :foundationId AND c.bucketDate = :day")
+    int increment(@Param("foundationId") UUID foundationId,
+                  @Param("day") LocalDate day,
+                  @Param("messageDelta") long messageDelta,
+                  @Param("readDelta") long readDelta);
+
+    @Modifying
+    @Query("DELETE FROM ContactMessageDailyCount c WHERE c.foundationId = :foundationId")
+    int deleteByFoundationId(@Param("foundationId") UUID foundationId);
+
+    @Query("SELECT c.bucketDate AS day, c.messageCount AS count FROM ContactMessageDailyCount c " +
+           "WHERE c.foundationId = :foundationId AND c.bucketDate >= :from")
+    List<DailyMessageCount> findDailyCountsByFoundationSince(@Param("foundationId") UUID foundationId,
+                                                             @Param("from") LocalDate from);
+
+    @Query("SELECT c.bucketDate AS day, SUM(c.messageCount) AS count FROM ContactMessageDailyCount c " +
+           "WHERE c.bucketDate >= :from GROUP BY c.bucketDate")
+    List<DailyMessageCount> findDailyCountsSince(@Param("from") LocalDate from);
+
+    @Query("SELECT COALESCE(SUM(c.messageCount), 0) AS messages, COALESCE(SUM(c.readCount), 0) AS readMessages " +
+           "FROM ContactMessageDailyCount c WHERE c.foundationId = :foundationId")
+    MessageTotals sumTotalsByFoundation(@Param("foundationId") UUID foundationId);
+
+    @Query("SELECT COALESCE(SUM(c.messageCount), 0) AS messages, COALESCE(SUM(c.readCount), 0) AS readMessages " +
+           "FROM ContactMessageDailyCount c")
+    MessageTotals sumTotals();
+}
@@ -5,6 +5,9 @@ import com.petfriendly.backend.entity.Foundation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -83,6 +86,16 @@ public interface ContactMessageRepository extends JpaRepository<ContactMessage,
 
     boolean existsByFoundation_Id(UUID foundationId);
 
+    /**
+     * Flip the read flag only if it still holds the opposite value, so each change is counted once.
+     * @return 1 if the flag changed, 0 if the message was already in that state or does not exist
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ContactMessage m SET m.isRead = :read, m.readAt = :readAt WHERE m.id = :id AND m.isRead <> :read")
+    int compareAndSetRead(@Param("id") UUID id,
+                          @Param("read") boolean read,
+                          @Param("readAt") LocalDateTime readAt);
+
     /**
      * Deletes all contact messages for a specific foundation.
      *
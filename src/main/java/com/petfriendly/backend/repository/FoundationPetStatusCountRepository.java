@@ -0,0 +1,42 @@
+package com.petfriendly.backend.repository;
+
+import com.petfriendly.backend.entity.FoundationPetStatusCount;
+import com.petfriendly.backend.entity.PetStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for per-foundation pet status counters.
+ */
+@Repository
+public interface FoundationPetStatusCountRepository
+        extends JpaRepository<FoundationPetStatusCount, FoundationPetStatusCount.Key> {
+
+    List<FoundationPetStatusCount> findByFoundationId(UUID foundationId);
+
+    /**
+     * Atomically add {@code delta} to a counter row
+     * @return number of rows updated (0 when the row does not exist yet)
+     */
+    @Modifying
+    @Query("UPDATE FoundationPetStatusCount c SET c.petCount = c.petCount + :delta " +
+           "WHERE c.foundationId = :foundationId AND c.status = :status")
+    int increment(@Param("foundationId") UUID foundationId,
+                  @Param("status") PetStatus status,
+                  @Param("delta") long delta);
+
+    /**
+     * Create a counter row; callers first make sure it does not exist while holding the foundation lock
+     */
+    @Modifying
+    @Query("INSERT INTO FoundationPetStatusCount (foundationId, status, petCount) VALUES (:foundationId, :status, :count)")
+    int insert(@Param("foundationId") UUID foundationId,
+               @Param("status") PetStatus status,
+               @Param("count") long count);
+}
@@ -1,9 +1,14 @@
 package com.petfriendly.backend.repository;
 
+import com.petfriendly.backend.dto.response.FoundationResponse;
+import com.petfriendly.backend.dto.response.FoundationSummaryResponse;
 import com.petfriendly.backend.entity.Foundation;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,6 +23,13 @@ import java.util.UUID;
 @Repository
 public interface FoundationRepository extends JpaRepository<Foundation, UUID> {
 
+    // Source-of-truth counts behind the counter columns, correlated on the outer foundation alias f
+    String AVAILABLE_PETS = "SELECT COUNT(p) FROM Pet p WHERE p.foundation.id = f.id " +
+            "AND p.status = com.petfriendly.backend.entity.PetStatus.AVAILABLE";
+    String PENDING_REQUESTS = "SELECT COUNT(ar) FROM AdoptionRequest ar WHERE ar.foundationId = f.id " +
+            "AND ar.status = com.petfriendly.backend.entity.AdoptionRequestStatus.PENDING";
+    String UNREAD_MESSAGES = "SELECT COUNT(cm) FROM ContactMessage cm WHERE cm.foundation.id = f.id AND cm.isRead = false";
+
     Optional<Foundation> findByContactEmail(String contactEmail);
 
     Optional<Foundation> findByName(String name);
@@ -43,9 +55,121 @@ public interface FoundationRepository extends JpaRepository<Foundation, UUID> {
     @Query("SELECT f FROM Foundation f WHERE LOWER(f.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     Page<Foundation> findByNameContainingIgnoreCase(@Param("name") String name, Pageable pageable);
 
-    @Query("SELECT DISTINCT f FROM Foundation f JOIN f.pets p WHERE p.status = 'AVAILABLE'")
+    @Query("SELECT new com.petfriendly.backend.dto.response.FoundationResponse(" +
+           "f.id, f.name, f.city, f.state, f.description, f.contactEmail, f.website, f.address, " +
+           "f.phoneNumber, COALESCE(f.verified, false), f.createdAt, f.updatedAt) FROM Foundation f WHERE f.id = :id")
+    Optional<FoundationResponse> findResponseById(@Param("id") UUID id);
+
+    @Query(value = "SELECT new com.petfriendly.backend.dto.response.FoundationResponse(" +
+                   "f.id, f.name, f.city, f.state, f.description, f.contactEmail, f.website, f.address, " +
+                   "f.phoneNumber, COALESCE(f.verified, false), f.createdAt, f.updatedAt) FROM Foundation f",
+           countQuery = "SELECT COUNT(f) FROM Foundation f")
+    Page<FoundationResponse> findAllResponses(Pageable pageable);
+
+    @Query(value = "SELECT new com.petfriendly.backend.dto.response.FoundationSummaryResponse(" +
+                   "f.id, f.name, f.city, f.state, COALESCE(f.verified, false)) FROM Foundation f",
+           countQuery = "SELECT COUNT(f) FROM Foundation f")
+    Page<FoundationSummaryResponse> findAllSummaries(Pageable pageable);
+
+    @Query("SELECT f FROM Foundation f WHERE f.availablePetCount > 0")
     List<Foundation> findFoundationsWithAvailablePets();
 
+    @Query("SELECT f.unreadMessageCount FROM Foundation f WHERE f.id = :id")
+    Optional<Long> findUnreadMessageCountById(@Param("id") UUID id);
+
+    /**
+     * Take a row lock on a foundation for the rest of the transaction. Writers creating the first row of a
+     * per-foundation counter take it, so two of them cannot both insert the same row.
+     * @return the foundation ID, empty if the foundation does not exist
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f.id FROM Foundation f WHERE f.id = :id")
+    Optional<UUID> lockById(@Param("id") UUID id);
+
+    /**
+     * Take a row lock on every foundation, in ID order, for the rest of the transaction. Blocks every
+     * writer that goes through {@link #lockById} until the transaction ends.
+     * @return the IDs of the locked foundations
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f.id FROM Foundation f ORDER BY f.id")
+    List<UUID> lockAll();
+
+    /**
+     * Atomically add {@code delta} to a foundation's available pet counter
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Foundation f SET f.availablePetCount = f.availablePetCount + :delta WHERE f.id = :id")
+    int incrementAvailablePets(@Param("id") UUID id, @Param("delta") long delta);
+
+    /**
+     * Atomically add {@code delta} to a foundation's pending adoption request counter
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Foundation f SET f.pendingRequestCount = f.pendingRequestCount + :delta WHERE f.id = :id")
+    int incrementPendingRequests(@Param("id") UUID id, @Param("delta") long delta);
+
+    /**
+     * Atomically add {@code delta} to the pending adoption request counter of a pet's foundation
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Foundation f SET f.pendingRequestCount = f.pendingRequestCount + :delta " +
+           "WHERE f.id = (SELECT p.foundation.id FROM Pet p WHERE p.id = :petId)")
+    int incrementPendingRequestsForPet(@Param("petId") UUID petId, @Param("delta") long delta);
+
+    /**
+     * Take a user's PENDING adoption requests off their foundations' counters, e.g. before the user is deleted.
+     * @return number of foundations updated
+     */
+    @Modifying
+    @Query("UPDATE Foundation f SET f.pendingRequestCount = f.pendingRequestCount - (" +
+           "SELECT COUNT(ar) FROM AdoptionRequest ar WHERE ar.foundationId = f.id AND ar.user.id = :userId " +
+           "AND ar.status = com.petfriendly.backend.entity.AdoptionRequestStatus.PENDING) " +
+           "WHERE f.id IN (SELECT ar.foundationId FROM AdoptionRequest ar WHERE ar.user.id = :userId " +
+           "AND ar.status = com.petfriendly.backend.entity.AdoptionRequestStatus.PENDING)")
+    int releasePendingRequestsOfUser(@Param("userId") UUID userId);
+
+    /**
+     * Take a pet's PENDING adoption requests off its foundation's counter, e.g. before the pet is deleted.
+     * @return number of foundations updated
+     */
+    @Modifying
+    @Query("UPDATE Foundation f SET f.pendingRequestCount = f.pendingRequestCount - (" +
+           "SELECT COUNT(ar) FROM AdoptionRequest ar WHERE ar.pet.id = :petId " +
+           "AND ar.status = com.petfriendly.backend.entity.AdoptionRequestStatus.PENDING) " +
+           "WHERE f.id = (SELECT p.foundation.id FROM Pet p WHERE p.id = :petId)")
+    int releasePendingRequestsOfPet(@Param("petId") UUID petId);
+
+    /**
+     * Atomically add {@code delta} to a foundation's unread contact message counter
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Foundation f SET f.unreadMessageCount = f.unreadMessageCount + :delta WHERE f.id = :id")
+    int incrementUnreadMessages(@Param("id") UUID id, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Foundation f SET f.unreadMessageCount = 0 WHERE f.id = :id")
+    int resetUnreadMessages(@Param("id") UUID id);
+
+    /**
+     * Recompute every counter from the source tables, touching only foundations whose counters drifted.
+     * Writes that commit while this runs may be missed and are repaired by the next run.
+     * @return number of foundations repaired
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Foundation f SET " +
+           "f.availablePetCount = (" + AVAILABLE_PETS + "), " +
+           "f.pendingRequestCount = (" + PENDING_REQUESTS + "), " +
+           "f.unreadMessageCount = (" + UNREAD_MESSAGES + ") " +
+           "WHERE f.availablePetCount <> (" + AVAILABLE_PETS + ") " +
+           "OR f.pendingRequestCount <> (" + PENDING_REQUESTS + ") " +
+           "OR f.unreadMessageCount <> (" + UNREAD_MESSAGES + ")")
+    int reconcileCounters();
+
     long countByVerified(Boolean verified);
 
     long countByCity(String city);
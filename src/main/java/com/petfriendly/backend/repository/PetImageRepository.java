@@ -1,14 +1,18 @@
 package com.petfriendly.backend.repository;
 
+import com.petfriendly.backend.entity.ImageVariantStatus;
 import com.petfriendly.backend.entity.Pet;
 import com.petfriendly.backend.entity.PetImage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,6 +37,15 @@ public interface PetImageRepository extends JpaRepository<PetImage, UUID> {
      */
     List<PetImage> findByPet_Id(UUID petId);
 
+    /**
+     * Find the gallery of a pet: images in display order, unordered ones last by creation date
+     * @param petId the pet ID to find images for
+     * @return list of images belonging to the pet
+     */
+    @Query("SELECT pi FROM PetImage pi WHERE pi.pet.id = :petId " +
+           "ORDER BY CASE WHEN pi.displayOrder IS NULL THEN 1 ELSE 0 END, pi.displayOrder, pi.createdAt")
+    List<PetImage> findGalleryByPetId(@Param("petId") UUID petId);
+
     /**
      * Find all images for a specific pet by pet ID with pagination
      * @param petId the pet ID to find images for
@@ -164,4 +177,94 @@ public interface PetImageRepository extends JpaRepository<PetImage, UUID> {
      */
     @Query("SELECT COUNT(DISTINCT pi.pet) FROM PetImage pi WHERE pi.pet IS NOT NULL")
     long countDistinctPets();
-}
\ No newline at end of file
+
+    /**
+     * IDs of images whose variants are in a given state, oldest first
+     * @param status the variant status
+     * @param pageable limit of the batch
+     * @return image IDs
+     */
+    @Query("SELECT pi.id FROM PetImage pi WHERE pi.variantStatus = :status ORDER BY pi.createdAt")
+    List<UUID> findIdsByVariantStatus(@Param("status") ImageVariantStatus status, Pageable pageable);
+
+    /**
+     * Record the outcome of variant generation, unless the image was deleted or pointed at another source
+     * meanwhile
+     * @return number of rows updated, 0 or 1
+     */
+    @Modifying
+    @Query("UPDATE PetImage pi SET pi.variantStatus = :status, pi.variantAttempts = :attempts, " +
+           "pi.thumbnailUrl = :thumbnailUrl, pi.mediumUrl = :mediumUrl, pi.largeUrl = :largeUrl " +
+           "WHERE pi.id = :id AND pi.imageUrl = :sourceUrl")
+    int updateVariants(@Param("id") UUID id,
+                       @Param("sourceUrl") String sourceUrl,
+                       @Param("status") ImageVariantStatus status,
+                       @Param("attempts") int attempts,
+                       @Param("thumbnailUrl") String thumbnailUrl,
+                       @Param("mediumUrl") String mediumUrl,
+                       @Param("largeUrl") String largeUrl);
+
+    /**
+     * Whether any image still uses a stored file, as its source or as one of its variants
+     * @param key the image store key
+     */
+    @Query("SELECT COUNT(pi) > 0 FROM PetImage pi WHERE pi.imageUrl LIKE CONCAT('%', :key) " +
+           "OR pi.thumbnailUrl LIKE CONCAT('%', :key) OR pi.mediumUrl LIKE CONCAT('%', :key) " +
+           "OR pi.largeUrl LIKE CONCAT('%', :key)")
+    boolean isStoredFileReferenced(@Param("key") String key);
+
+    /**
+     * Make one image the primary image of its pet and every other image of the pet non-primary, in one
+     * statement. Only rows whose flag changes are written.
+     * @param id the image to make primary
+     * @param now the update timestamp
+     * @return number of images whose flag changed; 0 when the image does not exist or already is primary
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE pet_images SET is_primary = (id = :id), updated_at = :now " +
+                   "WHERE pet_id = (SELECT pet_id FROM pet_images WHERE id = :id) AND is_primary <> (id = :id)",
+           nativeQuery = true)
+    int switchPrimary(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    /**
+     * Remove the primary flag from every image of a pet
+     * @param petId the pet ID
+     * @return number of images updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PetImage pi SET pi.isPrimary = false WHERE pi.pet.id = :petId AND pi.isPrimary = true")
+    int clearPrimary(@Param("petId") UUID petId);
+
+    /**
+     * Renumber the gallery of a pet in one statement: listed images take their position in the list, and the
+     * images left out follow them in their current gallery order. An image's position in the list is found
+     * from where its ID occurs in the string, as every ID is 36 characters followed by a comma.
+     * @param petId the pet ID
+     * @param ids comma-separated image IDs in display order
+     * @param listed the number of IDs in the list
+     * @param now the update timestamp
+     * @return number of images updated, which is every image of the pet
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE pet_images SET updated_at = :now, display_order = CASE " +
+                   "WHEN POSITION(CAST(id AS VARCHAR(36)) IN :ids) > 0 " +
+                   "THEN (POSITION(CAST(id AS VARCHAR(36)) IN :ids) + 36) / 37 " +
+                   "ELSE :listed + 1 + (SELECT COUNT(*) FROM pet_images o " +
+                   "WHERE o.pet_id = pet_images.pet_id AND POSITION(CAST(o.id AS VARCHAR(36)) IN :ids) = 0 " +
+                   "AND (COALESCE(o.display_order, 2147483647) < COALESCE(pet_images.display_order, 2147483647) " +
+                   "OR (COALESCE(o.display_order, 2147483647) = COALESCE(pet_images.display_order, 2147483647) " +
+                   "AND (o.created_at < pet_images.created_at " +
+                   "OR (o.created_at = pet_images.created_at AND o.id < pet_images.id))))) END " +
+                   "WHERE pet_id = :petId",
+           nativeQuery = true)
+    int reorder(@Param("petId") UUID petId, @Param("ids") String ids, @Param("listed") int listed,
+                @Param("now") LocalDateTime now);
+
+    /**
+     * Count how many of the given images belong to a pet
+     * @param petId the pet ID
+     * @param ids the image IDs
+     * @return number of the images that are images of the pet
+     */
+    long countByPet_IdAndIdIn(UUID petId, Collection<UUID> ids);
+}
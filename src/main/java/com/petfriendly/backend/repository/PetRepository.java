@@ -1,19 +1,32 @@
 package com.petfriendly.backend.repository;
 
+import com.petfriendly.backend.dto.response.PetCardResponse;
+import com.petfriendly.backend.dto.response.PetResponse;
+import com.petfriendly.backend.dto.response.PetSummaryResponse;
 import com.petfriendly.backend.entity.Pet;
 import com.petfriendly.backend.entity.PetSpecies;
 import com.petfriendly.backend.entity.PetStatus;
 import com.petfriendly.backend.entity.PetSize;
 import com.petfriendly.backend.entity.PetGender;
 import com.petfriendly.backend.entity.Foundation;
+import com.petfriendly.backend.repository.projection.PetFacetCount;
+import com.petfriendly.backend.repository.projection.PetSearchHit;
+import com.petfriendly.backend.repository.projection.PetStatusCount;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -41,6 +54,76 @@ public interface PetRepository extends JpaRepository<Pet, UUID> {
      */
     Page<Pet> findByStatus(PetStatus status, Pageable pageable);
 
+    /**
+     * Find the first keyset page of pets by status, newest first (no count query)
+     * @param status the pet status
+     * @param limit maximum number of rows to fetch
+     * @return list of pets ordered by creation date and ID descending
+     */
+    @Query("SELECT p FROM Pet p WHERE p.status = :status ORDER BY p.createdAt DESC, p.id DESC")
+    List<Pet> findFirstKeysetPageByStatus(@Param("status") PetStatus status, Limit limit);
+
+    /**
+     * Find the keyset page of pets by status that follows the given (createdAt, id) position
+     * @param status the pet status
+     * @param createdAt creation date of the last pet on the previous page
+     * @param id ID of the last pet on the previous page
+     * @param limit maximum number of rows to fetch
+     * @return list of pets ordered by creation date and ID descending
+     */
+    @Query("SELECT p FROM Pet p WHERE p.status = :status AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Pet> findKeysetPageByStatusAfter(@Param("status") PetStatus status,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") UUID id,
+                                          Limit limit);
+
+    /**
+     * Find a pet by ID selected directly into {@link PetResponse} (no entity hydration)
+     * @param id the pet ID
+     * @return optional containing the pet response if found
+     */
+    @Query("SELECT new com.petfriendly.backend.dto.response.PetResponse(" +
+           "p.id, p.name, p.species, p.breed, p.age, p.gender, p.size, p.description, p.status, " +
+           "p.foundation.id, p.createdAt, p.updatedAt) FROM Pet p WHERE p.id = :id")
+    Optional<PetResponse> findResponseById(@Param("id") UUID id);
+
+    /**
+     * Find all pets selected directly into {@link PetResponse} (no entity hydration)
+     * @param pageable pagination information
+     * @return page of pet responses
+     */
+    @Query(value = "SELECT new com.petfriendly.backend.dto.response.PetResponse(" +
+                   "p.id, p.name, p.species, p.breed, p.age, p.gender, p.size, p.description, p.status, " +
+                   "p.foundation.id, p.createdAt, p.updatedAt) FROM Pet p",
+           countQuery = "SELECT COUNT(p) FROM Pet p")
+    Page<PetResponse> findAllResponses(Pageable pageable);
+
+    /**
+     * Find pets by status selected directly into {@link PetResponse} (no entity hydration)
+     * @param status the pet status
+     * @param pageable pagination information
+     * @return page of pet responses with the specified status
+     */
+    @Query(value = "SELECT new com.petfriendly.backend.dto.response.PetResponse(" +
+                   "p.id, p.name, p.species, p.breed, p.age, p.gender, p.size, p.description, p.status, " +
+                   "p.foundation.id, p.createdAt, p.updatedAt) FROM Pet p WHERE p.status = :status",
+           countQuery = "SELECT COUNT(p) FROM Pet p WHERE p.status = :status")
+    Page<PetResponse> findResponsesByStatus(@Param("status") PetStatus status, Pageable pageable);
+
+    /**
+     * Find pets by status selected into {@link PetSummaryResponse}, skipping the description TEXT column
+     * @param status the pet status
+     * @param pageable pagination information
+     * @return page of pet summaries with the specified status
+     */
+    @Query(value = "SELECT new com.petfriendly.backend.dto.response.PetSummaryResponse(" +
+                   "p.id, p.name, p.species, p.breed, p.age, p.gender, p.size, p.status, " +
+                   "p.foundation.id, p.createdAt) FROM Pet p WHERE p.status = :status",
+           countQuery = "SELECT COUNT(p) FROM Pet p WHERE p.status = :status")
+    Page<PetSummaryResponse> findSummariesByStatus(@Param("status") PetStatus status, Pageable pageable);
+
     /**
      * Find pets by foundation and status
      * @param foundation the foundation
@@ -143,6 +226,51 @@ public interface PetRepository extends JpaRepository<Pet, UUID> {
     @Query("SELECT p FROM Pet p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     Page<Pet> findByNameContainingIgnoreCase(@Param("name") String name, Pageable pageable);
 
+    /**
+     * Ranked full-text search CTE shared by the search queries below.
+     * Score is ts_rank over the weighted search_vector plus a recency boost that halves after 30 days,
+     * measured from :asOf so that scores are stable while paging through one result set.
+     */
+    String FULL_TEXT_SEARCH_CTE =
+            "WITH q AS (SELECT websearch_to_tsquery('pets_es', :query) || websearch_to_tsquery('pets_en', :query) AS query), " +
+            "hits AS (SELECT p.id AS id, " +
+            "CAST(ts_rank(p.search_vector, q.query) AS double precision) + " +
+            "0.1 / (1 + GREATEST(CAST(EXTRACT(EPOCH FROM (CAST(:asOf AS timestamptz) - p.created_at)) AS double precision), 0) / 2592000.0) AS score " +
+            "FROM pets p CROSS JOIN q WHERE p.search_vector @@ q.query) ";
+
+    /**
+     * Full-text search over name, breed and description: first page, best matches first
+     * @param query the user search text (websearch syntax)
+     * @param asOf reference time for the recency boost
+     * @param limit maximum number of rows to fetch
+     * @return matching pet IDs with their score, ordered by score and ID descending
+     */
+    @Query(value = FULL_TEXT_SEARCH_CTE +
+            "SELECT id, score FROM hits ORDER BY score DESC, id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<PetSearchHit> searchFullText(@Param("query") String query,
+                                      @Param("asOf") Instant asOf,
+                                      @Param("limit") int limit);
+
+    /**
+     * Full-text search over name, breed and description: page following the given (score, id) position
+     * @param query the user search text (websearch syntax)
+     * @param asOf reference time for the recency boost, taken from the cursor
+     * @param score score of the last hit on the previous page
+     * @param id ID of the last hit on the previous page
+     * @param limit maximum number of rows to fetch
+     * @return matching pet IDs with their score, ordered by score and ID descending
+     */
+    @Query(value = FULL_TEXT_SEARCH_CTE +
+            "SELECT id, score FROM hits WHERE score < :score OR (score = :score AND id < :id) " +
+            "ORDER BY score DESC, id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<PetSearchHit> searchFullTextAfter(@Param("query") String query,
+                                           @Param("asOf") Instant asOf,
+                                           @Param("score") double score,
+                                           @Param("id") UUID id,
+                                           @Param("limit") int limit);
+
     /**
      * Find available pets in a specific city
      * @param city the city to search in
@@ -169,9 +297,94 @@ public interface PetRepository extends JpaRepository<Pet, UUID> {
     Page<Pet> findAvailablePetsWithFilters(@Param("species") PetSpecies species,
                                           @Param("size") PetSize size,
                                           @Param("gender") PetGender gender,
-                                          @Param("city") String city, 
+                                          @Param("city") String city,
                                           Pageable pageable);
 
+    /**
+     * Find available pets by multiple criteria as catalog cards, with the foundation and primary image
+     * joined in. The image join matches the partial (pet_id) WHERE is_primary index behind
+     * pet_images_one_primary_per_pet, so it yields at most one row per pet; the count skips it.
+     * @param species the pet species (optional)
+     * @param size the pet size (optional)
+     * @param gender the pet gender (optional)
+     * @param city the city (optional)
+     * @param pageable pagination information
+     * @return page of pet cards matching the criteria
+     */
+    @Query(value = "SELECT new com.petfriendly.backend.dto.response.PetCardResponse(" +
+                   "p.id, p.name, p.species, p.breed, p.age, p.gender, p.size, " +
+                   "f.id, f.name, f.city, pi.imageUrl, pi.thumbnailUrl, pi.mediumUrl, p.createdAt) " +
+                   "FROM Pet p JOIN p.foundation f " +
+                   "LEFT JOIN PetImage pi ON pi.pet = p AND pi.isPrimary = true WHERE " +
+                   "p.status = 'AVAILABLE' AND " +
+                   "(:species IS NULL OR p.species = :species) AND " +
+                   "(:size IS NULL OR p.size = :size) AND " +
+                   "(:gender IS NULL OR p.gender = :gender) AND " +
+                   "(:city IS NULL OR f.city = :city)",
+           countQuery = "SELECT COUNT(p) FROM Pet p JOIN p.foundation f WHERE " +
+                   "p.status = 'AVAILABLE' AND " +
+                   "(:species IS NULL OR p.species = :species) AND " +
+                   "(:size IS NULL OR p.size = :size) AND " +
+                   "(:gender IS NULL OR p.gender = :gender) AND " +
+                   "(:city IS NULL OR f.city = :city)")
+    Page<PetCardResponse> findAvailablePetCards(@Param("species") PetSpecies species,
+                                                @Param("size") PetSize size,
+                                                @Param("gender") PetGender gender,
+                                                @Param("city") String city,
+                                                Pageable pageable);
+
+    /**
+     * Count available pets per species, size, gender, foundation city and age bucket in a single
+     * GROUPING SETS aggregate. The optional filters narrow every facet, so counts reflect the current selection.
+     * The empty grouping set yields the overall total under facet {@code total}.
+     * @param species the pet species name (optional)
+     * @param size the pet size name (optional)
+     * @param gender the pet gender name (optional)
+     * @param city the city (optional)
+     * @return one row per facet value
+     */
+    @Query(value = "SELECT CASE WHEN GROUPING(species) = 0 THEN 'species' " +
+            "WHEN GROUPING(size) = 0 THEN 'size' " +
+            "WHEN GROUPING(gender) = 0 THEN 'gender' " +
+            "WHEN GROUPING(city) = 0 THEN 'city' " +
+            "WHEN GROUPING(age_bucket) = 0 THEN 'age' " +
+            "ELSE 'total' END AS facet, " +
+            "COALESCE(species, size, gender, city, age_bucket) AS value, " +
+            "COUNT(*) AS count " +
+            "FROM (SELECT p.species AS species, p.size AS size, p.gender AS gender, f.city AS city, " +
+            "CASE WHEN p.age IS NULL THEN 'UNKNOWN' " +
+            "WHEN p.age <= 1 THEN '0-1' " +
+            "WHEN p.age <= 3 THEN '2-3' " +
+            "WHEN p.age <= 7 THEN '4-7' " +
+            "ELSE '8+' END AS age_bucket " +
+            "FROM pets p JOIN foundations f ON f.id = p.foundation_id " +
+            "WHERE p.status = 'AVAILABLE' " +
+            "AND (CAST(:species AS varchar) IS NULL OR p.species = CAST(:species AS varchar)) " +
+            "AND (CAST(:size AS varchar) IS NULL OR p.size = CAST(:size AS varchar)) " +
+            "AND (CAST(:gender AS varchar) IS NULL OR p.gender = CAST(:gender AS varchar)) " +
+            "AND (CAST(:city AS varchar) IS NULL OR f.city = CAST(:city AS varchar))) available " +
+            "GROUP BY GROUPING SETS ((species), (size), (gender), (city), (age_bucket), ())",
+            nativeQuery = true)
+    List<PetFacetCount> countAvailableFacets(@Param("species") String species,
+                                             @Param("size") String size,
+                                             @Param("gender") String gender,
+                                             @Param("city") String city);
+
+    /**
+     * Find all available pets with their foundation fetched, used to warm up the in-memory index
+     * @return list of available pets
+     */
+    @Query("SELECT p FROM Pet p JOIN FETCH p.foundation WHERE p.status = 'AVAILABLE'")
+    List<Pet> findAvailableWithFoundation();
+
+    /**
+     * Find a foundation's available pets with the foundation fetched, used to re-index them
+     * @param foundationId the foundation ID
+     * @return list of available pets of the foundation
+     */
+    @Query("SELECT p FROM Pet p JOIN FETCH p.foundation f WHERE p.status = 'AVAILABLE' AND f.id = :foundationId")
+    List<Pet> findAvailableWithFoundationByFoundationId(@Param("foundationId") UUID foundationId);
+
     /**
      * Count pets by status
      * @param status the pet status
@@ -179,6 +392,22 @@ public interface PetRepository extends JpaRepository<Pet, UUID> {
      */
     long countByStatus(PetStatus status);
 
+    /**
+     * Count pets per status in a single aggregate
+     * @return one row per status that has at least one pet
+     */
+    @Query("SELECT p.status AS status, COUNT(p) AS count FROM Pet p GROUP BY p.status")
+    List<PetStatusCount> countGroupedByStatus();
+
+    /**
+     * Count a foundation's pets per status in a single aggregate
+     * @param foundationId the foundation ID
+     * @return one row per status that has at least one pet in the foundation
+     */
+    @Query("SELECT p.status AS status, COUNT(p) AS count FROM Pet p " +
+           "WHERE p.foundation.id = :foundationId GROUP BY p.status")
+    List<PetStatusCount> countGroupedByStatusForFoundation(@Param("foundationId") UUID foundationId);
+
     /**
      * Count pets by foundation
      * @param foundation the foundation
@@ -233,4 +462,26 @@ public interface PetRepository extends JpaRepository<Pet, UUID> {
      * @return page of pets within the age range
      */
     Page<Pet> findByAgeBetween(Integer minAge, Integer maxAge, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Load a pet and take a row lock on it for the rest of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Pet p WHERE p.id = :id")
+    Optional<Pet> findByIdForUpdate(@Param("id") UUID id);
+
+    /**
+     * Move a pet to {@code to} only if it is still in {@code from}, bumping its version and setting its
+     * adoption time ({@code null} unless {@code to} is ADOPTED).
+     * Clears the persistence context, so callers must treat loaded pets as detached afterwards.
+     * @return 1 if the transition was applied, 0 if the pet is gone or its status changed meanwhile
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Pet p SET p.status = :to, p.updatedAt = :now, p.adoptedAt = :adoptedAt, p.version = p.version + 1 " +
+           "WHERE p.id = :id AND p.status = :from")
+    int compareAndSetStatus(@Param("id") UUID id,
+                            @Param("from") PetStatus from,
+                            @Param("to") PetStatus to,
+                            @Param("now") LocalDateTime now,
+                            @Param("adoptedAt") LocalDateTime adoptedAt);
+}
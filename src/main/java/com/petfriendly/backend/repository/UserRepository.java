@@ -5,6 +5,8 @@ import com.petfriendly.backend.enums.Role;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.UUID;
@@ -34,4 +36,7 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     long countByRole(Role role);
 
     long countByActiveTrue();
+
+    @Query("SELECT u.securityStamp FROM User u WHERE u.id = :id AND u.active = true")
+    Optional<UUID> findActiveSecurityStampById(@Param("id") UUID id);
 }
@@ -0,0 +1,13 @@
+package com.petfriendly.backend.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Number of contact messages received on a given day, as returned by GROUP BY day aggregates
+ */
+public interface DailyMessageCount {
+
+    LocalDate getDay();
+
+    long getCount();
+}
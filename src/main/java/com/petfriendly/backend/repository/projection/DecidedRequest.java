@@ -0,0 +1,19 @@
+package com.petfriendly.backend.repository.projection;
+
+import com.petfriendly.backend.entity.AdoptionRequestStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Foundation, outcome and decision time of an approved or rejected adoption request, as counted by the
+ * monthly adoption rollup
+ */
+public interface DecidedRequest {
+
+    UUID getFoundationId();
+
+    AdoptionRequestStatus getStatus();
+
+    LocalDateTime getDecidedAt();
+}
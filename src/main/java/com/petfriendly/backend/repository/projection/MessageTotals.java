@@ -0,0 +1,11 @@
+package com.petfriendly.backend.repository.projection;
+
+/**
+ * Received and read contact messages summed over daily buckets
+ */
+public interface MessageTotals {
+
+    long getMessages();
+
+    long getReadMessages();
+}
@@ -0,0 +1,20 @@
+package com.petfriendly.backend.repository.projection;
+
+import com.petfriendly.backend.entity.AdoptionOutcome;
+import com.petfriendly.backend.entity.PetSpecies;
+
+import java.time.LocalDate;
+
+/**
+ * Number of adoption outcomes of one kind for a species in a month, as returned by rollup aggregates
+ */
+public interface MonthlyOutcomeCount {
+
+    LocalDate getMonthStart();
+
+    PetSpecies getSpecies();
+
+    AdoptionOutcome getOutcome();
+
+    long getCount();
+}
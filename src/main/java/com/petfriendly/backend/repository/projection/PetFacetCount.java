@@ -0,0 +1,13 @@
+package com.petfriendly.backend.repository.projection;
+
+/**
+ * One row of the grouped facet aggregate: facet name, facet value and number of matching pets
+ */
+public interface PetFacetCount {
+
+    String getFacet();
+
+    String getValue();
+
+    long getCount();
+}
@@ -0,0 +1,13 @@
+package com.petfriendly.backend.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Pet ID and relevance score returned by full-text search queries
+ */
+public interface PetSearchHit {
+
+    UUID getId();
+
+    double getScore();
+}
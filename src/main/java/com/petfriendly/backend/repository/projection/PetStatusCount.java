@@ -0,0 +1,13 @@
+package com.petfriendly.backend.repository.projection;
+
+import com.petfriendly.backend.entity.PetStatus;
+
+/**
+ * Number of pets with a given status, as returned by GROUP BY status aggregates
+ */
+public interface PetStatusCount {
+
+    PetStatus getStatus();
+
+    long getCount();
+}
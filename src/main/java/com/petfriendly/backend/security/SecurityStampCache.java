@@ -0,0 +1,72 @@
+package com.petfriendly.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.petfriendly.backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * In-memory view of each user's current security stamp, used to accept or reject JWTs without
+ * touching the database on every request.
+ * <p>
+ * Inactive and deleted users are cached as an empty stamp, so their tokens are rejected just as
+ * cheaply. Local writes evict after commit; the TTL bounds how long another instance can keep
+ * accepting a revoked token.
+ */
+@Component
+public class SecurityStampCache {
+
+    private static final Logger log = LoggerFactory.getLogger(SecurityStampCache.class);
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, Optional<UUID>> stamps;
+
+    public SecurityStampCache(UserRepository userRepository,
+                              @Value("${app.jwt.stamp-cache.ttl:5m}") Duration ttl,
+                              @Value("${app.jwt.stamp-cache.maximum-size:10000}") long maximumSize) {
+        this.userRepository = userRepository;
+        this.stamps = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Whether the given stamp is the current one for an active user.
+     * Only a cache miss reaches the database.
+     */
+    public boolean isCurrent(UUID userId, UUID stamp) {
+        Optional<UUID> current = stamps.get(userId, userRepository::findActiveSecurityStampById);
+        return current.isPresent() && current.get().equals(stamp);
+    }
+
+    /**
+     * Drop the cached stamp for a user once the surrounding transaction commits.
+     */
+    public void evict(UUID userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userId);
+                }
+            });
+        } else {
+            invalidate(userId);
+        }
+    }
+
+    private void invalidate(UUID userId) {
+        stamps.invalidate(userId);
+        log.debug("Evicted security stamp for user: {}", userId);
+    }
+}
@@ -4,16 +4,12 @@ import com.petfriendly.backend.entity.User;
 import com.petfriendly.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collection;
-import java.util.Collections;
 import java.util.UUID;
 
 /**
@@ -49,77 +45,4 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
         return UserPrincipal.create(user);
     }
-
-    /**
-     * UserPrincipal inner class for Spring Security integration
-     */
-    public static class UserPrincipal implements UserDetails {
-        private final String id;
-        private final String email;
-        private final String password;
-        private final boolean active;
-        private final Collection<? extends GrantedAuthority> authorities;
-
-        public UserPrincipal(String id, String email, String password, boolean active, 
-                            Collection<? extends GrantedAuthority> authorities) {
-            this.id = id;
-            this.email = email;
-            this.password = password;
-            this.active = active;
-            this.authorities = authorities;
-        }
-
-        public static UserPrincipal create(User user) {
-            Collection<GrantedAuthority> authorities = Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-            );
-
-            return new UserPrincipal(
-                user.getId().toString(),
-                user.getEmail(),
-                user.getPassword(),
-                user.isActive(),
-                authorities
-            );
-        }
-
-        public String getId() {
-            return id;
-        }
-
-        @Override
-        public String getUsername() {
-            return email;
-        }
-
-        @Override
-        public String getPassword() {
-            return password;
-        }
-
-        @Override
-        public Collection<? extends GrantedAuthority> getAuthorities() {
-            return authorities;
-        }
-
-        @Override
-        public boolean isAccountNonExpired() {
-            return true;
-        }
-
-        @Override
-        public boolean isAccountNonLocked() {
-            return true;
-        }
-
-        @Override
-        public boolean isCredentialsNonExpired() {
-            return true;
-        }
-
-        @Override
-        public boolean isEnabled() {
-            return active;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -27,16 +27,13 @@ public class UserPrincipal implements UserDetails {
     private String lastName;
     private Role role;
     private Boolean active;
+    private UUID securityStamp;
     private Collection<? extends GrantedAuthority> authorities;
 
     /**
      * Create UserPrincipal from User entity
      */
     public static UserPrincipal create(User user) {
-        Collection<GrantedAuthority> authorities = Collections.singletonList(
-            new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-        );
-
         return new UserPrincipal(
             user.getId(),
             user.getEmail(),
@@ -45,10 +42,23 @@ public class UserPrincipal implements UserDetails {
             user.getLastName(),
             user.getRole(),
             user.getActive(),
-            authorities
+            user.getSecurityStamp(),
+            authoritiesFor(user.getRole())
         );
     }
 
+    /**
+     * Create UserPrincipal from verified JWT claims, without loading the User entity.
+     * Password and names are not carried in the token and are left null.
+     */
+    public static UserPrincipal fromClaims(UUID id, String email, Role role, UUID securityStamp) {
+        return new UserPrincipal(id, email, null, null, null, role, true, securityStamp, authoritiesFor(role));
+    }
+
+    private static Collection<GrantedAuthority> authoritiesFor(Role role) {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
     @Override
     public String getUsername() {
         return email;
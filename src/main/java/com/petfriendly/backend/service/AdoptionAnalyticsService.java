@@ -0,0 +1,97 @@
+package com.petfriendly.backend.service;
+
+import com.petfriendly.backend.entity.AdoptionRequestStatus;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for adoption review analytics: review latency percentiles and outcome rates
+ * per foundation and month
+ */
+public interface AdoptionAnalyticsService {
+
+    /**
+     * Record a review decision on a pending request once the surrounding transaction commits
+     * @param foundationId the foundation of the request
+     * @param outcome the status the request moved to
+     * @param createdAt when the request was submitted
+     * @param reviewedAt when the decision was taken
+     */
+    void recordDecision(UUID foundationId, AdoptionRequestStatus outcome, LocalDateTime createdAt, LocalDateTime reviewedAt);
+
+    /**
+     * Merge the decisions recorded in memory since the last flush into the persisted monthly rows
+     * @return number of foundation months written
+     */
+    int flush();
+
+    /**
+     * Review analytics of a foundation for each month in a range, and for the range as a whole
+     * @param foundationId the foundation ID
+     * @param from first month, inclusive
+     * @param to last month, inclusive
+     * @return the analytics; months without decisions are omitted from the monthly list
+     */
+    ReviewAnalytics getReviewAnalytics(UUID foundationId, YearMonth from, YearMonth to);
+
+    /**
+     * Review analytics of a range and of each month in it
+     */
+    class ReviewAnalytics {
+        private final ReviewPeriod overall;
+        private final List<ReviewPeriod> months;
+
+        public ReviewAnalytics(ReviewPeriod overall, List<ReviewPeriod> months) {
+            this.overall = overall;
+            this.months = months;
+        }
+
+        public ReviewPeriod getOverall() { return overall; }
+        public List<ReviewPeriod> getMonths() { return months; }
+    }
+
+    /**
+     * Review outcomes and latency percentiles of one period. Latencies are in seconds from submission
+     * to decision and are null when the period has no decisions.
+     */
+    class ReviewPeriod {
+        private final YearMonth from;
+        private final YearMonth to;
+        private final long approved;
+        private final long rejected;
+        private final long cancelled;
+        private final Double approvalRate;
+        private final Long reviewLatencyP50Seconds;
+        private final Long reviewLatencyP90Seconds;
+        private final Long reviewLatencyP99Seconds;
+
+        public ReviewPeriod(YearMonth from, YearMonth to, long approved, long rejected, long cancelled,
+                            Double approvalRate, Long reviewLatencyP50Seconds, Long reviewLatencyP90Seconds,
+                            Long reviewLatencyP99Seconds) {
+            this.from = from;
+            this.to = to;
+            this.approved = approved;
+            this.rejected = rejected;
+            this.cancelled = cancelled;
+            this.approvalRate = approvalRate;
+            this.reviewLatencyP50Seconds = reviewLatencyP50Seconds;
+            this.reviewLatencyP90Seconds = reviewLatencyP90Seconds;
+            this.reviewLatencyP99Seconds = reviewLatencyP99Seconds;
+        }
+
+        public YearMonth getFrom() { return from; }
+        public YearMonth getTo() { return to; }
+        public long getApproved() { return approved; }
+        public long getRejected() { return rejected; }
+        public long getCancelled() { return cancelled; }
+        public long getDecided() { return approved + rejected + cancelled; }
+        /** Share of approvals among approved and rejected requests; null when neither happened */
+        public Double getApprovalRate() { return approvalRate; }
+        public Long getReviewLatencyP50Seconds() { return reviewLatencyP50Seconds; }
+        public Long getReviewLatencyP90Seconds() { return reviewLatencyP90Seconds; }
+        public Long getReviewLatencyP99Seconds() { return reviewLatencyP99Seconds; }
+    }
+}
@@ -0,0 +1,75 @@
+package com.petfriendly.backend.service;
+
+import com.petfriendly.backend.entity.AdoptionOutcome;
+import com.petfriendly.backend.entity.PetSpecies;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for monthly adoption reports served from the adoption outcome rollup
+ */
+public interface AdoptionReportService {
+
+    /**
+     * Adoption outcomes per month and species
+     * @param foundationId the foundation ID, or null for all foundations
+     * @param from first month, inclusive
+     * @param to last month, inclusive
+     * @return one entry per month and species with at least one outcome, ordered by month then species
+     */
+    List<MonthlyAdoptionReport> getMonthlyReport(UUID foundationId, YearMonth from, YearMonth to);
+
+    /**
+     * Count {@code delta} more outcomes of a foundation and pet species in a month, creating the rollup
+     * cell if needed. Joins the caller's transaction, so the count commits with the change it counts.
+     */
+    void recordOutcome(UUID foundationId, PetSpecies species, AdoptionOutcome outcome, YearMonth month, long delta);
+
+    /**
+     * Same as {@link #recordOutcome} for the species of a pet of the foundation, read in the same statements
+     */
+    void recordOutcomeForPet(UUID foundationId, UUID petId, AdoptionOutcome outcome, YearMonth month, long delta);
+
+    /**
+     * Move the approved and rejected requests of a pet from its previous species to its new one, or drop
+     * them from the rollup when {@code to} is null because the pet and its requests are being deleted.
+     * Call it before the change, in the same transaction.
+     */
+    void movePetRequestOutcomes(UUID petId, PetSpecies from, PetSpecies to);
+
+    /**
+     * Recompute the rollup from adoption requests and pets, e.g. after manual data fixes. The result equals
+     * what the write paths keep: decided requests in the month they were reviewed and pets currently
+     * adopted in the month they were adopted, both under the pet's current species.
+     * @return number of rollup cells written
+     */
+    int rebuildMonthlyRollup();
+
+    /**
+     * Adoption outcomes of one species in one month
+     */
+    class MonthlyAdoptionReport {
+        private final YearMonth month;
+        private final PetSpecies species;
+        private long approvedRequests;
+        private long rejectedRequests;
+        private long adoptedPets;
+
+        public MonthlyAdoptionReport(YearMonth month, PetSpecies species) {
+            this.month = month;
+            this.species = species;
+        }
+
+        public YearMonth getMonth() { return month; }
+        public PetSpecies getSpecies() { return species; }
+        public long getApprovedRequests() { return approvedRequests; }
+        public long getRejectedRequests() { return rejectedRequests; }
+        public long getAdoptedPets() { return adoptedPets; }
+
+        public void setApprovedRequests(long approvedRequests) { this.approvedRequests = approvedRequests; }
+        public void setRejectedRequests(long rejectedRequests) { this.rejectedRequests = rejectedRequests; }
+        public void setAdoptedPets(long adoptedPets) { this.adoptedPets = adoptedPets; }
+    }
+}
@@ -1,8 +1,11 @@
 package com.petfriendly.backend.service;
 
+import com.petfriendly.backend.dto.response.AdoptionRequestResponse;
+import com.petfriendly.backend.dto.response.AdoptionRequestSummaryResponse;
 import com.petfriendly.backend.entity.AdoptionRequest;
 import com.petfriendly.backend.entity.AdoptionRequestStatus;
 import com.petfriendly.backend.entity.Pet;
+import com.petfriendly.backend.entity.PetStatus;
 import com.petfriendly.backend.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -17,6 +20,8 @@ public interface AdoptionRequestService {
     // Creation & updates
     AdoptionRequest createAdoptionRequest(AdoptionRequest adoptionRequest);
 
+    AdoptionRequest submitAdoptionRequest(UUID userId, UUID petId, String message, String experience, String livingSituation);
+
     AdoptionRequest updateAdoptionRequest(UUID id, AdoptionRequest adoptionRequest);
 
     AdoptionRequest updateStatus(UUID id, AdoptionRequestStatus status, String reviewNotes);
@@ -64,6 +69,17 @@ public interface AdoptionRequestService {
 
     Page<AdoptionRequest> findByDateRange(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
 
+    // Read-only listings (no entity hydration)
+    Page<AdoptionRequestResponse> findAllResponses(Pageable pageable);
+
+    Page<AdoptionRequestResponse> findResponsesByStatus(AdoptionRequestStatus status, Pageable pageable);
+
+    Page<AdoptionRequestResponse> findResponsesByUserId(UUID userId, Pageable pageable);
+
+    Page<AdoptionRequestResponse> findResponsesByPetId(UUID petId, Pageable pageable);
+
+    Page<AdoptionRequestSummaryResponse> findSummariesByStatus(AdoptionRequestStatus status, Pageable pageable);
+
     // Counters
     long count();
 
@@ -89,6 +105,8 @@ public interface AdoptionRequestService {
     boolean hasPendingRequests(UUID userId);
 
     // Status transitions
+    AdoptionApproval approveAdoption(UUID id, String reviewNotes);
+
     AdoptionRequest approveRequest(UUID id, String reviewNotes);
 
     AdoptionRequest approveRequest(UUID id);
@@ -99,7 +117,14 @@ public interface AdoptionRequestService {
 
     AdoptionRequest cancelRequest(UUID id);
 
+    // Review queue
+    ReviewClaim claimNextRequests(UUID foundationId, UUID reviewerId, int limit);
+
+    int releaseClaims(UUID reviewerId);
+
     // Lifecycle
+    int expirePendingRequests(LocalDateTime createdBefore, int batchSize);
+
     void deleteById(UUID id);
 
     boolean existsById(UUID id);
@@ -113,6 +138,48 @@ public interface AdoptionRequestService {
 
     AdoptionRequestStatistics getStatisticsByPet(UUID petId);
 
+    class ReviewClaim {
+        private final List<AdoptionRequest> requests;
+        private final LocalDateTime leaseExpiresAt;
+
+        public ReviewClaim(List<AdoptionRequest> requests, LocalDateTime leaseExpiresAt) {
+            this.requests = requests;
+            this.leaseExpiresAt = leaseExpiresAt;
+        }
+
+        public List<AdoptionRequest> getRequests() {
+            return requests;
+        }
+
+        public LocalDateTime getLeaseExpiresAt() {
+            return leaseExpiresAt;
+        }
+    }
+
+    class AdoptionApproval {
+        private final AdoptionRequest approvedRequest;
+        private final PetStatus petStatus;
+        private final int rejectedRequests;
+
+        public AdoptionApproval(AdoptionRequest approvedRequest, PetStatus petStatus, int rejectedRequests) {
+            this.approvedRequest = approvedRequest;
+            this.petStatus = petStatus;
+            this.rejectedRequests = rejectedRequests;
+        }
+
+        public AdoptionRequest getApprovedRequest() {
+            return approvedRequest;
+        }
+
+        public PetStatus getPetStatus() {
+            return petStatus;
+        }
+
+        public int getRejectedRequests() {
+            return rejectedRequests;
+        }
+    }
+
     class AdoptionRequestStatistics {
         private final long totalRequests;
         private final long pendingRequests;
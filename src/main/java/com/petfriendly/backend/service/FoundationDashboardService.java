@@ -0,0 +1,56 @@
+package com.petfriendly.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface assembling the foundation admin dashboard
+ */
+public interface FoundationDashboardService {
+
+    /**
+     * Gather every statistics block of a foundation's dashboard concurrently
+     * @param foundationId the foundation ID
+     * @return the dashboard; blocks that failed or missed the deadline are null and listed as unavailable
+     * @throws IllegalArgumentException if the foundation does not exist
+     */
+    FoundationDashboard getDashboard(UUID foundationId);
+
+    /**
+     * Inner class for the assembled dashboard
+     */
+    class FoundationDashboard {
+        private final UUID foundationId;
+        private final FoundationService.FoundationStatistics foundation;
+        private final PetService.PetStatistics pets;
+        private final AdoptionRequestService.AdoptionRequestStatistics adoptionRequests;
+        private final ContactMessageService.ContactMessageStatistics contactMessages;
+        private final List<String> unavailableSections;
+        private final LocalDateTime generatedAt;
+
+        public FoundationDashboard(UUID foundationId,
+                                   FoundationService.FoundationStatistics foundation,
+                                   PetService.PetStatistics pets,
+                                   AdoptionRequestService.AdoptionRequestStatistics adoptionRequests,
+                                   ContactMessageService.ContactMessageStatistics contactMessages,
+                                   List<String> unavailableSections,
+                                   LocalDateTime generatedAt) {
+            this.foundationId = foundationId;
+            this.foundation = foundation;
+            this.pets = pets;
+            this.adoptionRequests = adoptionRequests;
+            this.contactMessages = contactMessages;
+            this.unavailableSections = unavailableSections;
+            this.generatedAt = generatedAt;
+        }
+
+        public UUID getFoundationId() { return foundationId; }
+        public FoundationService.FoundationStatistics getFoundation() { return foundation; }
+        public PetService.PetStatistics getPets() { return pets; }
+        public AdoptionRequestService.AdoptionRequestStatistics getAdoptionRequests() { return adoptionRequests; }
+        public ContactMessageService.ContactMessageStatistics getContactMessages() { return contactMessages; }
+        public List<String> getUnavailableSections() { return unavailableSections; }
+        public LocalDateTime getGeneratedAt() { return generatedAt; }
+    }
+}
@@ -1,5 +1,7 @@
 package com.petfriendly.backend.service;
 
+import com.petfriendly.backend.dto.response.FoundationResponse;
+import com.petfriendly.backend.dto.response.FoundationSummaryResponse;
 import com.petfriendly.backend.entity.Foundation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -49,6 +51,27 @@ public interface FoundationService {
      */
     Page<Foundation> findAll(Pageable pageable);
 
+    /**
+     * Find foundation by ID as a read-only response, served from the foundation cache when possible
+     * @param id the foundation ID
+     * @return optional containing the foundation response if found
+     */
+    Optional<FoundationResponse> findResponseById(UUID id);
+
+    /**
+     * Find all foundations as read-only responses, without loading managed entities
+     * @param pageable pagination information
+     * @return page of foundation responses
+     */
+    Page<FoundationResponse> findAllResponses(Pageable pageable);
+
+    /**
+     * Find all foundations as summaries that omit description and contact details
+     * @param pageable pagination information
+     * @return page of foundation summaries
+     */
+    Page<FoundationSummaryResponse> findAllSummaries(Pageable pageable);
+
     /**
      * Find all foundations
      * @return list of all foundations
@@ -269,6 +292,21 @@ public interface FoundationService {
      */
     FoundationStatistics getFoundationStatistics(UUID id);
 
+    /**
+     * Get foundation statistics from pet statistics the caller already computed for the foundation
+     * @param id the foundation ID
+     * @param petStatistics the foundation's pet statistics
+     * @return foundation statistics including pet counts
+     */
+    FoundationStatistics getFoundationStatistics(UUID id, PetService.PetStatistics petStatistics);
+
+    /**
+     * Recompute the available pet, pending request and unread message counters of every foundation
+     * from the source tables
+     * @return the number of foundations whose counters had drifted and were repaired
+     */
+    int reconcileCounters();
+
     /**
      * Inner class for foundation statistics
      */
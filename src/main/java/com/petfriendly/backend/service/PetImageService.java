@@ -59,7 +59,7 @@ public interface PetImageService {
     /**
      * Find pet images by pet ID
      * @param petId the pet ID
-     * @return list of pet images for the pet
+     * @return list of pet images for the pet, in gallery order
      */
     List<PetImage> findByPetId(UUID petId);
 
@@ -183,6 +183,14 @@ public interface PetImageService {
      */
     PetImage setPrimaryImage(UUID petImageId);
 
+    /**
+     * Set the gallery order of a pet's images
+     * @param petId the pet ID
+     * @param orderedImageIds images of the pet in display order; images left out follow them in their current order
+     * @throws IllegalArgumentException if an ID is repeated or is not an image of the pet
+     */
+    void reorderImages(UUID petId, List<UUID> orderedImageIds);
+
     /**
      * Delete pet image by ID
      * @param id the pet image ID
@@ -0,0 +1,101 @@
+package com.petfriendly.backend.service;
+
+import com.petfriendly.backend.entity.PetImage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Service interface for resumable, chunked pet image uploads.
+ * <p>
+ * An upload is started with its total size, receives chunks at increasing offsets and is committed once
+ * complete, which stores the image and creates its {@link PetImage}. A client whose connection dropped
+ * asks for the upload status and resumes from the returned offset.
+ */
+public interface PetImageUploadService {
+
+    /**
+     * Start an upload
+     * @param petId the pet the image will belong to
+     * @param size total size of the image in bytes
+     * @param sha256 hex SHA-256 of the whole image, verified on commit; null to skip verification
+     * @param altText alt text of the image
+     * @param primary whether the image becomes the pet's primary image
+     * @return the new upload, at offset 0
+     * @throws java.util.NoSuchElementException if the pet does not exist
+     * @throws IllegalArgumentException if the size is not positive or exceeds the image size limit
+     */
+    UploadStatus startUpload(UUID petId, long size, String sha256, String altText, boolean primary) throws IOException;
+
+    /**
+     * Append a chunk, streaming it straight to disk
+     * @param uploadId the upload ID
+     * @param offset where the chunk starts; must equal the upload's current offset
+     * @param chunk the chunk bytes; read to the end or to the declared size
+     * @return the upload after the chunk
+     * @throws java.util.NoSuchElementException if the upload does not exist or expired
+     * @throws IllegalStateException if the offset is not the current one or another chunk is being written
+     * @throws IllegalArgumentException if the chunk runs past the declared size
+     */
+    UploadStatus writeChunk(UUID uploadId, long offset, InputStream chunk) throws IOException;
+
+    /**
+     * Current state of an upload, used to resume it
+     * @throws java.util.NoSuchElementException if the upload does not exist or expired
+     */
+    UploadStatus getStatus(UUID uploadId) throws IOException;
+
+    /**
+     * Store a complete upload and create its pet image
+     * @param uploadId the upload ID
+     * @return the created pet image
+     * @throws java.util.NoSuchElementException if the upload does not exist or expired
+     * @throws IllegalStateException if bytes are still missing
+     * @throws IllegalArgumentException if the content fails the checksum or is not a supported image;
+     *         the upload is discarded
+     */
+    PetImage commitUpload(UUID uploadId) throws IOException;
+
+    /**
+     * Discard an upload and its bytes
+     * @throws java.util.NoSuchElementException if the upload does not exist or expired
+     */
+    void abortUpload(UUID uploadId) throws IOException;
+
+    /**
+     * Discard uploads idle for longer than the upload TTL, and upload files no longer tracked
+     * (left behind by a restart)
+     * @return number of uploads and files removed
+     */
+    int expireStaleUploads();
+
+    /**
+     * Progress of an upload
+     */
+    class UploadStatus {
+        private final UUID uploadId;
+        private final UUID petId;
+        private final long size;
+        private final long offset;
+        private final LocalDateTime expiresAt;
+
+        public UploadStatus(UUID uploadId, UUID petId, long size, long offset, LocalDateTime expiresAt) {
+            this.uploadId = uploadId;
+            this.petId = petId;
+            this.size = size;
+            this.offset = offset;
+            this.expiresAt = expiresAt;
+        }
+
+        public UUID getUploadId() { return uploadId; }
+        public UUID getPetId() { return petId; }
+        public long getSize() { return size; }
+        /** Bytes received so far; the next chunk starts here */
+        public long getOffset() { return offset; }
+        public boolean isComplete() { return offset == size; }
+        /** When the upload is discarded if no further chunk arrives */
+        public LocalDateTime getExpiresAt() { return expiresAt; }
+    }
+}
@@ -1,5 +1,9 @@
 package com.petfriendly.backend.service;
 
+import com.petfriendly.backend.dto.response.CursorPage;
+import com.petfriendly.backend.dto.response.PetCardResponse;
+import com.petfriendly.backend.dto.response.PetResponse;
+import com.petfriendly.backend.dto.response.PetSummaryResponse;
 import com.petfriendly.backend.entity.Pet;
 import com.petfriendly.backend.entity.PetSpecies;
 import com.petfriendly.backend.entity.PetStatus;
@@ -10,6 +14,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -40,6 +45,13 @@ public interface PetService {
      */
     Optional<Pet> findById(UUID id);
 
+    /**
+     * Find pet by ID as a read-only response, served from the pet cache when possible
+     * @param id the pet ID
+     * @return optional containing the pet response if found
+     */
+    Optional<PetResponse> findResponseById(UUID id);
+
     /**
      * Find all pets with pagination
      * @param pageable pagination information
@@ -62,6 +74,38 @@ public interface PetService {
      */
     Page<Pet> findByStatus(PetStatus status, Pageable pageable);
 
+    /**
+     * Find all pets as read-only responses, without loading managed entities
+     * @param pageable pagination information
+     * @return page of pet responses
+     */
+    Page<PetResponse> findAllResponses(Pageable pageable);
+
+    /**
+     * Find pets by status as read-only responses, without loading managed entities
+     * @param status the pet status
+     * @param pageable pagination information
+     * @return page of pet responses with the specified status
+     */
+    Page<PetResponse> findResponsesByStatus(PetStatus status, Pageable pageable);
+
+    /**
+     * Find pets by status as summaries that omit the description text
+     * @param status the pet status
+     * @param pageable pagination information
+     * @return page of pet summaries with the specified status
+     */
+    Page<PetSummaryResponse> findSummariesByStatus(PetStatus status, Pageable pageable);
+
+    /**
+     * Find pets by status using keyset pagination (newest first, no total count)
+     * @param status the pet status
+     * @param cursor opaque cursor returned by the previous page, or null for the first page
+     * @param size maximum number of pets to return
+     * @return cursor page of pets with the specified status
+     */
+    CursorPage<Pet> findByStatus(PetStatus status, String cursor, int size);
+
     /**
      * Find pets by species
      * @param species the pet species
@@ -134,6 +178,23 @@ public interface PetService {
      */
     Page<Pet> findAvailableForAdoption(Pageable pageable);
 
+    /**
+     * Find available pets for adoption using keyset pagination (newest first, no total count)
+     * @param cursor opaque cursor returned by the previous page, or null for the first page
+     * @param size maximum number of pets to return
+     * @return cursor page of available pets
+     */
+    CursorPage<Pet> findAvailableForAdoption(String cursor, int size);
+
+    /**
+     * Full-text search over name, breed and description, ranked by relevance and recency
+     * @param query the search text
+     * @param cursor opaque cursor returned by the previous page, or null for the first page
+     * @param size maximum number of pets to return
+     * @return cursor page of matching pets, best matches first
+     */
+    CursorPage<Pet> searchFullText(String query, String cursor, int size);
+
     /**
      * Find pets by name containing search term
      * @param name the name search term
@@ -250,6 +311,29 @@ public interface PetService {
     Page<Pet> findAvailablePetsWithFilters(PetSpecies species, PetSize size, 
                                          PetGender gender, String city, Pageable pageable);
 
+    /**
+     * Get facet counts of available pets for the given filters
+     * @param species the pet species (optional)
+     * @param size the pet size (optional)
+     * @param gender the pet gender (optional)
+     * @param city the city (optional)
+     * @return counts per species, size, gender, city and age bucket
+     */
+    PetFacets getAvailablePetFacets(PetSpecies species, PetSize size, PetGender gender, String city);
+
+    /**
+     * Find available pets with filters as catalog cards, each carrying its foundation name and city and its
+     * primary image URLs, loaded in a single query
+     * @param species the pet species (optional)
+     * @param size the pet size (optional)
+     * @param gender the pet gender (optional)
+     * @param city the city (optional)
+     * @param pageable pagination information
+     * @return page of filtered available pet cards
+     */
+    Page<PetCardResponse> findAvailablePetCards(PetSpecies species, PetSize size,
+                                                PetGender gender, String city, Pageable pageable);
+
     /**
      * Count pets by status
      * @param status the pet status
@@ -323,6 +407,35 @@ public interface PetService {
      */
     PetStatistics getPetStatistics(UUID foundationId);
 
+    /**
+     * Inner class for catalog facet counts
+     */
+    class PetFacets {
+        private final long total;
+        private final Map<String, Long> species;
+        private final Map<String, Long> sizes;
+        private final Map<String, Long> genders;
+        private final Map<String, Long> cities;
+        private final Map<String, Long> ageBuckets;
+
+        public PetFacets(long total, Map<String, Long> species, Map<String, Long> sizes,
+                         Map<String, Long> genders, Map<String, Long> cities, Map<String, Long> ageBuckets) {
+            this.total = total;
+            this.species = species;
+            this.sizes = sizes;
+            this.genders = genders;
+            this.cities = cities;
+            this.ageBuckets = ageBuckets;
+        }
+
+        public long getTotal() { return total; }
+        public Map<String, Long> getSpecies() { return species; }
+        public Map<String, Long> getSizes() { return sizes; }
+        public Map<String, Long> getGenders() { return genders; }
+        public Map<String, Long> getCities() { return cities; }
+        public Map<String, Long> getAgeBuckets() { return ageBuckets; }
+    }
+
     /**
      * Inner class for pet statistics
      */
@@ -0,0 +1,124 @@
+package com.petfriendly.backend.service.analytics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mergeable quantile sketch over non-negative values with a bounded relative error.
+ * <p>
+ * Values are counted in logarithmic bins whose bounds grow by a factor of {@code (1 + a) / (1 - a)},
+ * so any quantile is answered within {@value #RELATIVE_ACCURACY} relative error of the true value.
+ * Values below {@value #MIN_VALUE} share one bin. Merging two sketches adds their bins, so monthly
+ * sketches can be combined without the raw values, and the number of bins only grows with the
+ * logarithm of the value range (about 900 bins between one second and one year).
+ * <p>
+ * Not thread-safe; callers serialize access.
+ */
+public final class QuantileSketch {
+
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double MIN_VALUE = 1.0;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final byte FORMAT_VERSION = 1;
+
+    private final TreeMap<Integer, Long> bins = new TreeMap<>();
+    private long lowCount;
+    private long count;
+
+    public void add(double value) {
+        if (value < MIN_VALUE) {
+            lowCount++;
+        } else {
+            bins.merge((int) Math.ceil(Math.log(value) / LOG_GAMMA), 1L, Long::sum);
+        }
+        count++;
+    }
+
+    public void merge(QuantileSketch other) {
+        other.bins.forEach((index, binCount) -> bins.merge(index, binCount, Long::sum));
+        lowCount += other.lowCount;
+        count += other.count;
+    }
+
+    public QuantileSketch copy() {
+        QuantileSketch copy = new QuantileSketch();
+        copy.merge(this);
+        return copy;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Estimate the value at quantile {@code q}
+     * @param q quantile between 0 and 1
+     * @return the estimate, or null when the sketch is empty
+     */
+    public Double quantile(double q) {
+        if (count == 0) {
+            return null;
+        }
+        long rank = (long) Math.floor(Math.min(Math.max(q, 0.0), 1.0) * (count - 1));
+        long seen = lowCount;
+        if (rank < seen) {
+            return 0.0;
+        }
+        for (Map.Entry<Integer, Long> bin : bins.entrySet()) {
+            seen += bin.getValue();
+            if (rank < seen) {
+                // Midpoint of the bin (gamma^(i-1), gamma^i] in relative terms
+                return 2 * Math.pow(GAMMA, bin.getKey()) / (GAMMA + 1);
+            }
+        }
+        return 2 * Math.pow(GAMMA, bins.lastKey()) / (GAMMA + 1);
+    }
+
+    public byte[] toBytes() {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(16 + bins.size() * 12);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(lowCount);
+            out.writeInt(bins.size());
+            for (Map.Entry<Integer, Long> bin : bins.entrySet()) {
+                out.writeInt(bin.getKey());
+                out.writeLong(bin.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public static QuantileSketch fromBytes(byte[] bytes) {
+        QuantileSketch sketch = new QuantileSketch();
+        if (bytes == null || bytes.length == 0) {
+            return sketch;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported quantile sketch format: " + version);
+            }
+            sketch.lowCount = in.readLong();
+            sketch.count = sketch.lowCount;
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                int index = in.readInt();
+                long binCount = in.readLong();
+                sketch.bins.put(index, binCount);
+                sketch.count += binCount;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sketch;
+    }
+}
@@ -0,0 +1,244 @@
+package com.petfriendly.backend.service.impl;
+
+import com.petfriendly.backend.entity.AdoptionRequestStatus;
+import com.petfriendly.backend.entity.AdoptionReviewMonthlyStats;
+import com.petfriendly.backend.repository.AdoptionReviewMonthlyStatsRepository;
+import com.petfriendly.backend.service.AdoptionAnalyticsService;
+import com.petfriendly.backend.service.analytics.QuantileSketch;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of {@link AdoptionAnalyticsService} that accumulates review decisions in memory and
+ * periodically merges them into one row per foundation and month.
+ * <p>
+ * Each row holds the outcome counts and a {@link QuantileSketch} of review latencies, so a month is read
+ * with one primary-key lookup and a range is a merge of at most {@code max-months} sketches, however many
+ * requests were reviewed. Reads include decisions not flushed yet, including those a flush is still
+ * writing; a read that overlaps the commit of a flush may miss or double count that flush's decisions.
+ * Decisions of a failed flush are put back and retried up to {@code max-flush-attempts} times, and dropped
+ * at once when the row itself is rejected (e.g. the foundation was deleted); decisions still in memory
+ * when an instance is killed are lost.
+ */
+@Slf4j
+@Service
+public class AdoptionAnalyticsServiceImpl implements AdoptionAnalyticsService {
+
+    private final AdoptionReviewMonthlyStatsRepository statsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<MonthKey, MonthTotals> pending = new ConcurrentHashMap<>();
+    private final Map<MonthKey, MonthTotals> flushing = new ConcurrentHashMap<>();
+    private final Map<MonthKey, Integer> failedFlushes = new ConcurrentHashMap<>();
+
+    @Value("${app.adoption-analytics.max-months:24}")
+    private int maxMonths;
+
+    @Value("${app.adoption-analytics.max-flush-attempts:5}")
+    private int maxFlushAttempts;
+
+    public AdoptionAnalyticsServiceImpl(AdoptionReviewMonthlyStatsRepository statsRepository,
+                                        PlatformTransactionManager transactionManager) {
+        this.statsRepository = statsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void recordDecision(UUID foundationId, AdoptionRequestStatus outcome, LocalDateTime createdAt,
+                               LocalDateTime reviewedAt) {
+        MonthKey key = new MonthKey(foundationId, YearMonth.from(reviewedAt));
+        long latencySeconds = Math.max(0, Duration.between(createdAt, reviewedAt).toSeconds());
+        Runnable record = () -> pending.compute(key, (k, totals) -> {
+            MonthTotals updated = totals != null ? totals : new MonthTotals();
+            updated.add(outcome, latencySeconds);
+            return updated;
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record.run();
+                }
+            });
+        } else {
+            record.run();
+        }
+    }
+
+    @Override
+    public int flush() {
+        int written = 0;
+        for (MonthKey key : List.copyOf(pending.keySet())) {
+            // Removing under the map's lock guarantees no decision is added to totals being written
+            MonthTotals delta = pending.remove(key);
+            if (delta == null) {
+                continue;
+            }
+            flushing.put(key, delta);
+            try {
+                transactionTemplate.executeWithoutResult(status -> mergeInto(key, delta));
+                failedFlushes.remove(key);
+                written++;
+            } catch (DataIntegrityViolationException e) {
+                failedFlushes.remove(key);
+                log.error("Dropping review analytics of foundation {} for {}: the row was rejected", key.foundationId(), key.month(), e);
+            } catch (RuntimeException e) {
+                int attempts = failedFlushes.merge(key, 1, Integer::sum);
+                if (attempts >= maxFlushAttempts) {
+                    failedFlushes.remove(key);
+                    log.error("Dropping review analytics of foundation {} for {} after {} failed flushes", key.foundationId(), key.month(), attempts, e);
+                } else {
+                    log.warn("Flushing review analytics of foundation {} for {} failed, will retry", key.foundationId(), key.month(), e);
+                    pending.merge(key, new MonthTotals().mergedWith(delta), MonthTotals::mergedWith);
+                }
+            } finally {
+                flushing.remove(key);
+            }
+        }
+        return written;
+    }
+
+    private void mergeInto(MonthKey key, MonthTotals delta) {
+        AdoptionReviewMonthlyStats row = statsRepository.findForUpdate(key.foundationId(), key.month().atDay(1))
+                .orElseGet(() -> AdoptionReviewMonthlyStats.builder()
+                        .foundationId(key.foundationId())
+                        .monthStart(key.month().atDay(1))
+                        .build());
+        MonthTotals merged = MonthTotals.of(row).mergedWith(delta);
+        row.setApprovedCount(merged.approved);
+        row.setRejectedCount(merged.rejected);
+        row.setCancelledCount(merged.cancelled);
+        row.setLatencySketch(merged.latency.toBytes());
+        row.setUpdatedAt(LocalDateTime.now());
+        statsRepository.save(row);
+    }
+
+    @Override
+    public ReviewAnalytics getReviewAnalytics(UUID foundationId, YearMonth from, YearMonth to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Range end " + to + " is before its start " + from);
+        }
+        if (from.plusMonths(maxMonths).isBefore(to.plusMonths(1))) {
+            throw new IllegalArgumentException("Range may span at most " + maxMonths + " months");
+        }
+
+        Map<YearMonth, MonthTotals> byMonth = new TreeMap<>();
+        for (AdoptionReviewMonthlyStats row : statsRepository.findByFoundationIdAndMonthStartBetweenOrderByMonthStart(
+                foundationId, from.atDay(1), to.atDay(1))) {
+            byMonth.put(YearMonth.from(row.getMonthStart()), MonthTotals.of(row));
+        }
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            MonthTotals unflushed = snapshotPending(new MonthKey(foundationId, month));
+            if (unflushed != null) {
+                byMonth.merge(month, unflushed, MonthTotals::mergedWith);
+            }
+        }
+
+        MonthTotals overall = new MonthTotals();
+        List<ReviewPeriod> months = new ArrayList<>(byMonth.size());
+        byMonth.forEach((month, totals) -> {
+            overall.mergedWith(totals);
+            months.add(totals.toPeriod(month, month));
+        });
+        return new ReviewAnalytics(overall.toPeriod(from, to), months);
+    }
+
+    private MonthTotals snapshotPending(MonthKey key) {
+        MonthTotals[] copy = new MonthTotals[1];
+        pending.computeIfPresent(key, (k, totals) -> {
+            copy[0] = new MonthTotals().mergedWith(totals);
+            return totals;
+        });
+        // Totals being flushed are owned by the flush and no longer change
+        MonthTotals inFlight = flushing.get(key);
+        if (inFlight != null) {
+            copy[0] = (copy[0] != null ? copy[0] : new MonthTotals()).mergedWith(inFlight);
+        }
+        return copy[0];
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        int written = flush();
+        log.info("Flushed review analytics of {} foundation months on shutdown", written);
+    }
+
+    private record MonthKey(UUID foundationId, YearMonth month) {
+    }
+
+    /**
+     * Outcome counts and latency sketch of one foundation month. Mutated only under the pending map's lock
+     * or while exclusively owned.
+     */
+    private static final class MonthTotals {
+        private long approved;
+        private long rejected;
+        private long cancelled;
+        private final QuantileSketch latency;
+
+        private MonthTotals() {
+            this(new QuantileSketch());
+        }
+
+        private MonthTotals(QuantileSketch latency) {
+            this.latency = latency;
+        }
+
+        private static MonthTotals of(AdoptionReviewMonthlyStats row) {
+            MonthTotals totals = new MonthTotals(QuantileSketch.fromBytes(row.getLatencySketch()));
+            totals.approved = row.getApprovedCount();
+            totals.rejected = row.getRejectedCount();
+            totals.cancelled = row.getCancelledCount();
+            return totals;
+        }
+
+        private void add(AdoptionRequestStatus outcome, long latencySeconds) {
+            switch (outcome) {
+                case APPROVED -> approved++;
+                case REJECTED -> rejected++;
+                case CANCELLED -> cancelled++;
+                default -> {
+                    return;
+                }
+            }
+            latency.add(latencySeconds);
+        }
+
+        private MonthTotals mergedWith(MonthTotals other) {
+            approved += other.approved;
+            rejected += other.rejected;
+            cancelled += other.cancelled;
+            latency.merge(other.latency);
+            return this;
+        }
+
+        private ReviewPeriod toPeriod(YearMonth from, YearMonth to) {
+            long decided = approved + rejected;
+            return new ReviewPeriod(from, to, approved, rejected, cancelled,
+                    decided == 0 ? null : (double) approved / decided,
+                    seconds(latency.quantile(0.50)),
+                    seconds(latency.quantile(0.90)),
+                    seconds(latency.quantile(0.99)));
+        }
+
+        private static Long seconds(Double value) {
+            return value == null ? null : Math.round(value);
+        }
+    }
+}
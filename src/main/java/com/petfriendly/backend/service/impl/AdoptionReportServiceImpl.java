@@ -0,0 +1,138 @@
+package com.petfriendly.backend.service.impl;
+
+import com.petfriendly.backend.entity.AdoptionOutcome;
+import com.petfriendly.backend.entity.PetSpecies;
+import com.petfriendly.backend.repository.AdoptionMonthlyRollupRepository;
+import com.petfriendly.backend.repository.AdoptionRequestRepository;
+import com.petfriendly.backend.repository.FoundationRepository;
+import com.petfriendly.backend.repository.projection.DecidedRequest;
+import com.petfriendly.backend.repository.projection.MonthlyOutcomeCount;
+import com.petfriendly.backend.service.AdoptionReportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link AdoptionReportService}.
+ * <p>
+ * The rollup is kept current by the adoption request and pet write paths, in the same transaction as
+ * the change they count, so a report reads at most months x species x outcomes rows whatever the size
+ * of adoption_requests. Every cell is an aggregate of current rows: a returned pet leaves the month it
+ * was adopted in, and deleting or re-classifying a pet or a decided request moves its counts, so
+ * {@link #rebuildMonthlyRollup} reproduces the rollup the write paths keep.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AdoptionReportServiceImpl implements AdoptionReportService {
+
+    private final AdoptionMonthlyRollupRepository rollupRepository;
+    private final FoundationRepository foundationRepository;
+    private final AdoptionRequestRepository adoptionRequestRepository;
+
+    @Value("${app.adoption-reports.max-months:36}")
+    private int maxMonths;
+
+    @Override
+    public List<MonthlyAdoptionReport> getMonthlyReport(UUID foundationId, YearMonth from, YearMonth to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Range end " + to + " is before its start " + from);
+        }
+        if (from.plusMonths(maxMonths).isBefore(to.plusMonths(1))) {
+            throw new IllegalArgumentException("Range may span at most " + maxMonths + " months");
+        }
+
+        List<MonthlyOutcomeCount> counts = foundationId != null
+                ? rollupRepository.findByFoundation(foundationId, from.atDay(1), to.atDay(1))
+                : rollupRepository.sumAcrossFoundations(from.atDay(1), to.atDay(1));
+
+        Map<YearMonth, Map<PetSpecies, MonthlyAdoptionReport>> reports = new TreeMap<>();
+        for (MonthlyOutcomeCount count : counts) {
+            YearMonth month = YearMonth.from(count.getMonthStart());
+            PetSpecies species = count.getSpecies();
+            MonthlyAdoptionReport report = reports.computeIfAbsent(month, key -> new EnumMap<>(PetSpecies.class))
+                    .computeIfAbsent(species, key -> new MonthlyAdoptionReport(month, species));
+            switch (count.getOutcome()) {
+                case APPROVED -> report.setApprovedRequests(count.getCount());
+                case REJECTED -> report.setRejectedRequests(count.getCount());
+                case ADOPTED -> report.setAdoptedPets(count.getCount());
+            }
+        }
+
+        return reports.values().stream()
+                .flatMap(bySpecies -> bySpecies.values().stream())
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void recordOutcome(UUID foundationId, PetSpecies species, AdoptionOutcome outcome, YearMonth month, long delta) {
+        LocalDate monthStart = month.atDay(1);
+        if (rollupRepository.increment(foundationId, monthStart, species, outcome, delta) == 0) {
+            // No cell for the month yet: re-check under the foundation lock before creating it
+            foundationRepository.lockById(foundationId);
+            if (rollupRepository.increment(foundationId, monthStart, species, outcome, delta) == 0) {
+                rollupRepository.insert(foundationId, monthStart, species, outcome, delta);
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordOutcomeForPet(UUID foundationId, UUID petId, AdoptionOutcome outcome, YearMonth month, long delta) {
+        LocalDate monthStart = month.atDay(1);
+        if (rollupRepository.incrementForPet(foundationId, petId, monthStart, outcome, delta) == 0) {
+            foundationRepository.lockById(foundationId);
+            if (rollupRepository.incrementForPet(foundationId, petId, monthStart, outcome, delta) == 0) {
+                rollupRepository.insertForPet(petId, monthStart, outcome, delta);
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public void movePetRequestOutcomes(UUID petId, PetSpecies from, PetSpecies to) {
+        Map<DecidedCell, Long> cells = adoptionRequestRepository.findDecidedByPetId(petId).stream()
+                .collect(Collectors.groupingBy(DecidedCell::of, Collectors.counting()));
+        cells.forEach((cell, count) -> {
+            recordOutcome(cell.foundationId(), from, cell.outcome(), cell.month(), -count);
+            if (to != null) {
+                recordOutcome(cell.foundationId(), to, cell.outcome(), cell.month(), count);
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public int rebuildMonthlyRollup() {
+        log.info("Rebuilding monthly adoption rollup");
+        // Writers creating a cell lock its foundation, and the delete waits for and then blocks writers
+        // updating existing cells, so no count lands between the delete and the insert
+        foundationRepository.lockAll();
+        rollupRepository.deleteAllRows();
+        int cells = rollupRepository.insertFromSourceTables();
+        log.info("Monthly adoption rollup rebuilt with {} cells", cells);
+        return cells;
+    }
+
+    private record DecidedCell(UUID foundationId, AdoptionOutcome outcome, YearMonth month) {
+
+        private static DecidedCell of(DecidedRequest request) {
+            // APPROVED and REJECTED share their names with the rollup outcomes
+            return new DecidedCell(request.getFoundationId(), AdoptionOutcome.valueOf(request.getStatus().name()),
+                    YearMonth.from(request.getDecidedAt()));
+        }
+    }
+}
@@ -1,22 +1,44 @@
 package com.petfriendly.backend.service.impl;
 
+import com.petfriendly.backend.dto.response.AdoptionRequestResponse;
+import com.petfriendly.backend.dto.response.AdoptionRequestSummaryResponse;
+import com.petfriendly.backend.entity.AdoptionOutcome;
 import com.petfriendly.backend.entity.AdoptionRequest;
 import com.petfriendly.backend.entity.AdoptionRequestStatus;
 import com.petfriendly.backend.entity.Pet;
+import com.petfriendly.backend.entity.PetStatus;
 import com.petfriendly.backend.entity.User;
 import com.petfriendly.backend.repository.AdoptionRequestRepository;
+import com.petfriendly.backend.repository.FoundationRepository;
+import com.petfriendly.backend.repository.PetRepository;
+import com.petfriendly.backend.repository.UserRepository;
+import com.petfriendly.backend.service.AdoptionAnalyticsService;
+import com.petfriendly.backend.service.AdoptionReportService;
 import com.petfriendly.backend.service.AdoptionRequestService;
+import com.petfriendly.backend.service.PetService;
+import com.petfriendly.backend.service.snapshot.StatisticsChangedEvent;
+import com.petfriendly.backend.service.snapshot.StatisticsSection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link AdoptionRequestService} backed by Spring Data repositories.
@@ -28,6 +50,21 @@ import java.util.UUID;
 public class AdoptionRequestServiceImpl implements AdoptionRequestService {
 
     private final AdoptionRequestRepository adoptionRequestRepository;
+    private final UserRepository userRepository;
+    private final PetRepository petRepository;
+    private final FoundationRepository foundationRepository;
+    private final AdoptionReportService adoptionReportService;
+    private final PetService petService;
+    private final AdoptionAnalyticsService adoptionAnalyticsService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String USER_PET_CONSTRAINT = "uk_adoption_requests_user_pet";
+
+    @Value("${app.adoption-review.lease-duration:15m}")
+    private Duration reviewLeaseDuration;
+
+    @Value("${app.adoption-review.max-claim:50}")
+    private int maxReviewClaim;
 
     @Override
     public AdoptionRequest createAdoptionRequest(AdoptionRequest adoptionRequest) {
@@ -42,10 +79,52 @@ public class AdoptionRequestServiceImpl implements AdoptionRequestService {
         adoptionRequest.setUpdatedAt(LocalDateTime.now());
 
         AdoptionRequest saved = adoptionRequestRepository.save(adoptionRequest);
+        foundationRepository.incrementPendingRequests(saved.getFoundationId(), 1);
+        eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.ADOPTION_REQUESTS, StatisticsSection.FOUNDATIONS));
         log.info("Adoption request {} created", saved.getId());
         return saved;
     }
 
+    @Override
+    public AdoptionRequest submitAdoptionRequest(UUID userId, UUID petId, String message, String experience,
+                                                 String livingSituation) {
+        log.debug("Submitting adoption request for user {} and pet {}", userId, petId);
+
+        UUID id = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        int inserted;
+        try {
+            inserted = adoptionRequestRepository.insertForPet(id, userId, petId, message, experience, livingSituation, now);
+        } catch (DataIntegrityViolationException e) {
+            if (violates(e, USER_PET_CONSTRAINT)) {
+                throw new IllegalStateException("User has already submitted a request for this pet", e);
+            }
+            throw e;
+        }
+        if (inserted == 0) {
+            // Only the failure path pays for telling a missing user from a missing pet
+            if (!userRepository.existsById(userId)) {
+                throw new IllegalArgumentException("User not found with ID: " + userId);
+            }
+            throw new IllegalArgumentException("Pet not found with ID: " + petId);
+        }
+        foundationRepository.incrementPendingRequestsForPet(petId, 1);
+        eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.ADOPTION_REQUESTS, StatisticsSection.FOUNDATIONS));
+
+        log.info("Adoption request {} created", id);
+        return AdoptionRequest.builder()
+                .id(id)
+                .user(userRepository.getReferenceById(userId))
+                .pet(petRepository.getReferenceById(petId))
+                .message(message)
+                .experience(experience)
+                .livingSituation(livingSituation)
+                .status(AdoptionRequestStatus.PENDING)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
     @Override
     public AdoptionRequest updateAdoptionRequest(UUID id, AdoptionRequest adoptionRequest) {
         log.debug("Updating adoption request {}", id);
@@ -63,19 +142,52 @@ public class AdoptionRequestServiceImpl implements AdoptionRequestService {
 
     @Override
     public AdoptionRequest updateStatus(UUID id, AdoptionRequestStatus status, String reviewNotes) {
-        log.debug("Updating status of adoption request {} to {}", id, status);
-
-        AdoptionRequest adoptionRequest = adoptionRequestRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Adoption request not found: " + id));
+        if (status == AdoptionRequestStatus.APPROVED) {
+            return approveRequest(id, reviewNotes);
+        }
+        return transition(id, status, reviewNotes);
+    }
+
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                // PostgreSQL reports the constraint itself; H2 reports its backing index, schema-qualified
+                // and upper case, e.g. PUBLIC.UK_ADOPTION_REQUESTS_USER_PET_INDEX_A
+                String name = violation.getConstraintName().toLowerCase(Locale.ROOT);
+                name = name.substring(name.lastIndexOf('.') + 1);
+                return name.equals(constraint) || name.startsWith(constraint + "_index_");
+            }
+        }
+        return false;
+    }
 
-        adoptionRequest.setStatus(status);
-        adoptionRequest.setReviewNotes(reviewNotes);
-        adoptionRequest.setReviewedAt(LocalDateTime.now());
-        adoptionRequest.setUpdatedAt(LocalDateTime.now());
+    private AdoptionRequest transition(UUID id, AdoptionRequestStatus status, String reviewNotes) {
+        log.debug("Updating status of adoption request {} to {}", id, status);
 
-        AdoptionRequest updated = adoptionRequestRepository.save(adoptionRequest);
+        // Every edge of the status table leaves PENDING, so a successful update also tells the previous status
+        LocalDateTime now = LocalDateTime.now();
+        Optional<AdoptionRequest> updated = AdoptionRequestStatus.PENDING.canTransitionTo(status)
+                ? adoptionRequestRepository.transitionStatus(id, AdoptionRequestStatus.PENDING, status, reviewNotes, now)
+                : Optional.empty();
+        if (updated.isEmpty()) {
+            // Only the failure path pays for telling a missing request from one in the wrong status
+            if (!adoptionRequestRepository.existsById(id)) {
+                throw new IllegalArgumentException("Adoption request not found: " + id);
+            }
+            throw new IllegalStateException("Adoption request " + id + " cannot move to " + status.name() + " from its current status");
+        }
+        AdoptionRequest request = updated.get();
+
+        foundationRepository.incrementPendingRequests(request.getFoundationId(), -1);
+        adoptionAnalyticsService.recordDecision(request.getFoundationId(), status, request.getCreatedAt(), now);
+        if (status == AdoptionRequestStatus.APPROVED || status == AdoptionRequestStatus.REJECTED) {
+            // APPROVED and REJECTED share their names with the rollup outcomes
+            adoptionReportService.recordOutcomeForPet(request.getFoundationId(), request.getPet().getId(),
+                    AdoptionOutcome.valueOf(status.name()), YearMonth.from(now), 1);
+        }
+        eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.ADOPTION_REQUESTS, StatisticsSection.FOUNDATIONS));
         log.info("Adoption request {} status updated to {}", id, status);
-        return updated;
+        return request;
     }
 
     @Override
@@ -101,6 +213,36 @@ public class AdoptionRequestServiceImpl implements AdoptionRequestService {
         return adoptionRequestRepository.findAll(pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AdoptionRequestResponse> findAllResponses(Pageable pageable) {
+        return adoptionRequestRepository.findAllResponses(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AdoptionRequestResponse> findResponsesByStatus(AdoptionRequestStatus status, Pageable pageable) {
+        return adoptionRequestRepository.findResponsesByStatus(status, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AdoptionRequestResponse> findResponsesByUserId(UUID userId, Pageable pageable) {
+        return adoptionRequestRepository.findResponsesByUserId(userId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AdoptionRequestResponse> findResponsesByPetId(UUID petId, Pageable pageable) {
+        return adoptionRequestRepository.findResponsesByPetId(petId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AdoptionRequestSummaryResponse> findSummariesByStatus(AdoptionRequestStatus status, Pageable pageable) {
+        return adoptionRequestRepository.findSummariesByStatus(status, pageable);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<AdoptionRequest> findByUser(User user) {
@@ -269,9 +411,38 @@ public class AdoptionRequestServiceImpl implements AdoptionRequestService {
         return adoptionRequestRepository.countByUser_IdAndStatus(userId, AdoptionRequestStatus.PENDING) > 0;
     }
 
+    @Override
+    public AdoptionApproval approveAdoption(UUID id, String reviewNotes) {
+        log.debug("Approving adoption request {} and closing its pet's adoption", id);
+
+        UUID petId = adoptionRequestRepository.findPetIdById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Adoption request not found: " + id));
+
+        // Serializes concurrent approvals for the same pet; request rows are guarded by their status checks
+        Pet pet = petRepository.findByIdForUpdate(petId)
+                .orElseThrow(() -> new IllegalArgumentException("Pet not found with ID: " + petId));
+        if (!pet.getStatus().canTransitionTo(PetStatus.ADOPTED)) {
+            throw new IllegalStateException("Pet " + petId + " cannot be adopted while " + pet.getStatus().name());
+        }
+        Pet adoptedPet = petService.updateStatus(petId, PetStatus.ADOPTED);
+
+        AdoptionRequest approved = transition(id, AdoptionRequestStatus.APPROVED, reviewNotes);
+        LocalDateTime now = LocalDateTime.now();
+        int rejected = adoptionRequestRepository.rejectOtherPendingForPet(petId, id,
+                "Another adoption request for this pet was approved", now);
+        if (rejected > 0) {
+            foundationRepository.incrementPendingRequests(approved.getFoundationId(), -rejected);
+            adoptionReportService.recordOutcome(approved.getFoundationId(), pet.getSpecies(), AdoptionOutcome.REJECTED,
+                    YearMonth.from(now), rejected);
+        }
+
+        log.info("Adoption request {} approved, pet {} adopted, {} other requests rejected", id, petId, rejected);
+        return new AdoptionApproval(approved, adoptedPet.getStatus(), rejected);
+    }
+
     @Override
     public AdoptionRequest approveRequest(UUID id, String reviewNotes) {
-        return updateStatus(id, AdoptionRequestStatus.APPROVED, reviewNotes);
+        return approveAdoption(id, reviewNotes).getApprovedRequest();
     }
 
     @Override
@@ -294,12 +465,66 @@ public class AdoptionRequestServiceImpl implements AdoptionRequestService {
         return updateStatus(id, AdoptionRequestStatus.CANCELLED, "Cancelled by user");
     }
 
+    @Override
+    public ReviewClaim claimNextRequests(UUID foundationId, UUID reviewerId, int limit) {
+        int size = Math.max(1, Math.min(limit, maxReviewClaim));
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseExpiresAt = now.plus(reviewLeaseDuration);
+
+        List<AdoptionRequest> claimed = adoptionRequestRepository
+                .findClaimableByFoundationForUpdate(foundationId, now, Limit.of(size));
+        if (!claimed.isEmpty()) {
+            adoptionRequestRepository.claim(claimed.stream().map(AdoptionRequest::getId).toList(), reviewerId, leaseExpiresAt);
+            // The bulk update detached the loaded requests; reflect the lease on them for the response
+            claimed.forEach(request -> {
+                request.setClaimedBy(reviewerId);
+                request.setClaimExpiresAt(leaseExpiresAt);
+            });
+        }
+
+        log.info("Reviewer {} claimed {} adoption requests of foundation {}", reviewerId, claimed.size(), foundationId);
+        return new ReviewClaim(claimed, leaseExpiresAt);
+    }
+
+    @Override
+    public int releaseClaims(UUID reviewerId) {
+        int released = adoptionRequestRepository.releaseClaims(reviewerId);
+        log.info("Reviewer {} released {} adoption request claims", reviewerId, released);
+        return released;
+    }
+
+    @Override
+    public int expirePendingRequests(LocalDateTime createdBefore, int batchSize) {
+        List<AdoptionRequest> stale = adoptionRequestRepository.findExpirableForUpdate(createdBefore, Limit.of(batchSize));
+        if (stale.isEmpty()) {
+            return 0;
+        }
+        // The batch is locked, so every row is cancelled and each foundation's counter drops by exactly its share
+        int expired = adoptionRequestRepository.cancelPending(stale.stream().map(AdoptionRequest::getId).toList(),
+                "Expired without review", LocalDateTime.now());
+        Map<UUID, Long> expiredByFoundation = stale.stream()
+                .collect(Collectors.groupingBy(AdoptionRequest::getFoundationId, Collectors.counting()));
+        expiredByFoundation.forEach((foundationId, count) ->
+                foundationRepository.incrementPendingRequests(foundationId, -count));
+        eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.ADOPTION_REQUESTS, StatisticsSection.FOUNDATIONS));
+
+        log.debug("Expired {} pending adoption requests created before {}", expired, createdBefore);
+        return expired;
+    }
+
     @Override
     public void deleteById(UUID id) {
-        if (!adoptionRequestRepository.existsById(id)) {
-            throw new IllegalArgumentException("Adoption request not found: " + id);
+        AdoptionRequest request = adoptionRequestRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Adoption request not found: " + id));
+        adoptionRequestRepository.delete(request);
+        if (request.getStatus() == AdoptionRequestStatus.PENDING) {
+            foundationRepository.incrementPendingRequests(request.getFoundationId(), -1);
+        } else if (request.getStatus() == AdoptionRequestStatus.APPROVED || request.getStatus() == AdoptionRequestStatus.REJECTED) {
+            LocalDateTime decidedAt = request.getReviewedAt() != null ? request.getReviewedAt() : request.getUpdatedAt();
+            adoptionReportService.recordOutcomeForPet(request.getFoundationId(), request.getPet().getId(),
+                    AdoptionOutcome.valueOf(request.getStatus().name()), YearMonth.from(decidedAt), -1);
         }
-        adoptionRequestRepository.deleteById(id);
+        eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.ADOPTION_REQUESTS, StatisticsSection.FOUNDATIONS));
         log.info("Adoption request {} deleted", id);
     }
 
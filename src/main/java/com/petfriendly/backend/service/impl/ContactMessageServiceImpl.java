@@ -2,18 +2,25 @@ package com.petfriendly.backend.service.impl;
 
 import com.petfriendly.backend.entity.ContactMessage;
 import com.petfriendly.backend.entity.Foundation;
+import com.petfriendly.backend.repository.ContactMessageDailyCountRepository;
 import com.petfriendly.backend.repository.ContactMessageRepository;
 import com.petfriendly.backend.repository.FoundationRepository;
+import com.petfriendly.backend.repository.projection.MessageTotals;
 import com.petfriendly.backend.service.ContactMessageService;
 import com.petfriendly.backend.service.ContactMessageService.ContactMessageStatistics;
+import com.petfriendly.backend.service.index.RecentContactMessageCounts;
+import com.petfriendly.backend.service.snapshot.StatisticsChangedEvent;
+import com.petfriendly.backend.service.snapshot.StatisticsSection;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -31,13 +38,29 @@ public class ContactMessageServiceImpl implements ContactMessageService {
     
     private final ContactMessageRepository contactMessageRepository;
     private final FoundationRepository foundationRepository;
+    private final ContactMessageDailyCountRepository dailyCountRepository;
+    private final RecentContactMessageCounts recentCounts;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ContactMessage createContactMessage(ContactMessage contactMessage) {
         log.debug("Creating new contact message from: {}", contactMessage.getSenderEmail());
         contactMessage.setCreatedAt(LocalDateTime.now());
         contactMessage.setIsRead(false);
-        return contactMessageRepository.save(contactMessage);
+        ContactMessage saved = contactMessageRepository.save(contactMessage);
+        UUID foundationId = saved.getFoundation().getId();
+        foundationRepository.incrementUnreadMessages(foundationId, 1);
+        LocalDate day = saved.getCreatedAt().toLocalDate();
+        if (dailyCountRepository.increment(foundationId, day, 1, 0) == 0) {
+            // No bucket for the day yet: re-check under the foundation lock before creating it
+            foundationRepository.lockById(foundationId);
+            if (dailyCountRepository.increment(foundationId, day, 1, 0) == 0) {
+                dailyCountRepository.insert(foundationId, day, 1, 0);
+            }
+        }
+        recentCounts.record(foundationId, day, 1);
+        eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.CONTACT_MESSAGES));
+        return saved;
     }
 
     @Override
@@ -57,25 +80,33 @@ public class ContactMessageServiceImpl implements ContactMessageService {
     @Override
     public ContactMessage markAsRead(UUID id) {
         log.debug("Marking contact message as read: {}", id);
-        return contactMessageRepository.findById(id)
-                .map(message -> {
-                    message.setIsRead(true);
-                    message.setReadAt(LocalDateTime.now());
-                    return contactMessageRepository.save(message);
-                })
-                .orElseThrow(() -> new RuntimeException("Contact message not found with ID: " + id));
+        return setRead(id, true);
     }
 
     @Override
     public ContactMessage markAsUnread(UUID id) {
         log.debug("Marking contact message as unread: {}", id);
-        return contactMessageRepository.findById(id)
-                .map(message -> {
-                    message.setIsRead(false);
-                    message.setReadAt(null);
-                    return contactMessageRepository.save(message);
-                })
+        return setRead(id, false);
+    }
+
+    private ContactMessage setRead(UUID id, boolean read) {
+        ContactMessage message = contactMessageRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Contact message not found with ID: " + id));
+        if (Boolean.valueOf(read).equals(message.getIsRead())) {
+            return message;
+        }
+
+        UUID foundationId = message.getFoundation().getId();
+        LocalDateTime readAt = read ? LocalDateTime.now() : null;
+        // Only the request that actually flips the flag moves the foundation's unread counter
+        if (contactMessageRepository.compareAndSetRead(id, read, readAt) == 1) {
+            foundationRepository.incrementUnreadMessages(foundationId, read ? -1 : 1);
+            dailyCountRepository.increment(foundationId, message.getCreatedAt().toLocalDate(), 0, read ? 1 : -1);
+            eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.CONTACT_MESSAGES));
+        }
+        message.setIsRead(read);
+        message.setReadAt(readAt);
+        return message;
     }
 
     @Override
@@ -290,14 +321,14 @@ public class ContactMessageServiceImpl implements ContactMessageService {
     @Transactional(readOnly = true)
     public long countUnreadByFoundation(Foundation foundation) {
         log.debug("Counting unread contact messages by foundation: {}", foundation.getName());
-        return contactMessageRepository.countByFoundation_IdAndIsReadFalse(foundation.getId());
+        return countUnreadByFoundationId(foundation.getId());
     }
 
     @Override
     @Transactional(readOnly = true)
     public long countUnreadByFoundationId(UUID foundationId) {
         log.debug("Counting unread contact messages by foundation ID: {}", foundationId);
-        return contactMessageRepository.countByFoundation_IdAndIsReadFalse(foundationId);
+        return foundationRepository.findUnreadMessageCountById(foundationId).orElse(0L);
     }
 
     @Override
@@ -310,63 +341,60 @@ public class ContactMessageServiceImpl implements ContactMessageService {
     @Override
     public void deleteById(UUID id) {
         log.debug("Deleting contact message by ID: {}", id);
-        if (!contactMessageRepository.existsById(id)) {
-            throw new RuntimeException("Contact message not found with ID: " + id);
+        ContactMessage message = contactMessageRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Contact message not found with ID: " + id));
+        contactMessageRepository.delete(message);
+        UUID foundationId = message.getFoundation().getId();
+        boolean read = Boolean.TRUE.equals(message.getIsRead());
+        if (!read) {
+            foundationRepository.incrementUnreadMessages(foundationId, -1);
         }
-        contactMessageRepository.deleteById(id);
+        LocalDate day = message.getCreatedAt().toLocalDate();
+        dailyCountRepository.increment(foundationId, day, -1, read ? -1 : 0);
+        recentCounts.record(foundationId, day, -1);
+        eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.CONTACT_MESSAGES));
     }
 
     @Override
     public void deleteByFoundation(Foundation foundation) {
         log.debug("Deleting contact messages by foundation: {}", foundation.getName());
         contactMessageRepository.deleteByFoundation(foundation);
+        foundationRepository.resetUnreadMessages(foundation.getId());
+        dailyCountRepository.deleteByFoundationId(foundation.getId());
+        recentCounts.evictFoundation(foundation.getId());
+        eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.CONTACT_MESSAGES));
     }
 
     @Override
     public void deleteByFoundationId(UUID foundationId) {
         log.debug("Deleting contact messages by foundation ID: {}", foundationId);
         contactMessageRepository.deleteByFoundation_Id(foundationId);
+        foundationRepository.resetUnreadMessages(foundationId);
+        dailyCountRepository.deleteByFoundationId(foundationId);
+        recentCounts.evictFoundation(foundationId);
+        eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.CONTACT_MESSAGES));
     }
 
     @Override
     @Transactional(readOnly = true)
     public ContactMessageStatistics getStatistics() {
         log.debug("Getting global contact message statistics");
-        
-        long totalMessages = contactMessageRepository.count();
-        long unreadMessages = contactMessageRepository.countByIsReadFalse();
-        long readMessages = contactMessageRepository.countByIsReadTrue();
-        
-        LocalDateTime today = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
-        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
-        LocalDateTime monthAgo = LocalDateTime.now().minusDays(30);
-        
-        long todayMessages = contactMessageRepository.countByCreatedAtAfter(today);
-        long weekMessages = contactMessageRepository.countByCreatedAtAfter(weekAgo);
-        long monthMessages = contactMessageRepository.countByCreatedAtAfter(monthAgo);
-        
-        return new ContactMessageStatistics(totalMessages, unreadMessages, readMessages, 
-                                          todayMessages, weekMessages, monthMessages);
+
+        MessageTotals totals = dailyCountRepository.sumTotals();
+        RecentContactMessageCounts.Window recent = recentCounts.forAllFoundations();
+        return new ContactMessageStatistics(totals.getMessages(), totals.getMessages() - totals.getReadMessages(),
+                totals.getReadMessages(), recent.today(), recent.week(), recent.month());
     }
 
     @Override
     @Transactional(readOnly = true)
     public ContactMessageStatistics getStatisticsByFoundation(UUID foundationId) {
         log.debug("Getting contact message statistics for foundation ID: {}", foundationId);
-        
-        long totalMessages = contactMessageRepository.countByFoundation_Id(foundationId);
-        long unreadMessages = contactMessageRepository.countByFoundation_IdAndIsReadFalse(foundationId);
-        long readMessages = contactMessageRepository.countByFoundation_IdAndIsReadTrue(foundationId);
-        
-        LocalDateTime today = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
-        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
-        LocalDateTime monthAgo = LocalDateTime.now().minusDays(30);
-        
-        long todayMessages = contactMessageRepository.countByFoundation_IdAndCreatedAtAfter(foundationId, today);
-        long weekMessages = contactMessageRepository.countByFoundation_IdAndCreatedAtAfter(foundationId, weekAgo);
-        long monthMessages = contactMessageRepository.countByFoundation_IdAndCreatedAtAfter(foundationId, monthAgo);
-        
-        return new ContactMessageStatistics(totalMessages, unreadMessages, readMessages, 
-                                          todayMessages, weekMessages, monthMessages);
+
+        MessageTotals totals = dailyCountRepository.sumTotalsByFoundation(foundationId);
+        long unreadMessages = foundationRepository.findUnreadMessageCountById(foundationId).orElse(0L);
+        RecentContactMessageCounts.Window recent = recentCounts.forFoundation(foundationId);
+        return new ContactMessageStatistics(totals.getMessages(), unreadMessages, totals.getReadMessages(),
+                recent.today(), recent.week(), recent.month());
     }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.petfriendly.backend.service.impl;
+
+import com.petfriendly.backend.repository.FoundationRepository;
+import com.petfriendly.backend.service.AdoptionRequestService;
+import com.petfriendly.backend.service.ContactMessageService;
+import com.petfriendly.backend.service.FoundationDashboardService;
+import com.petfriendly.backend.service.FoundationService;
+import com.petfriendly.backend.service.PetService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Implementation of {@link FoundationDashboardService} that fans the statistics queries out on virtual threads.
+ * <p>
+ * Each block runs in its own read-only transaction on its own connection, so a dashboard briefly holds
+ * up to four pooled connections. The foundation block waits for the pets block and reuses its result. All blocks share one deadline of {@code app.foundation-dashboard.branch-timeout}
+ * from the moment they start: wall time is bounded by the slowest block or the deadline, whichever comes first.
+ * This method deliberately runs outside a transaction so the calling thread holds no connection while it waits.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FoundationDashboardServiceImpl implements FoundationDashboardService {
+
+    private final FoundationRepository foundationRepository;
+    private final FoundationService foundationService;
+    private final PetService petService;
+    private final AdoptionRequestService adoptionRequestService;
+    private final ContactMessageService contactMessageService;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${app.foundation-dashboard.branch-timeout:2s}")
+    private Duration branchTimeout;
+
+    @Override
+    public FoundationDashboard getDashboard(UUID foundationId) {
+        log.debug("Building dashboard for foundation with ID: {}", foundationId);
+
+        if (!foundationRepository.existsById(foundationId)) {
+            throw new IllegalArgumentException("Foundation not found with ID: " + foundationId);
+        }
+
+        Future<PetService.PetStatistics> pets =
+                executor.submit(() -> petService.getPetStatistics(foundationId));
+        // The foundation totals are built on the pet aggregate rather than running it a second time; if the
+        // pets block fails or is cancelled, the foundation block goes with it
+        Future<FoundationService.FoundationStatistics> foundation =
+                executor.submit(() -> foundationService.getFoundationStatistics(foundationId, pets.get()));
+        Future<AdoptionRequestService.AdoptionRequestStatistics> adoptionRequests =
+                executor.submit(() -> adoptionRequestService.getStatisticsByFoundation(foundationId));
+        Future<ContactMessageService.ContactMessageStatistics> contactMessages =
+                executor.submit(() -> contactMessageService.getStatisticsByFoundation(foundationId));
+
+        long deadline = System.nanoTime() + branchTimeout.toNanos();
+        List<String> unavailable = new ArrayList<>();
+        return new FoundationDashboard(foundationId,
+                await("foundation", foundation, deadline, unavailable),
+                await("pets", pets, deadline, unavailable),
+                await("adoptionRequests", adoptionRequests, deadline, unavailable),
+                await("contactMessages", contactMessages, deadline, unavailable),
+                List.copyOf(unavailable),
+                LocalDateTime.now());
+    }
+
+    /**
+     * Wait for one block until the shared deadline. A block that fails or runs late is cancelled and
+     * reported as unavailable instead of failing the whole dashboard.
+     */
+    private <T> T await(String section, Future<T> block, long deadline, List<String> unavailable) {
+        try {
+            return block.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Dashboard section {} missed its {} deadline", section, branchTimeout);
+        } catch (ExecutionException e) {
+            log.warn("Dashboard section {} failed", section, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        block.cancel(true);
+        unavailable.add(section);
+        return null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
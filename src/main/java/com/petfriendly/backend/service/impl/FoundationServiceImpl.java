@@ -1,5 +1,8 @@
 package com.petfriendly.backend.service.impl;
 
+import com.petfriendly.backend.config.CacheConfig;
+import com.petfriendly.backend.dto.response.FoundationResponse;
+import com.petfriendly.backend.dto.response.FoundationSummaryResponse;
 import com.petfriendly.backend.entity.Foundation;
 import com.petfriendly.backend.entity.PetStatus;
 import com.petfriendly.backend.entity.AdoptionRequestStatus;
@@ -7,8 +10,17 @@ import com.petfriendly.backend.repository.FoundationRepository;
 import com.petfriendly.backend.repository.PetRepository;
 import com.petfriendly.backend.repository.AdoptionRequestRepository;
 import com.petfriendly.backend.service.FoundationService;
+import com.petfriendly.backend.service.PetService;
+import com.petfriendly.backend.service.index.AvailablePetIndex;
+import com.petfriendly.backend.service.index.RecentContactMessageCounts;
+import com.petfriendly.backend.service.snapshot.StatisticsChangedEvent;
+import com.petfriendly.backend.service.snapshot.StatisticsSection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -16,6 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -31,6 +44,10 @@ public class FoundationServiceImpl implements FoundationService {
     private final FoundationRepository foundationRepository;
     private final PetRepository petRepository;
     private final AdoptionRequestRepository adoptionRequestRepository;
+    private final AvailablePetIndex availablePetIndex;
+    private final RecentContactMessageCounts recentContactMessageCounts;
+    private final PetService petService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Foundation createFoundation(Foundation foundation) {
@@ -51,12 +68,15 @@ public class FoundationServiceImpl implements FoundationService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.FOUNDATIONS_CACHE, key = "#id")
     public Foundation updateFoundation(UUID id, Foundation foundation) {
         log.info("Updating foundation with ID: {}", id);
         
         Foundation existingFoundation = foundationRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Foundation not found with ID: " + id));
 
+        String previousCity = existingFoundation.getCity();
+
         // Update fields
         if (foundation.getName() != null) {
             existingFoundation.setName(foundation.getName());
@@ -83,6 +103,9 @@ public class FoundationServiceImpl implements FoundationService {
         existingFoundation.setUpdatedAt(LocalDateTime.now());
 
         Foundation updatedFoundation = foundationRepository.save(existingFoundation);
+        if (!Objects.equals(previousCity, updatedFoundation.getCity())) {
+            availablePetIndex.refreshFoundation(id);
+        }
         log.info("Foundation updated successfully with ID: {}", updatedFoundation.getId());
         return updatedFoundation;
     }
@@ -108,6 +131,28 @@ public class FoundationServiceImpl implements FoundationService {
         return foundationRepository.findAll(pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.FOUNDATIONS_CACHE, key = "#id", unless = "#result == null")
+    public Optional<FoundationResponse> findResponseById(UUID id) {
+        log.debug("Finding foundation response by ID: {}", id);
+        return foundationRepository.findResponseById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<FoundationResponse> findAllResponses(Pageable pageable) {
+        log.debug("Finding all foundation responses with pagination");
+        return foundationRepository.findAllResponses(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<FoundationSummaryResponse> findAllSummaries(Pageable pageable) {
+        log.debug("Finding all foundation summaries with pagination");
+        return foundationRepository.findAllSummaries(pageable);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Foundation> findByCity(String city) {
@@ -165,6 +210,11 @@ public class FoundationServiceImpl implements FoundationService {
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.FOUNDATIONS_CACHE, key = "#id"),
+            // Deleting a foundation cascades to its pets
+            @CacheEvict(cacheNames = CacheConfig.PETS_CACHE, allEntries = true)
+    })
     public void deleteById(UUID id) {
         log.info("Deleting foundation with ID: {}", id);
         
@@ -172,11 +222,17 @@ public class FoundationServiceImpl implements FoundationService {
             throw new IllegalArgumentException("Foundation not found with ID: " + id);
         }
 
+        availablePetIndex.evictFoundation(id);
+        recentContactMessageCounts.evictFoundation(id);
         foundationRepository.deleteById(id);
+        // Pets, adoption requests and contact messages of the foundation go with it
+        eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.PETS, StatisticsSection.FOUNDATIONS,
+                StatisticsSection.ADOPTION_REQUESTS, StatisticsSection.CONTACT_MESSAGES));
         log.info("Foundation deleted successfully with ID: {}", id);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.FOUNDATIONS_CACHE, key = "#id")
     public Foundation verifyFoundation(UUID id) {
         log.info("Verifying foundation with ID: {}", id);
         
@@ -192,6 +248,7 @@ public class FoundationServiceImpl implements FoundationService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.FOUNDATIONS_CACHE, key = "#id")
     public Foundation unverifyFoundation(UUID id) {
         log.info("Unverifying foundation with ID: {}", id);
         
@@ -207,6 +264,7 @@ public class FoundationServiceImpl implements FoundationService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.FOUNDATIONS_CACHE, key = "#id")
     public Foundation updateProfile(UUID id, String name, String description, String address, 
                                   String city, String phoneNumber, String website) {
         log.info("Updating profile for foundation with ID: {}", id);
@@ -223,6 +281,7 @@ public class FoundationServiceImpl implements FoundationService {
         if (address != null && !address.trim().isEmpty()) {
             foundation.setAddress(address.trim());
         }
+        String previousCity = foundation.getCity();
         if (city != null && !city.trim().isEmpty()) {
             foundation.setCity(city.trim());
         }
@@ -236,6 +295,9 @@ public class FoundationServiceImpl implements FoundationService {
         foundation.setUpdatedAt(LocalDateTime.now());
 
         Foundation updatedFoundation = foundationRepository.save(foundation);
+        if (!Objects.equals(previousCity, updatedFoundation.getCity())) {
+            availablePetIndex.refreshFoundation(id);
+        }
         log.info("Profile updated successfully for foundation with ID: {}", updatedFoundation.getId());
         return updatedFoundation;
     }
@@ -243,17 +305,30 @@ public class FoundationServiceImpl implements FoundationService {
     @Override
     @Transactional(readOnly = true)
     public FoundationStatistics getFoundationStatistics(UUID id) {
+        return getFoundationStatistics(id, petService.getPetStatistics(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FoundationStatistics getFoundationStatistics(UUID id, PetService.PetStatistics petStatistics) {
         log.debug("Getting statistics for foundation with ID: {}", id);
-        
+
         Foundation foundation = foundationRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Foundation not found with ID: " + id));
 
-        long totalPets = petRepository.countByFoundation(foundation);
-        long availablePets = petRepository.countByFoundationAndStatus(foundation, PetStatus.AVAILABLE);
-        long adoptedPets = petRepository.countByFoundationAndStatus(foundation, PetStatus.ADOPTED);
-        long pendingAdoptions = adoptionRequestRepository.countByPetFoundationAndStatus(foundation, AdoptionRequestStatus.PENDING);
+        // Available pets and pending requests come from the foundation's own counters, the rest from the
+        // per-status pet counters
+        return new FoundationStatistics(petStatistics.getTotalPets(), foundation.getAvailablePetCount(),
+                petStatistics.getAdoptedPets(), foundation.getPendingRequestCount());
+    }
 
-        return new FoundationStatistics(totalPets, availablePets, adoptedPets, pendingAdoptions);
+    @Override
+    public int reconcileCounters() {
+        int repaired = foundationRepository.reconcileCounters();
+        if (repaired > 0) {
+            log.warn("Repaired drifted counters on {} foundations", repaired);
+        }
+        return repaired;
     }
 
     @Override
@@ -320,12 +395,14 @@ public class FoundationServiceImpl implements FoundationService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.FOUNDATIONS_CACHE, key = "#id")
     public Foundation activateFoundation(UUID id) {
         log.info("Activating foundation with ID: {}", id);
         return verifyFoundation(id);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.FOUNDATIONS_CACHE, key = "#id")
     public Foundation deactivateFoundation(UUID id) {
         log.info("Deactivating foundation with ID: {}", id);
         return unverifyFoundation(id);
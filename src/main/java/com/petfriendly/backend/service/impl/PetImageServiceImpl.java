@@ -1,9 +1,12 @@
 package com.petfriendly.backend.service.impl;
 
+import com.petfriendly.backend.entity.ImageVariantStatus;
 import com.petfriendly.backend.entity.Pet;
 import com.petfriendly.backend.entity.PetImage;
 import com.petfriendly.backend.repository.PetImageRepository;
 import com.petfriendly.backend.service.PetImageService;
+import com.petfriendly.backend.service.storage.ImageStore;
+import com.petfriendly.backend.service.storage.ImageVariantPipeline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -12,9 +15,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of PetImageService interface
@@ -27,6 +33,8 @@ public class PetImageServiceImpl implements PetImageService {
 
     // Manual logger since Lombok @Slf4j is not working
 private final PetImageRepository petImageRepository;
+    private final ImageStore imageStore;
+    private final ImageVariantPipeline imageVariantPipeline;
 
     @Override
     public PetImage createPetImage(PetImage petImage) {
@@ -34,9 +42,16 @@ private final PetImageRepository petImageRepository;
         
         petImage.setCreatedAt(LocalDateTime.now());
         petImage.setUpdatedAt(LocalDateTime.now());
+        boolean needsVariants = resetVariants(petImage);
+        if (Boolean.TRUE.equals(petImage.getIsPrimary())) {
+            petImageRepository.clearPrimary(petImage.getPet().getId());
+        }
         
         PetImage savedPetImage = petImageRepository.save(petImage);
         log.info("Pet image created successfully with ID: {}", savedPetImage.getId());
+        if (needsVariants) {
+            imageVariantPipeline.submitAfterCommit(savedPetImage.getId());
+        }
         
         return savedPetImage;
     }
@@ -49,13 +64,25 @@ private final PetImageRepository petImageRepository;
                 .orElseThrow(() -> new RuntimeException("Pet image not found with ID: " + id));
         
         // Update fields
+        boolean sourceChanged = !existingPetImage.getImageUrl().equals(petImage.getImageUrl());
+        List<String> previousVariants = variantUrls(existingPetImage);
+        if (Boolean.TRUE.equals(petImage.getIsPrimary()) && !Boolean.TRUE.equals(existingPetImage.getIsPrimary())) {
+            petImageRepository.clearPrimary(existingPetImage.getPet().getId());
+        }
         existingPetImage.setImageUrl(petImage.getImageUrl());
         existingPetImage.setAltText(petImage.getAltText());
         existingPetImage.setIsPrimary(petImage.getIsPrimary());
         existingPetImage.setUpdatedAt(LocalDateTime.now());
+        boolean needsVariants = sourceChanged && resetVariants(existingPetImage);
         
         PetImage updatedPetImage = petImageRepository.save(existingPetImage);
         log.info("Pet image updated successfully with ID: {}", updatedPetImage.getId());
+        if (sourceChanged) {
+            imageVariantPipeline.deleteUnusedAfterCommit(previousVariants);
+        }
+        if (needsVariants) {
+            imageVariantPipeline.submitAfterCommit(updatedPetImage.getId());
+        }
         
         return updatedPetImage;
     }
@@ -92,7 +119,7 @@ private final PetImageRepository petImageRepository;
     @Transactional(readOnly = true)
     public List<PetImage> findByPetId(UUID petId) {
         log.debug("Finding pet images by pet ID: {}", petId);
-        return petImageRepository.findByPet_Id(petId);
+        return petImageRepository.findGalleryByPetId(petId);
     }
 
     @Override
@@ -157,28 +184,33 @@ private final PetImageRepository petImageRepository;
     public PetImage setPrimaryImage(UUID petImageId) {
         log.debug("Setting pet image as primary: {}", petImageId);
         
-        PetImage petImage = petImageRepository.findById(petImageId)
+        // One statement flips the flag on every image of the pet, so two concurrent switches cannot both win
+        int changed = petImageRepository.switchPrimary(petImageId, LocalDateTime.now());
+        PetImage updatedImage = petImageRepository.findById(petImageId)
                 .orElseThrow(() -> new RuntimeException("Pet image not found with ID: " + petImageId));
-        
-        // First, remove primary status from any existing primary image of the same pet
-        Optional<PetImage> existingPrimaryImage = petImageRepository.findByPet_IdAndIsPrimaryTrue(petImage.getPet().getId());
-        if (existingPrimaryImage.isPresent()) {
-            PetImage existingPrimary = existingPrimaryImage.get();
-            existingPrimary.setIsPrimary(false);
-            existingPrimary.setUpdatedAt(LocalDateTime.now());
-            petImageRepository.save(existingPrimary);
-        }
-        
-        // Set this image as primary
-        petImage.setIsPrimary(true);
-        petImage.setUpdatedAt(LocalDateTime.now());
-        
-        PetImage updatedImage = petImageRepository.save(petImage);
-        log.info("Pet image set as primary: {}", petImageId);
+        log.info("Pet image set as primary: {} ({} images updated)", petImageId, changed);
         
         return updatedImage;
     }
 
+    @Override
+    public void reorderImages(UUID petId, List<UUID> orderedImageIds) {
+        log.debug("Reordering {} images of pet ID: {}", orderedImageIds.size(), petId);
+        
+        if (orderedImageIds.isEmpty() || new HashSet<>(orderedImageIds).size() != orderedImageIds.size()) {
+            throw new IllegalArgumentException("Image order must list each image once");
+        }
+        String ids = orderedImageIds.stream().map(UUID::toString).collect(Collectors.joining(","));
+        int updated = petImageRepository.reorder(petId, ids, orderedImageIds.size(), LocalDateTime.now());
+        long owned = petImageRepository.countByPet_IdAndIdIn(petId, orderedImageIds);
+        if (owned != orderedImageIds.size()) {
+            // Rolls the reorder back
+            throw new IllegalArgumentException("Only " + owned + " of " + orderedImageIds.size()
+                    + " images belong to pet " + petId);
+        }
+        log.info("Reordered {} images of pet ID: {}", updated, petId);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public long count() {
@@ -269,11 +301,11 @@ private final PetImageRepository petImageRepository;
     public void deleteById(UUID id) {
         log.info("Deleting pet image with ID: {}", id);
         
-        if (!petImageRepository.existsById(id)) {
-            throw new RuntimeException("Pet image not found with ID: " + id);
-        }
+        PetImage petImage = petImageRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Pet image not found with ID: " + id));
         
-        petImageRepository.deleteById(id);
+        petImageRepository.delete(petImage);
+        imageVariantPipeline.deleteUnusedAfterCommit(variantUrls(petImage));
         log.info("Pet image deleted successfully with ID: {}", id);
     }
 
@@ -301,4 +333,23 @@ private final PetImageRepository petImageRepository;
         
         return new PetImageStatistics(totalImages, primaryImages, 0L, totalImages);
     }
-}
\ No newline at end of file
+
+    /**
+     * Clear the variants of an image whose source is new. Images in the local store are marked pending
+     * for the variant pipeline; external URLs get no variants.
+     * @return whether variants should be generated
+     */
+    private boolean resetVariants(PetImage petImage) {
+        petImage.setVariantAttempts(0);
+        petImage.setThumbnailUrl(null);
+        petImage.setMediumUrl(null);
+        petImage.setLargeUrl(null);
+        boolean stored = imageStore.keyOf(petImage.getImageUrl()).isPresent();
+        petImage.setVariantStatus(stored ? ImageVariantStatus.PENDING : null);
+        return stored;
+    }
+
+    private static List<String> variantUrls(PetImage petImage) {
+        return Arrays.asList(petImage.getThumbnailUrl(), petImage.getMediumUrl(), petImage.getLargeUrl());
+    }
+}
@@ -0,0 +1,278 @@
+package com.petfriendly.backend.service.impl;
+
+import com.petfriendly.backend.entity.Pet;
+import com.petfriendly.backend.entity.PetImage;
+import com.petfriendly.backend.repository.PetRepository;
+import com.petfriendly.backend.service.PetImageService;
+import com.petfriendly.backend.service.PetImageUploadService;
+import com.petfriendly.backend.service.storage.ImageStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of {@link PetImageUploadService} writing each upload to its own file in the image store's
+ * incoming directory.
+ * <p>
+ * Chunks are moved from the request to the file with {@link FileChannel#transferFrom}, so heap use per
+ * upload is one small transfer buffer whatever the image size. The file length is the upload offset:
+ * bytes that reached the disk before a connection dropped count, and the client resumes after them.
+ * Commit hashes the file once and renames it into the store. The upload is forgotten only once the pet
+ * image row commits, so a commit that fails in the database can be retried. Upload bookkeeping is held in
+ * memory, so a restart discards unfinished uploads.
+ */
+@Slf4j
+@Service
+public class PetImageUploadServiceImpl implements PetImageUploadService {
+
+    private static final String FILE_PREFIX = "chunked-";
+
+    private final PetRepository petRepository;
+    private final PetImageService petImageService;
+    private final ImageStore imageStore;
+    private final Map<UUID, Upload> uploads = new ConcurrentHashMap<>();
+
+    @Value("${app.image-uploads.ttl:24h}")
+    private Duration ttl;
+
+    public PetImageUploadServiceImpl(PetRepository petRepository, PetImageService petImageService,
+                                     ImageStore imageStore) {
+        this.petRepository = petRepository;
+        this.petImageService = petImageService;
+        this.imageStore = imageStore;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UploadStatus startUpload(UUID petId, long size, String sha256, String altText, boolean primary) throws IOException {
+        if (size <= 0 || size > imageStore.maxBytes()) {
+            throw new IllegalArgumentException("Upload size must be between 1 and " + imageStore.maxBytes() + " bytes");
+        }
+        if (!petRepository.existsById(petId)) {
+            throw new NoSuchElementException("Pet not found with ID: " + petId);
+        }
+        Path file = Files.createTempFile(imageStore.incomingDirectory(), FILE_PREFIX, ".part");
+        Upload upload = new Upload(UUID.randomUUID(), petId, size, sha256, altText, primary, file);
+        uploads.put(upload.id, upload);
+        log.info("Started upload {} of {} bytes for pet {}", upload.id, size, petId);
+        return upload.status(0, ttl);
+    }
+
+    @Override
+    public UploadStatus writeChunk(UUID uploadId, long offset, InputStream chunk) throws IOException {
+        Upload upload = require(uploadId);
+        if (!upload.lock.tryLock()) {
+            throw new IllegalStateException("Another chunk of upload " + uploadId + " is being written");
+        }
+        try {
+            if (upload.storedKey != null) {
+                throw new IllegalStateException("Upload " + uploadId + " is already stored; commit it again to retry");
+            }
+            long current = Files.size(upload.file);
+            if (offset != current) {
+                throw new IllegalStateException("Upload " + uploadId + " is at offset " + current + ", not " + offset);
+            }
+            upload.touch();
+            long position = offset;
+            try (FileChannel out = FileChannel.open(upload.file, StandardOpenOption.WRITE);
+                 ReadableByteChannel in = Channels.newChannel(chunk)) {
+                long remaining = upload.size - position;
+                long transferred;
+                while (remaining > 0 && (transferred = out.transferFrom(in, position, remaining)) > 0) {
+                    position += transferred;
+                    remaining -= transferred;
+                }
+                if (remaining == 0 && in.read(ByteBuffer.allocate(1)) != -1) {
+                    throw new IllegalArgumentException("Chunk runs past the declared upload size of " + upload.size + " bytes");
+                }
+            }
+            return upload.status(position, ttl);
+        } finally {
+            upload.lock.unlock();
+        }
+    }
+
+    @Override
+    public UploadStatus getStatus(UUID uploadId) throws IOException {
+        Upload upload = require(uploadId);
+        return upload.status(upload.storedKey != null ? upload.size : Files.size(upload.file), ttl);
+    }
+
+    @Override
+    @Transactional
+    public PetImage commitUpload(UUID uploadId) throws IOException {
+        Upload upload = require(uploadId);
+        if (!upload.lock.tryLock()) {
+            throw new IllegalStateException("A chunk of upload " + uploadId + " is still being written");
+        }
+        try {
+            if (upload.committing) {
+                throw new IllegalStateException("Upload " + uploadId + " is already being committed");
+            }
+            if (upload.storedKey == null) {
+                long received = Files.size(upload.file);
+                if (received != upload.size) {
+                    throw new IllegalStateException("Upload " + uploadId + " has " + received + " of " + upload.size + " bytes");
+                }
+                try {
+                    // Kept on the upload so a commit retried after a database failure does not need the file again
+                    upload.storedKey = imageStore.adopt(upload.file, upload.sha256).key();
+                } catch (IllegalArgumentException e) {
+                    discard(upload);
+                    throw e;
+                }
+            }
+            Pet pet = petRepository.findById(upload.petId)
+                    .orElseThrow(() -> new NoSuchElementException("Pet not found with ID: " + upload.petId));
+            PetImage image = new PetImage(ImageStore.urlOf(upload.storedKey), upload.primary, pet);
+            image.setAltText(upload.altText);
+            PetImage created = petImageService.createPetImage(image);
+            forgetAfterCommit(upload);
+            log.info("Committed upload {} as pet image {}", uploadId, created.getId());
+            return created;
+        } finally {
+            upload.lock.unlock();
+        }
+    }
+
+    @Override
+    public void abortUpload(UUID uploadId) throws IOException {
+        Upload upload = require(uploadId);
+        upload.lock.lock();
+        try {
+            discard(upload);
+        } finally {
+            upload.lock.unlock();
+        }
+        log.info("Aborted upload {}", uploadId);
+    }
+
+    @Override
+    public int expireStaleUploads() {
+        int removed = 0;
+        long cutoff = System.nanoTime() - ttl.toNanos();
+        for (Upload upload : uploads.values()) {
+            if (upload.lastActivity - cutoff < 0 && upload.lock.tryLock()) {
+                try {
+                    discard(upload);
+                    removed++;
+                } catch (IOException e) {
+                    log.warn("Could not delete file of expired upload {}", upload.id, e);
+                } finally {
+                    upload.lock.unlock();
+                }
+            }
+        }
+
+        Instant fileCutoff = Instant.now().minus(ttl);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(imageStore.incomingDirectory(), FILE_PREFIX + "*")) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(fileCutoff)
+                        && uploads.values().stream().noneMatch(upload -> upload.file.equals(file))) {
+                    Files.deleteIfExists(file);
+                    removed++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not sweep orphaned upload files", e);
+        }
+        return removed;
+    }
+
+    private Upload require(UUID uploadId) {
+        Upload upload = uploads.get(uploadId);
+        if (upload == null) {
+            throw new NoSuchElementException("Upload not found or expired: " + uploadId);
+        }
+        return upload;
+    }
+
+    /**
+     * Drop the upload once the pet image row commits. Until then further commits are refused, so the lock
+     * being released before the transaction ends cannot let a second commit create the image again; a
+     * rollback makes the upload committable again.
+     */
+    private void forgetAfterCommit(Upload upload) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            uploads.remove(upload.id);
+            return;
+        }
+        upload.committing = true;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    uploads.remove(upload.id);
+                } else {
+                    upload.committing = false;
+                }
+            }
+        });
+    }
+
+    private void discard(Upload upload) throws IOException {
+        uploads.remove(upload.id);
+        Files.deleteIfExists(upload.file);
+    }
+
+    /**
+     * Bookkeeping of one upload; the file, {@code storedKey} and {@code committing} are only changed under
+     * {@code lock}, or by the completion of the committing transaction
+     */
+    private static final class Upload {
+        private final UUID id;
+        private final UUID petId;
+        private final long size;
+        private final String sha256;
+        private final String altText;
+        private final boolean primary;
+        private final Path file;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile long lastActivity = System.nanoTime();
+        private volatile String storedKey;
+        private volatile boolean committing;
+
+        private Upload(UUID id, UUID petId, long size, String sha256, String altText, boolean primary, Path file) {
+            this.id = id;
+            this.petId = petId;
+            this.size = size;
+            this.sha256 = sha256;
+            this.altText = altText;
+            this.primary = primary;
+            this.file = file;
+        }
+
+        private void touch() {
+            lastActivity = System.nanoTime();
+        }
+
+        private UploadStatus status(long offset, Duration ttl) {
+            Duration idle = Duration.ofNanos(System.nanoTime() - lastActivity);
+            LocalDateTime expiresAt = LocalDateTime.ofInstant(Instant.now().plus(ttl).minus(idle), ZoneId.systemDefault());
+            return new UploadStatus(id, petId, size, offset, expiresAt);
+        }
+    }
+}
@@ -1,25 +1,58 @@
 package com.petfriendly.backend.service.impl;
 
+import com.petfriendly.backend.config.CacheConfig;
+import com.petfriendly.backend.dto.pagination.KeysetCursor;
+import com.petfriendly.backend.dto.pagination.SearchCursor;
+import com.petfriendly.backend.dto.response.CursorPage;
+import com.petfriendly.backend.dto.response.PetCardResponse;
+import com.petfriendly.backend.dto.response.PetResponse;
+import com.petfriendly.backend.dto.response.PetSummaryResponse;
+import com.petfriendly.backend.entity.AdoptionOutcome;
 import com.petfriendly.backend.entity.Pet;
 import com.petfriendly.backend.entity.PetSpecies;
 import com.petfriendly.backend.entity.PetStatus;
 import com.petfriendly.backend.entity.PetSize;
 import com.petfriendly.backend.entity.PetGender;
 import com.petfriendly.backend.entity.Foundation;
+import com.petfriendly.backend.entity.FoundationPetStatusCount;
 import com.petfriendly.backend.repository.PetRepository;
+import com.petfriendly.backend.repository.FoundationPetStatusCountRepository;
 import com.petfriendly.backend.repository.FoundationRepository;
+import com.petfriendly.backend.repository.projection.PetFacetCount;
+import com.petfriendly.backend.repository.projection.PetSearchHit;
+import com.petfriendly.backend.repository.projection.PetStatusCount;
+import com.petfriendly.backend.service.AdoptionReportService;
 import com.petfriendly.backend.service.PetService;
+import com.petfriendly.backend.service.index.AvailablePetIndex;
+import com.petfriendly.backend.service.snapshot.StatisticsChangedEvent;
+import com.petfriendly.backend.service.snapshot.StatisticsSection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of PetService interface
@@ -30,9 +63,18 @@ import java.util.UUID;
 @Transactional
 public class PetServiceImpl implements PetService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     // Manual logger since Lombok @Slf4j is not working
 private final PetRepository petRepository;
     private final FoundationRepository foundationRepository;
+    private final AvailablePetIndex availablePetIndex;
+    private final FoundationPetStatusCountRepository statusCountRepository;
+    private final AdoptionReportService adoptionReportService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.pet-statistics.counters-enabled:true}")
+    private boolean statusCountersEnabled;
 
     @Override
     public Pet createPet(Pet pet) {
@@ -40,32 +82,40 @@ private final PetRepository petRepository;
         
         // Validate foundation exists
         if (pet.getFoundation() != null && pet.getFoundation().getId() != null) {
-            foundationRepository.findById(pet.getFoundation().getId())
+            Foundation foundation = foundationRepository.findById(pet.getFoundation().getId())
                     .orElseThrow(() -> new IllegalArgumentException("Foundation not found with ID: " + pet.getFoundation().getId()));
+            pet.setFoundation(foundation);
         }
 
         // Set default values
         if (pet.getStatus() == null) {
             pet.setStatus(PetStatus.AVAILABLE);
         }
+        pet.setAdoptedAt(pet.getStatus() == PetStatus.ADOPTED ? LocalDateTime.now() : null);
 
         Pet savedPet = petRepository.save(pet);
+        moveStatusCount(savedPet, null, savedPet.getStatus(), null);
+        availablePetIndex.refresh(savedPet);
         log.info("Pet created successfully with ID: {}", savedPet.getId());
         return savedPet;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.PETS_CACHE, key = "#id")
     public Pet updatePet(UUID id, Pet pet) {
         log.info("Updating pet with ID: {}", id);
         
         Pet existingPet = petRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Pet not found with ID: " + id));
+        PetStatus previousStatus = existingPet.getStatus();
+        LocalDateTime previousAdoptedAt = existingPet.getAdoptedAt();
 
         // Update fields
         if (pet.getName() != null) {
             existingPet.setName(pet.getName());
         }
-        if (pet.getSpecies() != null) {
+        if (pet.getSpecies() != null && pet.getSpecies() != existingPet.getSpecies()) {
+            moveSpeciesOutcomes(existingPet, pet.getSpecies());
             existingPet.setSpecies(pet.getSpecies());
         }
         if (pet.getBreed() != null) {
@@ -83,13 +133,17 @@ private final PetRepository petRepository;
         if (pet.getDescription() != null) {
             existingPet.setDescription(pet.getDescription());
         }
-        if (pet.getStatus() != null) {
+        if (pet.getStatus() != null && pet.getStatus() != previousStatus) {
+            requireTransition(previousStatus, pet.getStatus());
             existingPet.setStatus(pet.getStatus());
+            existingPet.setAdoptedAt(pet.getStatus() == PetStatus.ADOPTED ? LocalDateTime.now() : null);
         }
 
         existingPet.setUpdatedAt(LocalDateTime.now());
 
         Pet updatedPet = petRepository.save(existingPet);
+        moveStatusCount(updatedPet, previousStatus, updatedPet.getStatus(), previousAdoptedAt);
+        availablePetIndex.refresh(updatedPet);
         log.info("Pet updated successfully with ID: {}", updatedPet.getId());
         return updatedPet;
     }
@@ -101,6 +155,14 @@ private final PetRepository petRepository;
         return petRepository.findById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PETS_CACHE, key = "#id", unless = "#result == null")
+    public Optional<PetResponse> findResponseById(UUID id) {
+        log.debug("Finding pet response by ID: {}", id);
+        return petRepository.findResponseById(id);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<Pet> findAll(Pageable pageable) {
@@ -122,6 +184,53 @@ private final PetRepository petRepository;
         return petRepository.findByStatus(status, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PetResponse> findAllResponses(Pageable pageable) {
+        log.debug("Finding all pet responses with pagination");
+        return petRepository.findAllResponses(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PetResponse> findResponsesByStatus(PetStatus status, Pageable pageable) {
+        log.debug("Finding pet responses by status with pagination: {}", status);
+        return petRepository.findResponsesByStatus(status, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PetSummaryResponse> findSummariesByStatus(PetStatus status, Pageable pageable) {
+        log.debug("Finding pet summaries by status with pagination: {}", status);
+        return petRepository.findSummariesByStatus(status, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Pet> findByStatus(PetStatus status, String cursor, int size) {
+        log.debug("Finding pets by status with cursor: {}", status);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        // Fetch one extra row to learn whether a next page exists without a COUNT query
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Pet> pets;
+        if (cursor == null || cursor.isBlank()) {
+            pets = petRepository.findFirstKeysetPageByStatus(status, limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            pets = petRepository.findKeysetPageByStatusAfter(status, position.createdAt(), position.id(), limit);
+        }
+
+        boolean hasNext = pets.size() > pageSize;
+        List<Pet> content = hasNext ? pets.subList(0, pageSize) : pets;
+        String nextCursor = null;
+        if (hasNext) {
+            Pet last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Pet> findBySpecies(PetSpecies species) {
@@ -214,6 +323,39 @@ private final PetRepository petRepository;
         return petRepository.findByNameContainingIgnoreCase(name, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Pet> searchFullText(String query, String cursor, int size) {
+        log.debug("Full-text searching pets: {}", query);
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        List<PetSearchHit> hits;
+        Instant asOf;
+        if (cursor == null || cursor.isBlank()) {
+            // The cursor carries milliseconds only; score later pages against exactly the same instant
+            asOf = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+            hits = petRepository.searchFullText(query, asOf, pageSize + 1);
+        } else {
+            SearchCursor position = SearchCursor.decode(cursor);
+            asOf = position.asOf();
+            hits = petRepository.searchFullTextAfter(query, asOf, position.score(), position.id(), pageSize + 1);
+        }
+
+        boolean hasNext = hits.size() > pageSize;
+        List<PetSearchHit> pageHits = hasNext ? hits.subList(0, pageSize) : hits;
+        String nextCursor = null;
+        if (hasNext) {
+            PetSearchHit last = pageHits.get(pageHits.size() - 1);
+            nextCursor = new SearchCursor(last.getScore(), last.getId(), asOf).encode();
+        }
+
+        List<UUID> ids = pageHits.stream().map(PetSearchHit::getId).toList();
+        return new CursorPage<>(findAllInOrder(ids), nextCursor, hasNext);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Pet> findAvailablePetsByCity(String city) {
@@ -235,13 +377,78 @@ private final PetRepository petRepository;
         return petRepository.findByStatus(PetStatus.AVAILABLE, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Pet> findAvailableForAdoption(String cursor, int size) {
+        log.debug("Finding available pets for adoption with cursor");
+        return findByStatus(PetStatus.AVAILABLE, cursor, size);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<Pet> findAvailablePetsWithFilters(PetSpecies species, PetSize size, 
                                                 PetGender gender, String city, Pageable pageable) {
         log.debug("Finding available pets with filters - species: {}, size: {}, gender: {}, city: {}", 
                  species, size, gender, city);
-        return petRepository.findAvailablePetsWithFilters(species, size, gender, city, pageable);
+
+        Optional<Page<UUID>> indexed = availablePetIndex.search(species, size, gender, city, pageable);
+        if (indexed.isEmpty()) {
+            return petRepository.findAvailablePetsWithFilters(species, size, gender, city, pageable);
+        }
+
+        // Filtering and paging were answered in memory; only the page itself is loaded by primary key
+        Page<UUID> ids = indexed.get();
+        return new PageImpl<>(findAllInOrder(ids.getContent()), pageable, ids.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PetCardResponse> findAvailablePetCards(PetSpecies species, PetSize size,
+                                                       PetGender gender, String city, Pageable pageable) {
+        log.debug("Finding available pet cards with filters - species: {}, size: {}, gender: {}, city: {}",
+                 species, size, gender, city);
+        return petRepository.findAvailablePetCards(species, size, gender, city, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PetFacets getAvailablePetFacets(PetSpecies species, PetSize size, PetGender gender, String city) {
+        log.debug("Getting available pet facets - species: {}, size: {}, gender: {}, city: {}",
+                 species, size, gender, city);
+
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        long total = 0;
+        for (PetFacetCount row : petRepository.countAvailableFacets(
+                species != null ? species.name() : null,
+                size != null ? size.name() : null,
+                gender != null ? gender.name() : null,
+                city)) {
+            if ("total".equals(row.getFacet())) {
+                total = row.getCount();
+            } else {
+                String value = row.getValue() != null ? row.getValue() : "UNKNOWN";
+                facets.computeIfAbsent(row.getFacet(), key -> new LinkedHashMap<>()).put(value, row.getCount());
+            }
+        }
+
+        return new PetFacets(total,
+                facets.getOrDefault("species", Map.of()),
+                facets.getOrDefault("size", Map.of()),
+                facets.getOrDefault("gender", Map.of()),
+                facets.getOrDefault("city", Map.of()),
+                facets.getOrDefault("age", Map.of()));
+    }
+
+    /**
+     * Load pets by primary key, preserving the order of the given IDs and skipping any that no longer exist
+     */
+    private List<Pet> findAllInOrder(List<UUID> ids) {
+        Map<UUID, Pet> petsById = petRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Pet::getId, Function.identity()));
+        return ids.stream()
+                .map(petsById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Override
@@ -305,45 +512,74 @@ private final PetRepository petRepository;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.PETS_CACHE, key = "#id")
     public void deleteById(UUID id) {
         log.info("Deleting pet with ID: {}", id);
         
-        if (!petRepository.existsById(id)) {
-            throw new IllegalArgumentException("Pet not found with ID: " + id);
-        }
+        Pet pet = petRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Pet not found with ID: " + id));
 
-        petRepository.deleteById(id);
+        foundationRepository.releasePendingRequestsOfPet(id);
+        adoptionReportService.movePetRequestOutcomes(id, pet.getSpecies(), null);
+        petRepository.delete(pet);
+        moveStatusCount(pet, pet.getStatus(), null, pet.getAdoptedAt());
+        // The pet's adoption requests are removed by the database cascade
+        eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.ADOPTION_REQUESTS));
+        availablePetIndex.evict(id);
         log.info("Pet deleted successfully with ID: {}", id);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.PETS_CACHE, key = "#id")
     public Pet updateStatus(UUID id, PetStatus status) {
         log.info("Updating status for pet with ID: {} to {}", id, status);
         
         Pet pet = petRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Pet not found with ID: " + id));
+        PetStatus previousStatus = pet.getStatus();
+        if (previousStatus == status) {
+            return pet;
+        }
+        requireTransition(previousStatus, status);
+        if (status == PetStatus.AVAILABLE) {
+            // The index entry needs the foundation city; load it before the update detaches the pet
+            Hibernate.initialize(pet.getFoundation());
+        }
 
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime adoptedAt = status == PetStatus.ADOPTED ? now : null;
+        if (petRepository.compareAndSetStatus(id, previousStatus, status, now, adoptedAt) == 0) {
+            throw new IllegalStateException("Pet " + id + " is no longer " + previousStatus.name());
+        }
+        // Mirror the bulk update on the now detached pet instead of re-reading it
+        LocalDateTime previousAdoptedAt = pet.getAdoptedAt();
         pet.setStatus(status);
-        pet.setUpdatedAt(LocalDateTime.now());
+        pet.setUpdatedAt(now);
+        pet.setAdoptedAt(adoptedAt);
+        pet.setVersion(pet.getVersion() + 1);
 
-        Pet updatedPet = petRepository.save(pet);
-        log.info("Pet status updated successfully for ID: {}", updatedPet.getId());
-        return updatedPet;
+        moveStatusCount(pet, previousStatus, status, previousAdoptedAt);
+        availablePetIndex.refresh(pet);
+        log.info("Pet status updated successfully for ID: {}", id);
+        return pet;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.PETS_CACHE, key = "#id")
     public Pet markAsAdopted(UUID id) {
         log.info("Marking pet as adopted with ID: {}", id);
         return updateStatus(id, PetStatus.ADOPTED);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.PETS_CACHE, key = "#id")
     public Pet markAsAvailable(UUID id) {
         log.info("Marking pet as available with ID: {}", id);
         return updateStatus(id, PetStatus.AVAILABLE);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.PETS_CACHE, key = "#id")
     public Pet updateProfile(UUID id, String name, String breed, Integer age, String description) {
         log.info("Updating profile for pet with ID: {}", id);
         
@@ -366,6 +602,7 @@ private final PetRepository petRepository;
         pet.setUpdatedAt(LocalDateTime.now());
 
         Pet updatedPet = petRepository.save(pet);
+        availablePetIndex.refresh(updatedPet);
         log.info("Profile updated successfully for pet with ID: {}", updatedPet.getId());
         return updatedPet;
     }
@@ -374,31 +611,107 @@ private final PetRepository petRepository;
     @Transactional(readOnly = true)
     public PetStatistics getPetStatistics(UUID foundationId) {
         log.debug("Getting pet statistics for foundation with ID: {}", foundationId);
-        
-        Foundation foundation = foundationRepository.findById(foundationId)
-                .orElseThrow(() -> new IllegalArgumentException("Foundation not found with ID: " + foundationId));
 
-        long totalPets = petRepository.countByFoundation(foundation);
-        long availablePets = petRepository.countByFoundationAndStatus(foundation, PetStatus.AVAILABLE);
-        long adoptedPets = petRepository.countByFoundationAndStatus(foundation, PetStatus.ADOPTED);
-        long pendingPets = petRepository.countByFoundationAndStatus(foundation, PetStatus.PENDING);
-        long unavailablePets = petRepository.countByFoundationAndStatus(foundation, PetStatus.UNAVAILABLE);
+        Map<PetStatus, Long> counts = new EnumMap<>(PetStatus.class);
+        if (statusCountersEnabled) {
+            for (FoundationPetStatusCount counter : statusCountRepository.findByFoundationId(foundationId)) {
+                counts.put(counter.getStatus(), counter.getPetCount());
+            }
+        } else {
+            for (PetStatusCount row : petRepository.countGroupedByStatusForFoundation(foundationId)) {
+                counts.put(row.getStatus(), row.getCount());
+            }
+        }
 
-        return new PetStatistics(totalPets, availablePets, adoptedPets, pendingPets, unavailablePets);
+        // No rows means either an empty foundation or an unknown one; only then pay for the existence check
+        if (counts.isEmpty() && !foundationRepository.existsById(foundationId)) {
+            throw new IllegalArgumentException("Foundation not found with ID: " + foundationId);
+        }
+        return toPetStatistics(counts);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PetStatistics getStatistics() {
         log.debug("Getting pet statistics");
-        
-        long totalPets = petRepository.count();
-        long availablePets = petRepository.countByStatus(PetStatus.AVAILABLE);
-        long adoptedPets = petRepository.countByStatus(PetStatus.ADOPTED);
-        long pendingPets = petRepository.countByStatus(PetStatus.PENDING);
-        long unavailablePets = petRepository.countByStatus(PetStatus.UNAVAILABLE);
-        
-        return new PetStatistics(totalPets, availablePets, adoptedPets, pendingPets, unavailablePets);
+
+        Map<PetStatus, Long> counts = new EnumMap<>(PetStatus.class);
+        for (PetStatusCount row : petRepository.countGroupedByStatus()) {
+            counts.put(row.getStatus(), row.getCount());
+        }
+        return toPetStatistics(counts);
+    }
+
+    private static PetStatistics toPetStatistics(Map<PetStatus, Long> counts) {
+        long totalPets = counts.values().stream().mapToLong(Long::longValue).sum();
+        return new PetStatistics(totalPets,
+                counts.getOrDefault(PetStatus.AVAILABLE, 0L),
+                counts.getOrDefault(PetStatus.ADOPTED, 0L),
+                counts.getOrDefault(PetStatus.PENDING, 0L),
+                counts.getOrDefault(PetStatus.UNAVAILABLE, 0L));
+    }
+
+    private static void requireTransition(PetStatus from, PetStatus to) {
+        if (!from.canTransitionTo(to)) {
+            throw new IllegalStateException("Pet status cannot change from " + from.name() + " to " + to.name());
+        }
+    }
+
+    /**
+     * Keep the per-foundation status counters, the foundation's available pet counter and the monthly
+     * adoption rollup in step with a pet status change, in the same transaction.
+     * A null {@code from} means the pet was created, a null {@code to} that it was deleted.
+     * {@code previousAdoptedAt} is the pet's adoption time before the change; the pet holds the new one.
+     */
+    private void moveStatusCount(Pet pet, PetStatus from, PetStatus to, LocalDateTime previousAdoptedAt) {
+        if (from == to) {
+            return;
+        }
+        eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.PETS, StatisticsSection.FOUNDATIONS));
+        if (pet.getFoundation() == null) {
+            return;
+        }
+        UUID foundationId = pet.getFoundation().getId();
+        // An adopted pet counts in the month it was adopted until it is returned or deleted
+        if (from == PetStatus.ADOPTED && previousAdoptedAt != null) {
+            adoptionReportService.recordOutcome(foundationId, pet.getSpecies(), AdoptionOutcome.ADOPTED,
+                    YearMonth.from(previousAdoptedAt), -1);
+        }
+        if (to == PetStatus.ADOPTED) {
+            adoptionReportService.recordOutcome(foundationId, pet.getSpecies(), AdoptionOutcome.ADOPTED,
+                    YearMonth.from(pet.getAdoptedAt()), 1);
+        }
+        if ((from == PetStatus.AVAILABLE) != (to == PetStatus.AVAILABLE)) {
+            foundationRepository.incrementAvailablePets(foundationId, to == PetStatus.AVAILABLE ? 1 : -1);
+        }
+        if (!statusCountersEnabled) {
+            return;
+        }
+        if (from != null) {
+            statusCountRepository.increment(foundationId, from, -1);
+        }
+        if (to != null && statusCountRepository.increment(foundationId, to, 1) == 0) {
+            // First pet of this status: creators of the row serialize on the foundation, so the second one
+            // finds the row inserted by the first and updates it instead of colliding on the primary key
+            foundationRepository.lockById(foundationId);
+            if (statusCountRepository.increment(foundationId, to, 1) == 0) {
+                statusCountRepository.insert(foundationId, to, 1);
+            }
+        }
+    }
+
+    /**
+     * Move a pet's counts in the monthly adoption rollup to its new species; called before the pet is
+     * re-classified, in the same transaction
+     */
+    private void moveSpeciesOutcomes(Pet pet, PetSpecies to) {
+        adoptionReportService.movePetRequestOutcomes(pet.getId(), pet.getSpecies(), to);
+        if (pet.getStatus() == PetStatus.ADOPTED && pet.getAdoptedAt() != null) {
+            UUID foundationId = pet.getFoundation().getId();
+            YearMonth month = YearMonth.from(pet.getAdoptedAt());
+            adoptionReportService.recordOutcome(foundationId, pet.getSpecies(), AdoptionOutcome.ADOPTED, month, -1);
+            adoptionReportService.recordOutcome(foundationId, to, AdoptionOutcome.ADOPTED, month, 1);
+        }
     }
 
     @Override
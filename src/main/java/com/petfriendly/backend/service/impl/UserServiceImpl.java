@@ -2,11 +2,16 @@ package com.petfriendly.backend.service.impl;
 
 import com.petfriendly.backend.entity.User;
 import com.petfriendly.backend.enums.Role;
+import com.petfriendly.backend.repository.FoundationRepository;
 import com.petfriendly.backend.repository.UserRepository;
+import com.petfriendly.backend.security.SecurityStampCache;
 import com.petfriendly.backend.service.UserService;
+import com.petfriendly.backend.service.snapshot.StatisticsChangedEvent;
+import com.petfriendly.backend.service.snapshot.StatisticsSection;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -26,7 +31,10 @@ public class UserServiceImpl implements UserService {
     private static final Logger log = LoggerFactory.getLogger(UserServiceImpl.class);
 
     private final UserRepository userRepository;
+    private final FoundationRepository foundationRepository;
     private final PasswordEncoder passwordEncoder;
+    private final SecurityStampCache securityStampCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public User createUser(User user) {
@@ -44,6 +52,7 @@ public class UserServiceImpl implements UserService {
             user.setActive(true);
         }
 
+        eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.USERS));
         return userRepository.save(user);
     }
 
@@ -63,14 +72,22 @@ public class UserServiceImpl implements UserService {
         if (user.getPhone() != null) {
             existingUser.setPhone(user.getPhone());
         }
+        boolean revokeTokens = false;
         if (user.getRole() != null) {
+            revokeTokens = user.getRole() != existingUser.getRole();
             existingUser.setRole(user.getRole());
         }
         if (user.getActive() != null) {
+            revokeTokens |= existingUser.isActive() && !user.getActive();
             existingUser.setActive(user.getActive());
         }
+        if (revokeTokens) {
+            existingUser.rotateSecurityStamp();
+        }
+        securityStampCache.evict(id);
 
         existingUser.setUpdatedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.USERS));
         return userRepository.save(existingUser);
     }
 
@@ -169,7 +186,12 @@ public class UserServiceImpl implements UserService {
         if (!userRepository.existsById(id)) {
             throw new IllegalArgumentException("User not found with ID: " + id);
         }
+        // The user's adoption requests go with them; take the pending ones off their foundations' counters first
+        foundationRepository.releasePendingRequestsOfUser(id);
         userRepository.deleteById(id);
+        securityStampCache.evict(id);
+        eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.USERS,
+                StatisticsSection.ADOPTION_REQUESTS, StatisticsSection.FOUNDATIONS));
     }
 
     @Override
@@ -178,6 +200,8 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + id));
         user.setActive(true);
         user.setUpdatedAt(LocalDateTime.now());
+        securityStampCache.evict(id);
+        eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.USERS));
         return userRepository.save(user);
     }
 
@@ -186,7 +210,10 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + id));
         user.setActive(false);
+        user.rotateSecurityStamp();
         user.setUpdatedAt(LocalDateTime.now());
+        securityStampCache.evict(id);
+        eventPublisher.publishEvent(StatisticsChangedEvent.of(StatisticsSection.USERS));
         return userRepository.save(user);
     }
 
@@ -195,7 +222,9 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + id));
         user.setPassword(passwordEncoder.encode(newPassword));
+        user.rotateSecurityStamp();
         user.setUpdatedAt(LocalDateTime.now());
+        securityStampCache.evict(id);
         return userRepository.save(user);
     }
 
@@ -0,0 +1,398 @@
+package com.petfriendly.backend.service.index;
+
+import com.petfriendly.backend.entity.Pet;
+import com.petfriendly.backend.entity.PetGender;
+import com.petfriendly.backend.entity.PetSize;
+import com.petfriendly.backend.entity.PetSpecies;
+import com.petfriendly.backend.entity.PetStatus;
+import com.petfriendly.backend.repository.PetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of AVAILABLE pets used to serve filtered catalog browsing without querying the database.
+ * <p>
+ * Every indexed pet occupies an integer slot. Species, size, gender and foundation city keep one
+ * {@link BitSet} per value, so a filter is the intersection of at most four bitmaps. Slots ordered by
+ * creation date and by age are kept in primitive arrays that are rebuilt lazily after writes.
+ * <p>
+ * Changes are applied after the surrounding transaction commits. Until the initial load has finished
+ * (or when an unsupported sort is requested) {@link #search} returns empty and callers fall back to the database.
+ */
+@Slf4j
+@Component
+public class AvailablePetIndex {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int NULL_AGE = Integer.MAX_VALUE;
+    private static final String CREATED_AT = "createdAt";
+    private static final String AGE = "age";
+
+    private final PetRepository petRepository;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> slotsById = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final Map<PetSpecies, BitSet> bySpecies = new EnumMap<>(PetSpecies.class);
+    private final Map<PetSize, BitSet> bySize = new EnumMap<>(PetSize.class);
+    private final Map<PetGender, BitSet> byGender = new EnumMap<>(PetGender.class);
+    private final Map<String, BitSet> byCity = new HashMap<>();
+    private final List<Runnable> pendingChanges = new ArrayList<>();
+
+    private Entry[] entries = new Entry[INITIAL_CAPACITY];
+    private long[] createdAtKeys = new long[INITIAL_CAPACITY];
+    private int[] ages = new int[INITIAL_CAPACITY];
+    private int[] newestFirst = new int[0];
+    private int[] youngestFirst = new int[0];
+    private boolean orderingsStale;
+    private boolean ready;
+
+    public AvailablePetIndex(PetRepository petRepository,
+                             @Value("${app.pet-index.enabled:true}") boolean enabled) {
+        this.petRepository = petRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Load all available pets once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Reload the index from the database. Searches fall back to the database while the reload runs,
+     * and changes committed in the meantime are replayed on top of the loaded snapshot.
+     */
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<Entry> snapshot = petRepository.findAvailableWithFoundation().stream()
+                .map(Entry::of)
+                .toList();
+
+        lock.writeLock().lock();
+        try {
+            clear();
+            snapshot.forEach(this::put);
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges.clear();
+            orderingsStale = true;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Available pet index loaded with {} pets", snapshot.size());
+    }
+
+    /**
+     * Index the pet if it is available, otherwise drop it from the index.
+     * Must be called while the pet (and its foundation) can still be read, i.e. inside the write transaction.
+     * @param pet the pet that was created or updated
+     */
+    public void refresh(Pet pet) {
+        if (!enabled) {
+            return;
+        }
+        if (pet.getStatus() == PetStatus.AVAILABLE) {
+            Entry entry = Entry.of(pet);
+            afterCommit(() -> put(entry));
+        } else {
+            UUID id = pet.getId();
+            afterCommit(() -> remove(id));
+        }
+    }
+
+    /**
+     * Re-index the available pets of a foundation, e.g. after its city changed.
+     * Must be called inside the write transaction, after the foundation change has been applied.
+     * @param foundationId the foundation ID
+     */
+    public void refreshFoundation(UUID foundationId) {
+        if (enabled) {
+            petRepository.findAvailableWithFoundationByFoundationId(foundationId).forEach(this::refresh);
+        }
+    }
+
+    /**
+     * Drop the available pets of a foundation that is about to be deleted.
+     * Must be called inside the write transaction, before the delete.
+     * @param foundationId the foundation ID
+     */
+    public void evictFoundation(UUID foundationId) {
+        if (enabled) {
+            petRepository.findAvailableWithFoundationByFoundationId(foundationId)
+                    .forEach(pet -> evict(pet.getId()));
+        }
+    }
+
+    /**
+     * Drop a pet from the index.
+     * @param id the pet ID
+     */
+    public void evict(UUID id) {
+        if (enabled) {
+            afterCommit(() -> remove(id));
+        }
+    }
+
+    /**
+     * Find available pet IDs matching the given filters.
+     * @param species the pet species (optional)
+     * @param size the pet size (optional)
+     * @param gender the pet gender (optional)
+     * @param city the foundation city (optional)
+     * @param pageable pagination information; only unsorted or single {@code createdAt}/{@code age} sorts are supported
+     * @return page of pet IDs, or empty when the index cannot answer the query
+     */
+    public Optional<Page<UUID>> search(PetSpecies species, PetSize size, PetGender gender,
+                                       String city, Pageable pageable) {
+        if (!enabled || !isSupported(pageable.getSort())) {
+            return Optional.empty();
+        }
+        refreshOrderingsIfStale();
+
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return Optional.empty();
+            }
+            BitSet matches = (BitSet) live.clone();
+            intersect(matches, species == null ? null : bySpecies.get(species), species != null);
+            intersect(matches, size == null ? null : bySize.get(size), size != null);
+            intersect(matches, gender == null ? null : byGender.get(gender), gender != null);
+            intersect(matches, city == null ? null : byCity.get(city), city != null);
+
+            int total = matches.cardinality();
+            Sort.Order order = pageable.getSort().stream().findFirst().orElse(null);
+            int[] ordering = order != null && AGE.equals(order.getProperty()) ? youngestFirst : newestFirst;
+            boolean reversed = order != null && (AGE.equals(order.getProperty()) ? order.isDescending() : order.isAscending());
+
+            long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+            int limit = pageable.isPaged() ? pageable.getPageSize() : total;
+            List<UUID> content = new ArrayList<>(Math.min(limit, total));
+            long seen = 0;
+            for (int i = 0; i < ordering.length && content.size() < limit; i++) {
+                int slot = ordering[reversed ? ordering.length - 1 - i : i];
+                if (matches.get(slot) && seen++ >= offset) {
+                    content.add(entries[slot].id());
+                }
+            }
+            return Optional.of(new PageImpl<>(content, pageable, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of pets currently indexed.
+     * @return indexed pet count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isSupported(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1
+                && (CREATED_AT.equals(orders.get(0).getProperty()) || AGE.equals(orders.get(0).getProperty()));
+    }
+
+    private static void intersect(BitSet matches, BitSet bitmap, boolean filtered) {
+        if (!filtered) {
+            return;
+        }
+        if (bitmap == null) {
+            matches.clear();
+        } else {
+            matches.and(bitmap);
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            if (ready) {
+                change.run();
+                orderingsStale = true;
+            } else {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void refreshOrderingsIfStale() {
+        lock.readLock().lock();
+        try {
+            if (!orderingsStale) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (orderingsStale) {
+                Comparator<Integer> newest = Comparator.<Integer>comparingLong(slot -> createdAtKeys[slot]).reversed()
+                        .thenComparing(slot -> entries[slot].id(), Comparator.reverseOrder());
+                newestFirst = live.stream().boxed().sorted(newest).mapToInt(Integer::intValue).toArray();
+                youngestFirst = live.stream().boxed()
+                        .sorted(Comparator.<Integer>comparingInt(slot -> ages[slot]).thenComparing(newest))
+                        .mapToInt(Integer::intValue).toArray();
+                orderingsStale = false;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Callers must hold the write lock
+
+    private void put(Entry entry) {
+        remove(entry.id());
+        int slot = live.nextClearBit(0);
+        ensureCapacity(slot + 1);
+
+        live.set(slot);
+        slotsById.put(entry.id(), slot);
+        entries[slot] = entry;
+        createdAtKeys[slot] = entry.createdAtKey();
+        ages[slot] = entry.age() == null ? NULL_AGE : entry.age();
+        if (entry.species() != null) {
+            bySpecies.computeIfAbsent(entry.species(), key -> new BitSet()).set(slot);
+        }
+        if (entry.size() != null) {
+            bySize.computeIfAbsent(entry.size(), key -> new BitSet()).set(slot);
+        }
+        if (entry.gender() != null) {
+            byGender.computeIfAbsent(entry.gender(), key -> new BitSet()).set(slot);
+        }
+        if (entry.city() != null) {
+            byCity.computeIfAbsent(entry.city(), key -> new BitSet()).set(slot);
+        }
+    }
+
+    private void remove(UUID id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        Entry entry = entries[slot];
+        live.clear(slot);
+        entries[slot] = null;
+        clearBit(bySpecies, entry.species(), slot);
+        clearBit(bySize, entry.size(), slot);
+        clearBit(byGender, entry.gender(), slot);
+        clearBit(byCity, entry.city(), slot);
+    }
+
+    private static <K> void clearBit(Map<K, BitSet> bitmaps, K key, int slot) {
+        if (key == null) {
+            return;
+        }
+        BitSet bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.clear(slot);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private void clear() {
+        slotsById.clear();
+        live.clear();
+        bySpecies.clear();
+        bySize.clear();
+        byGender.clear();
+        byCity.clear();
+        Arrays.fill(entries, null);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= entries.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, entries.length * 2);
+        entries = Arrays.copyOf(entries, newCapacity);
+        createdAtKeys = Arrays.copyOf(createdAtKeys, newCapacity);
+        ages = Arrays.copyOf(ages, newCapacity);
+    }
+
+    /**
+     * Immutable copy of the indexed attributes of a pet, captured while the entity is still attached.
+     */
+    private record Entry(UUID id, PetSpecies species, PetSize size, PetGender gender,
+                         String city, Integer age, LocalDateTime createdAt) {
+
+        static Entry of(Pet pet) {
+            String city = pet.getFoundation() != null ? pet.getFoundation().getCity() : null;
+            LocalDateTime createdAt = pet.getCreatedAt() != null ? pet.getCreatedAt() : LocalDateTime.now();
+            return new Entry(pet.getId(), pet.getSpecies(), pet.getSize(), pet.getGender(),
+                    city, pet.getAge(), createdAt);
+        }
+
+        long createdAtKey() {
+            return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + createdAt.getNano();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.petfriendly.backend.service.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.petfriendly.backend.repository.ContactMessageDailyCountRepository;
+import com.petfriendly.backend.repository.projection.DailyMessageCount;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * In-memory ring buffers of contact messages received per day over the last {@value #DAYS} days,
+ * one per foundation plus one across all foundations, loaded from the daily rollup table.
+ * <p>
+ * Today, week and month totals are sums over at most {@value #DAYS} slots. Local writes are applied
+ * after commit; the TTL bounds how long changes made by another instance stay invisible here.
+ * <p>
+ * A ring read from the database while a local write is between its commit and its after-commit delta
+ * may already hold that write, so such a ring serves the read that loaded it but is not cached.
+ * Cached rings therefore never count a local write twice.
+ */
+@Component
+public class RecentContactMessageCounts {
+
+    public static final int DAYS = 30;
+    private static final UUID ALL_FOUNDATIONS = new UUID(0, 0);
+
+    private final ContactMessageDailyCountRepository dailyCountRepository;
+    private final Cache<UUID, DayRing> rings;
+    private final AtomicLong writesStarted = new AtomicLong();
+    private final AtomicLong writesFinished = new AtomicLong();
+
+    public RecentContactMessageCounts(ContactMessageDailyCountRepository dailyCountRepository,
+                                      @Value("${app.contact-message-counts.ttl:1m}") Duration ttl,
+                                      @Value("${app.contact-message-counts.maximum-size:10000}") long maximumSize) {
+        this.dailyCountRepository = dailyCountRepository;
+        this.rings = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Messages received by a foundation today, in the last 7 days and in the last 30 days
+     * (calendar days, today included).
+     * Only a cache miss reaches the database.
+     */
+    public Window forFoundation(UUID foundationId) {
+        LocalDate today = LocalDate.now();
+        return ring(foundationId, () -> dailyCountRepository.findDailyCountsByFoundationSince(foundationId, firstDay(today)))
+                .window(today);
+    }
+
+    /**
+     * Messages received across all foundations today, in the last 7 days and in the last 30 days.
+     */
+    public Window forAllFoundations() {
+        LocalDate today = LocalDate.now();
+        return ring(ALL_FOUNDATIONS, () -> dailyCountRepository.findDailyCountsSince(firstDay(today)))
+                .window(today);
+    }
+
+    /**
+     * Add {@code delta} messages received on {@code day} once the surrounding transaction commits.
+     * Rings that are not loaded are left alone; they read the committed buckets when first needed.
+     */
+    public void record(UUID foundationId, LocalDate day, long delta) {
+        Runnable change = () -> {
+            add(foundationId, day, delta);
+            add(ALL_FOUNDATIONS, day, delta);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            writesStarted.incrementAndGet();
+            change.run();
+            writesFinished.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean started;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                started = true;
+                writesStarted.incrementAndGet();
+            }
+
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (started) {
+                    writesFinished.incrementAndGet();
+                }
+            }
+        });
+    }
+
+    /**
+     * Drop a foundation's ring, and the all-foundations ring it contributes to, once the surrounding
+     * transaction commits. Used when a foundation's messages are removed in bulk.
+     */
+    public void evictFoundation(UUID foundationId) {
+        afterCommit(() -> rings.invalidateAll(List.of(foundationId, ALL_FOUNDATIONS)));
+    }
+
+    /**
+     * The cached ring for {@code key}, or one loaded by {@code counts}. The loaded ring is cached only if no
+     * local write was committing while it was read; otherwise the next read loads it again.
+     */
+    private DayRing ring(UUID key, Supplier<List<DailyMessageCount>> counts) {
+        DayRing cached = rings.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long finished = writesFinished.get();
+        long started = writesStarted.get();
+        DayRing ring = load(counts.get());
+        if (started != finished) {
+            return ring;
+        }
+        cached = rings.asMap().putIfAbsent(key, ring);
+        if (cached != null) {
+            return cached;
+        }
+        if (writesStarted.get() != started) {
+            rings.asMap().remove(key, ring);
+        }
+        return ring;
+    }
+
+    private void add(UUID key, LocalDate day, long delta) {
+        DayRing ring = rings.getIfPresent(key);
+        if (ring != null) {
+            ring.add(day.toEpochDay(), delta);
+        }
+    }
+
+    private static LocalDate firstDay(LocalDate today) {
+        return today.minusDays(DAYS - 1);
+    }
+
+    private static DayRing load(List<DailyMessageCount> counts) {
+        DayRing ring = new DayRing();
+        counts.forEach(count -> ring.add(count.getDay().toEpochDay(), count.getCount()));
+        return ring;
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * Message totals over the trailing day, week and month
+     */
+    public record Window(long today, long week, long month) {
+    }
+
+    /**
+     * One slot per day, indexed by epoch day modulo {@value #DAYS}. A slot still holding an older day
+     * is reset when a newer day claims it, so the ring never needs a background roll-over.
+     */
+    static final class DayRing {
+        private final long[] days = new long[DAYS];
+        private final long[] counts = new long[DAYS];
+
+        DayRing() {
+            Arrays.fill(days, Long.MIN_VALUE);
+        }
+
+        synchronized void add(long epochDay, long delta) {
+            int slot = Math.floorMod(epochDay, DAYS);
+            if (days[slot] == epochDay) {
+                counts[slot] += delta;
+            } else if (days[slot] < epochDay) {
+                days[slot] = epochDay;
+                counts[slot] = delta;
+            }
+            // else: the day is older than the ring covers
+        }
+
+        synchronized Window window(LocalDate today) {
+            long epochToday = today.toEpochDay();
+            long day = 0;
+            long week = 0;
+            long month = 0;
+            for (int slot = 0; slot < DAYS; slot++) {
+                if (days[slot] > epochToday || days[slot] <= epochToday - DAYS) {
+                    continue;
+                }
+                long age = epochToday - days[slot];
+                month += counts[slot];
+                if (age < 7) {
+                    week += counts[slot];
+                }
+                if (age == 0) {
+                    day += counts[slot];
+                }
+            }
+            return new Window(day, week, month);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.petfriendly.backend.service.job;
+
+import com.petfriendly.backend.service.AdoptionAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Persists the review decisions accumulated in memory by {@link AdoptionAnalyticsService}.
+ * <p>
+ * The interval bounds how many decisions an instance can lose if it is killed without a graceful shutdown.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdoptionAnalyticsFlushJob {
+
+    private final AdoptionAnalyticsService adoptionAnalyticsService;
+
+    @Scheduled(fixedDelayString = "${app.adoption-analytics.flush-interval:1m}",
+            initialDelayString = "${app.adoption-analytics.flush-interval:1m}")
+    public void flush() {
+        int written = adoptionAnalyticsService.flush();
+        if (written > 0) {
+            log.debug("Flushed review analytics of {} foundation months", written);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.petfriendly.backend.service.job;
+
+import com.petfriendly.backend.service.AdoptionRequestService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Cancels PENDING adoption requests that have waited longer than {@code app.adoption-expiry.max-age}.
+ * <p>
+ * Work is split into batches of {@code batch-size} rows, each in its own short transaction, with a
+ * pause in between, so row locks stay brief and WAL is written at a steady rate. The default schedule
+ * runs off-peak. Rows and batches processed are published as {@code adoption.requests.expired} and
+ * {@code adoption.requests.expiry.batches}.
+ */
+@Slf4j
+@Component
+public class AdoptionRequestExpiryJob {
+
+    private final AdoptionRequestService adoptionRequestService;
+    private final Counter expiredRequests;
+    private final Counter batches;
+
+    @Value("${app.adoption-expiry.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.adoption-expiry.max-age:30d}")
+    private Duration maxAge;
+
+    @Value("${app.adoption-expiry.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.adoption-expiry.batch-pause:200ms}")
+    private Duration batchPause;
+
+    public AdoptionRequestExpiryJob(AdoptionRequestService adoptionRequestService, MeterRegistry meterRegistry) {
+        this.adoptionRequestService = adoptionRequestService;
+        this.expiredRequests = Counter.builder("adoption.requests.expired")
+                .description("Pending adoption requests cancelled by the expiry job")
+                .register(meterRegistry);
+        this.batches = Counter.builder("adoption.requests.expiry.batches")
+                .description("Expiry batches committed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.adoption-expiry.cron:0 15 3 * * *}")
+    public void expireStaleRequests() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(maxAge);
+        log.info("Expiring pending adoption requests created before {}", cutoff);
+
+        long total = 0;
+        int expired;
+        do {
+            expired = adoptionRequestService.expirePendingRequests(cutoff, batchSize);
+            total += expired;
+            expiredRequests.increment(expired);
+            batches.increment();
+        } while (expired == batchSize && pause());
+
+        log.info("Expired {} pending adoption requests", total);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Adoption request expiry interrupted; remaining requests will be expired on the next run");
+            return false;
+        }
+    }
+}
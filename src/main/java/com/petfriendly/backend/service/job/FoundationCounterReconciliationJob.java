@@ -0,0 +1,45 @@
+package com.petfriendly.backend.service.job;
+
+import com.petfriendly.backend.service.FoundationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repairs drift in the foundation counters (available pets, pending adoption requests, unread messages).
+ * <p>
+ * The write paths keep the counters exact; drift only comes from changes made outside the services,
+ * such as manual SQL or database-level cascades. Foundations repaired are published as
+ * {@code foundation.counters.repaired}, so a steadily non-zero rate points at a write path that
+ * forgets its counter.
+ */
+@Slf4j
+@Component
+public class FoundationCounterReconciliationJob {
+
+    private final FoundationService foundationService;
+    private final Counter repairedFoundations;
+
+    @Value("${app.foundation-counters.reconcile-enabled:true}")
+    private boolean enabled;
+
+    public FoundationCounterReconciliationJob(FoundationService foundationService, MeterRegistry meterRegistry) {
+        this.foundationService = foundationService;
+        this.repairedFoundations = Counter.builder("foundation.counters.repaired")
+                .description("Foundations whose counters were corrected by the reconciliation job")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.foundation-counters.reconcile-cron:0 45 3 * * *}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        int repaired = foundationService.reconcileCounters();
+        repairedFoundations.increment(repaired);
+        log.info("Foundation counter reconciliation finished, {} foundations repaired", repaired);
+    }
+}
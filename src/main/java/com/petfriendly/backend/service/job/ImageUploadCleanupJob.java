@@ -0,0 +1,28 @@
+package com.petfriendly.backend.service.job;
+
+import com.petfriendly.backend.service.PetImageUploadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes chunked uploads abandoned for longer than {@code app.image-uploads.ttl}, so partial files do not
+ * accumulate on disk.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageUploadCleanupJob {
+
+    private final PetImageUploadService petImageUploadService;
+
+    @Scheduled(fixedDelayString = "${app.image-uploads.cleanup-interval:15m}",
+            initialDelayString = "${app.image-uploads.cleanup-interval:15m}")
+    public void expireStaleUploads() {
+        int removed = petImageUploadService.expireStaleUploads();
+        if (removed > 0) {
+            log.info("Removed {} abandoned image uploads", removed);
+        }
+    }
+}
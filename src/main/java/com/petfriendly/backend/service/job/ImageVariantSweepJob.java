@@ -0,0 +1,28 @@
+package com.petfriendly.backend.service.job;
+
+import com.petfriendly.backend.service.storage.ImageVariantPipeline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Re-queues pet images whose variants are still pending, either because the queue was full when they
+ * were saved, because the instance stopped before processing them or because an earlier attempt failed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantSweepJob {
+
+    private final ImageVariantPipeline imageVariantPipeline;
+
+    @Scheduled(fixedDelayString = "${app.image-variants.sweep-interval:2m}",
+            initialDelayString = "${app.image-variants.sweep-interval:2m}")
+    public void sweep() {
+        int submitted = imageVariantPipeline.submitPending();
+        if (submitted > 0) {
+            log.info("Queued {} pending pet images for variant generation", submitted);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.petfriendly.backend.service.snapshot;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Published by the service write paths when a change affects global statistics.
+ * Handled after the surrounding transaction commits.
+ */
+public record StatisticsChangedEvent(Set<StatisticsSection> sections) {
+
+    public static StatisticsChangedEvent of(StatisticsSection first, StatisticsSection... rest) {
+        return new StatisticsChangedEvent(EnumSet.of(first, rest));
+    }
+}
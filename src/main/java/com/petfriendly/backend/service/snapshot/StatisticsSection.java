@@ -0,0 +1,12 @@
+package com.petfriendly.backend.service.snapshot;
+
+/**
+ * Global statistics blocks served from {@link StatisticsSnapshots}.
+ */
+public enum StatisticsSection {
+    PETS,
+    USERS,
+    FOUNDATIONS,
+    ADOPTION_REQUESTS,
+    CONTACT_MESSAGES
+}
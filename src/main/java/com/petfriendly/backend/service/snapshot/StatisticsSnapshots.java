@@ -0,0 +1,191 @@
+package com.petfriendly.backend.service.snapshot;
+
+import com.petfriendly.backend.service.AdoptionRequestService;
+import com.petfriendly.backend.service.ContactMessageService;
+import com.petfriendly.backend.service.FoundationService;
+import com.petfriendly.backend.service.PetService;
+import com.petfriendly.backend.service.UserService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Last computed snapshot of each global statistics block, served without touching the database.
+ * <p>
+ * Snapshots are recomputed on a schedule ({@code app.statistics-snapshots.refresh-interval}) and after
+ * commits that publish a {@link StatisticsChangedEvent}. A read of a snapshot older than
+ * {@code max-age}, or one marked changed, still returns it immediately and triggers one background
+ * refresh on a virtual thread; concurrent triggers for the same section coalesce into that refresh.
+ * Only a read that arrives before the start-up warm-up has produced a snapshot computes it in place.
+ */
+@Slf4j
+@Component
+public class StatisticsSnapshots {
+
+    private final Map<StatisticsSection, Holder<?>> holders = new EnumMap<>(StatisticsSection.class);
+    private final Holder<PetService.PetStatistics> pets;
+    private final Holder<UserService.UserStatistics> users;
+    private final Holder<FoundationService.FoundationStatistics> foundations;
+    private final Holder<AdoptionRequestService.AdoptionRequestStatistics> adoptionRequests;
+    private final Holder<ContactMessageService.ContactMessageStatistics> contactMessages;
+
+    private final ExecutorService refresher = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${app.statistics-snapshots.max-age:30s}")
+    private Duration maxAge;
+
+    public StatisticsSnapshots(PetService petService,
+                               UserService userService,
+                               FoundationService foundationService,
+                               AdoptionRequestService adoptionRequestService,
+                               ContactMessageService contactMessageService) {
+        this.pets = register(StatisticsSection.PETS, petService::getStatistics);
+        this.users = register(StatisticsSection.USERS, userService::getStatistics);
+        this.foundations = register(StatisticsSection.FOUNDATIONS, foundationService::getStatistics);
+        this.adoptionRequests = register(StatisticsSection.ADOPTION_REQUESTS, adoptionRequestService::getStatistics);
+        this.contactMessages = register(StatisticsSection.CONTACT_MESSAGES, contactMessageService::getStatistics);
+    }
+
+    private <T> Holder<T> register(StatisticsSection section, Supplier<T> loader) {
+        Holder<T> holder = new Holder<>(section, loader);
+        holders.put(section, holder);
+        return holder;
+    }
+
+    public Snapshot<PetService.PetStatistics> pets() {
+        return read(pets);
+    }
+
+    public Snapshot<UserService.UserStatistics> users() {
+        return read(users);
+    }
+
+    public Snapshot<FoundationService.FoundationStatistics> foundations() {
+        return read(foundations);
+    }
+
+    public Snapshot<AdoptionRequestService.AdoptionRequestStatistics> adoptionRequests() {
+        return read(adoptionRequests);
+    }
+
+    public Snapshot<ContactMessageService.ContactMessageStatistics> contactMessages() {
+        return read(contactMessages);
+    }
+
+    /**
+     * Compute every snapshot once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        holders.values().forEach(Holder::refresh);
+        log.info("Statistics snapshots loaded for {} sections", holders.size());
+    }
+
+    /**
+     * Periodic refresh, so snapshots of rarely read sections do not age indefinitely.
+     */
+    @Scheduled(fixedDelayString = "${app.statistics-snapshots.refresh-interval:5m}",
+            initialDelayString = "${app.statistics-snapshots.refresh-interval:5m}")
+    public void refreshAll() {
+        holders.values().forEach(this::refreshAsync);
+    }
+
+    /**
+     * Mark the changed sections stale once the write has committed and refresh them in the background.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatisticsChanged(StatisticsChangedEvent event) {
+        for (StatisticsSection section : event.sections()) {
+            Holder<?> holder = holders.get(section);
+            holder.changed = true;
+            refreshAsync(holder);
+        }
+    }
+
+    private <T> Snapshot<T> read(Holder<T> holder) {
+        Snapshot<T> snapshot = holder.current.get();
+        if (snapshot == null) {
+            return holder.refresh();
+        }
+        if (holder.changed || snapshot.age().compareTo(maxAge) > 0) {
+            refreshAsync(holder);
+        }
+        return snapshot;
+    }
+
+    private void refreshAsync(Holder<?> holder) {
+        if (holder.refreshing.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                try {
+                    holder.refresh();
+                } finally {
+                    holder.refreshing.set(false);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * A statistics block and the moment it was computed.
+     */
+    public record Snapshot<T>(T statistics, Instant computedAt) {
+
+        public Duration age() {
+            return Duration.between(computedAt, Instant.now());
+        }
+    }
+
+    private static final class Holder<T> {
+        private final StatisticsSection section;
+        private final Supplier<T> loader;
+        private final AtomicReference<Snapshot<T>> current = new AtomicReference<>();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile boolean changed;
+
+        private Holder(StatisticsSection section, Supplier<T> loader) {
+            this.section = section;
+            this.loader = loader;
+        }
+
+        /**
+         * Recompute the snapshot. A change committed while the queries run marks it changed again,
+         * so it is picked up by the next refresh. On failure the previous snapshot keeps being served.
+         */
+        private Snapshot<T> refresh() {
+            changed = false;
+            try {
+                Snapshot<T> snapshot = new Snapshot<>(loader.get(), Instant.now());
+                current.set(snapshot);
+                return snapshot;
+            } catch (RuntimeException e) {
+                changed = true;
+                log.warn("Refreshing {} statistics snapshot failed", section, e);
+                Snapshot<T> previous = current.get();
+                if (previous == null) {
+                    throw e;
+                }
+                return previous;
+            }
+        }
+    }
+}
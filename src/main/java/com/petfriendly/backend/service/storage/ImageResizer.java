@@ -0,0 +1,209 @@
+package com.petfriendly.backend.service.storage;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * Decoding, downscaling and progressive JPEG encoding of stored images with the JDK's ImageIO.
+ * <p>
+ * Large photos are decoded with source subsampling so only about as many pixels as the widest variant
+ * needs are ever held in memory. The EXIF orientation is applied to the pixels before encoding, since
+ * the encoded variants carry no metadata at all.
+ */
+final class ImageResizer {
+
+    private static final int EXIF_SCAN_BYTES = 64 * 1024;
+
+    private ImageResizer() {
+    }
+
+    /**
+     * Decode an image upright, subsampled to no less than {@code minWidth} pixels wide where it is wider
+     * @throws IOException if the file cannot be read or no decoder supports its format
+     */
+    static BufferedImage readUpright(Path file, int minWidth) throws IOException {
+        int orientation = exifOrientation(file);
+        boolean swapsAxes = orientation >= 5 && orientation <= 8;
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("No decoder for image " + file.getFileName());
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int uprightWidth = swapsAxes ? reader.getHeight(0) : reader.getWidth(0);
+                int subsampling = Math.max(1, uprightWidth / minWidth);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return orient(toRgb(reader.read(0, param)), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scale an image down to a width, keeping its aspect ratio. Images already that narrow are returned
+     * as they are; variants are never upscaled.
+     */
+    static BufferedImage scaleToWidth(BufferedImage source, int width) {
+        BufferedImage current = source;
+        // Halving steps keep bilinear sampling from skipping pixels on large reductions
+        while (current.getWidth() / 2 >= width) {
+            current = draw(current, current.getWidth() / 2, Math.max(1, current.getHeight() / 2));
+        }
+        if (current.getWidth() > width) {
+            int height = (int) Math.max(1, Math.round((double) current.getHeight() * width / current.getWidth()));
+            current = draw(current, width, height);
+        }
+        return current;
+    }
+
+    /**
+     * Encode an image as a progressive JPEG without metadata
+     */
+    static void writeProgressiveJpeg(BufferedImage image, float quality, OutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    /** Flatten transparency onto white; JPEG has no alpha channel */
+    private static BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage target = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, source.getWidth(), source.getHeight());
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static BufferedImage orient(BufferedImage source, int orientation) {
+        if (orientation < 2 || orientation > 8) {
+            return source;
+        }
+        int w = source.getWidth();
+        int h = source.getHeight();
+        boolean swapsAxes = orientation >= 5;
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { transform.translate(w, 0); transform.scale(-1, 1); }
+            case 3 -> { transform.translate(w, h); transform.rotate(Math.PI); }
+            case 4 -> { transform.translate(0, h); transform.scale(1, -1); }
+            case 5 -> { transform.rotate(Math.PI / 2); transform.scale(1, -1); }
+            case 6 -> { transform.translate(h, 0); transform.rotate(Math.PI / 2); }
+            case 7 -> { transform.translate(h, w); transform.rotate(-Math.PI / 2); transform.scale(1, -1); }
+            case 8 -> { transform.translate(0, w); transform.rotate(-Math.PI / 2); }
+            default -> { }
+        }
+        BufferedImage target = new BufferedImage(swapsAxes ? h : w, swapsAxes ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.drawImage(source, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * EXIF orientation (1-8) of a JPEG file, or 1 when it has none. Only the segments ahead of the image
+     * data are scanned.
+     */
+    private static int exifOrientation(Path file) throws IOException {
+        byte[] head;
+        try (InputStream in = Files.newInputStream(file)) {
+            head = in.readNBytes(EXIF_SCAN_BYTES);
+        }
+        ByteBuffer buf = ByteBuffer.wrap(head);
+        if (head.length < 4 || (buf.getShort(0) & 0xFFFF) != 0xFFD8) {
+            return 1;
+        }
+        int pos = 2;
+        while (pos + 4 <= head.length && (head[pos] & 0xFF) == 0xFF) {
+            int marker = head[pos + 1] & 0xFF;
+            int length = buf.getShort(pos + 2) & 0xFFFF;
+            if (marker == 0xDA || marker == 0xD9) {
+                break;
+            }
+            if (marker == 0xE1 && pos + 10 <= head.length
+                    && head[pos + 4] == 'E' && head[pos + 5] == 'x' && head[pos + 6] == 'i' && head[pos + 7] == 'f') {
+                return tiffOrientation(buf, pos + 10, Math.min(head.length, pos + 2 + length));
+            }
+            pos += 2 + length;
+        }
+        return 1;
+    }
+
+    private static int tiffOrientation(ByteBuffer buf, int tiff, int end) {
+        if (tiff + 8 > end) {
+            return 1;
+        }
+        ByteBuffer b = buf.duplicate();
+        b.order(b.get(tiff) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        int ifd = tiff + b.getInt(tiff + 4);
+        if (ifd < tiff || ifd + 2 > end) {
+            return 1;
+        }
+        int entries = b.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if ((b.getShort(entry) & 0xFFFF) == 0x0112) {
+                int value = b.getShort(entry + 8) & 0xFFFF;
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,302 @@
+package com.petfriendly.backend.service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed store of image files on the local file system.
+ * <p>
+ * A file is named after the SHA-256 of its bytes plus an extension for its sniffed type and lives at
+ * {@code <root>/<hash[0..2]>/<hash[2..4]>/<key>}, so uploading the same photo twice keeps one copy and a
+ * key always names the same bytes. Uploads are streamed through a direct buffer into a temporary file
+ * and moved into place once hashed; nothing is held in heap beyond that buffer. Files are never
+ * rewritten, which is what lets them be served as immutable; a file nothing references any more may be
+ * deleted.
+ */
+@Slf4j
+@Component
+public class ImageStore {
+
+    /** Path under which stored images are served; a key appended to it is the image URL */
+    public static final String URL_PREFIX = "/api/v1/images/";
+
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{64}\\.(jpg|png|gif|webp)");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final Path incoming;
+    private final long maxBytes;
+
+    public ImageStore(@Value("${app.image-store.root:./data/images}") Path root,
+                      @Value("${app.image-store.max-size:20MB}") DataSize maxSize) throws IOException {
+        this.root = root.toAbsolutePath().normalize();
+        this.incoming = this.root.resolve("incoming");
+        this.maxBytes = maxSize.toBytes();
+        Files.createDirectories(incoming);
+    }
+
+    /**
+     * Stream an image into the store
+     * @param source the image bytes; read to the end but not closed
+     * @return the stored image, either newly written or the existing copy of the same bytes
+     * @throws IllegalArgumentException if the content is empty, too large or not a supported image type
+     */
+    public StoredImage store(InputStream source) throws IOException {
+        Path temp = Files.createTempFile(incoming, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                size = copy(Channels.newChannel(source), out, digest);
+                out.force(true);
+            }
+            return moveIntoPlace(temp, size, HexFormat.of().formatHex(digest.digest()));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Move a file already written to {@link #incomingDirectory()} into the store, without copying it
+     * @param file the complete image; consumed when stored
+     * @param expectedSha256 hex SHA-256 the content must have, or null to accept any
+     * @return the stored image, either newly moved in or the existing copy of the same bytes
+     * @throws IllegalArgumentException if the content does not match the checksum, is empty or is not a
+     *         supported image type; the file is left in place
+     */
+    public StoredImage adopt(Path file, String expectedSha256) throws IOException {
+        MessageDigest digest = sha256();
+        long size = 0;
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                size += buffer.remaining();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        String hash = HexFormat.of().formatHex(digest.digest());
+        if (expectedSha256 != null && !hash.equalsIgnoreCase(expectedSha256)) {
+            throw new IllegalArgumentException("Checksum mismatch: content has SHA-256 " + hash);
+        }
+        return moveIntoPlace(file, size, hash);
+    }
+
+    /**
+     * Directory for files being uploaded; on the same file system as the store, so {@link #adopt} is a rename
+     */
+    public Path incomingDirectory() {
+        return incoming;
+    }
+
+    /**
+     * Largest image accepted, in bytes
+     */
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    private StoredImage moveIntoPlace(Path temp, long size, String hash) throws IOException {
+        if (size == 0) {
+            throw new IllegalArgumentException("Image is empty");
+        }
+        ImageType type = sniff(temp).orElseThrow(() ->
+                new IllegalArgumentException("Unsupported image type; expected JPEG, PNG, GIF or WebP"));
+        String key = hash + "." + type.extension;
+        Path target = pathOf(key);
+        if (Files.exists(target)) {
+            Files.deleteIfExists(temp);
+            log.debug("Image {} already stored, upload deduplicated", key);
+            return new StoredImage(key, size, type.contentType, false);
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Same bytes stored concurrently by another upload
+            Files.deleteIfExists(temp);
+            return new StoredImage(key, size, type.contentType, false);
+        }
+        log.info("Stored image {} ({} bytes)", key, size);
+        return new StoredImage(key, size, type.contentType, true);
+    }
+
+    /**
+     * Locate a stored image
+     * @param key the image key
+     * @return the file, or empty if the key is malformed or nothing is stored under it
+     */
+    public Optional<Path> find(String key) {
+        if (key == null || !KEY.matcher(key).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(key);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    /**
+     * Delete a stored image. Callers make sure nothing references the key any more; storing the same bytes
+     * again later recreates the file.
+     * @param key the image key
+     * @return whether a file was deleted
+     */
+    public boolean delete(String key) throws IOException {
+        if (key == null || !KEY.matcher(key).matches()) {
+            return false;
+        }
+        boolean deleted = Files.deleteIfExists(pathOf(key));
+        if (deleted) {
+            log.info("Deleted image {}", key);
+        }
+        return deleted;
+    }
+
+    /**
+     * Key of an image URL served by this store
+     * @param imageUrl an image URL, possibly external
+     * @return the key, or empty when the URL does not point into this store
+     */
+    public Optional<String> keyOf(String imageUrl) {
+        if (imageUrl == null) {
+            return Optional.empty();
+        }
+        int at = imageUrl.indexOf(URL_PREFIX);
+        if (at < 0) {
+            return Optional.empty();
+        }
+        String key = imageUrl.substring(at + URL_PREFIX.length());
+        return KEY.matcher(key).matches() ? Optional.of(key) : Optional.empty();
+    }
+
+    public static String urlOf(String key) {
+        return URL_PREFIX + key;
+    }
+
+    public static String contentTypeOf(String key) {
+        return ImageType.ofExtension(key.substring(key.lastIndexOf('.') + 1)).contentType;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private Path pathOf(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private long copy(ReadableByteChannel in, FileChannel out, MessageDigest digest) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        long size = 0;
+        while (in.read(buffer) != -1) {
+            buffer.flip();
+            size += buffer.remaining();
+            if (size > maxBytes) {
+                throw new IllegalArgumentException("Image exceeds the maximum size of " + maxBytes + " bytes");
+            }
+            digest.update(buffer.duplicate());
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            buffer.clear();
+        }
+        return size;
+    }
+
+    private static Optional<ImageType> sniff(Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(12);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) != -1) {
+                // keep reading until the header is full or the file ends
+            }
+        }
+        byte[] b = new byte[header.position()];
+        header.flip().get(b);
+        if (startsWith(b, 0xFF, 0xD8, 0xFF)) {
+            return Optional.of(ImageType.JPEG);
+        }
+        if (startsWith(b, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return Optional.of(ImageType.PNG);
+        }
+        if (startsWith(b, 'G', 'I', 'F', '8')) {
+            return Optional.of(ImageType.GIF);
+        }
+        if (b.length >= 12 && startsWith(b, 'R', 'I', 'F', 'F') && b[8] == 'W' && b[9] == 'E' && b[10] == 'B' && b[11] == 'P') {
+            return Optional.of(ImageType.WEBP);
+        }
+        return Optional.empty();
+    }
+
+    private static boolean startsWith(byte[] bytes, int... prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if ((bytes[i] & 0xFF) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * An image in the store
+     * @param key file name, SHA-256 of the content plus extension
+     * @param size length in bytes
+     * @param contentType media type sniffed from the content
+     * @param created false when the same bytes were already stored
+     */
+    public record StoredImage(String key, long size, String contentType, boolean created) {
+
+        public String url() {
+            return urlOf(key);
+        }
+    }
+
+    private enum ImageType {
+        JPEG("jpg", "image/jpeg"),
+        PNG("png", "image/png"),
+        GIF("gif", "image/gif"),
+        WEBP("webp", "image/webp");
+
+        private final String extension;
+        private final String contentType;
+
+        ImageType(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        private static ImageType ofExtension(String extension) {
+            for (ImageType type : values()) {
+                if (type.extension.equals(extension)) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown image extension: " + extension);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.petfriendly.backend.service.storage;
+
+/**
+ * Fixed-width renditions produced for every stored pet image, each kept in its own pet_images column
+ */
+public enum ImageVariant {
+    /** Listing cards and avatars */
+    THUMBNAIL(160),
+    /** Pet detail pages and card grids on large screens */
+    MEDIUM(480),
+    /** Gallery and full-screen views */
+    LARGE(1080);
+
+    private final int width;
+
+    ImageVariant(int width) {
+        this.width = width;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+}
@@ -0,0 +1,293 @@
+package com.petfriendly.backend.service.storage;
+
+import com.petfriendly.backend.entity.ImageVariantStatus;
+import com.petfriendly.backend.entity.PetImage;
+import com.petfriendly.backend.repository.PetImageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Background generation of the {@link ImageVariant} renditions of stored pet images.
+ * <p>
+ * Work runs on a fixed pool of {@code workers} threads (one per core by default) fed by a bounded queue.
+ * A full queue rejects new work instead of blocking the request that saved the image; the image stays
+ * {@link ImageVariantStatus#PENDING} and is picked up again by the sweep job. Each variant is decoded
+ * upright, scaled, re-encoded as a progressive JPEG without EXIF and written to the {@link ImageStore}.
+ * <p>
+ * A failed attempt leaves the image PENDING for the next sweep until {@code max-attempts} attempts have
+ * failed, after which it stays {@link ImageVariantStatus#FAILED} until its source changes. Variant files
+ * an image stops using, because its source changed, it was deleted or a result was discarded, are
+ * deleted once no image references them; generation and deletion exclude each other, so a file is never
+ * deleted between being stored for one image and that image's result being committed.
+ * <p>
+ * Queue depth, remaining capacity, busy workers, rejections, failures and processing time are published
+ * under {@code pet.images.variants.*}.
+ */
+@Slf4j
+@Component
+public class ImageVariantPipeline {
+
+    private final ImageStore imageStore;
+    private final PetImageRepository petImageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate cleanupTemplate;
+    private final ThreadPoolExecutor executor;
+    private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+    private final ReadWriteLock storeLock = new ReentrantReadWriteLock();
+    private final float quality;
+    private final int maxAttempts;
+    private final Counter rejected;
+    private final Counter failed;
+    private final Timer processing;
+
+    public ImageVariantPipeline(ImageStore imageStore,
+                                PetImageRepository petImageRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.image-variants.workers:0}") int workers,
+                                @Value("${app.image-variants.queue-capacity:200}") int queueCapacity,
+                                @Value("${app.image-variants.jpeg-quality:0.82}") float quality,
+                                @Value("${app.image-variants.max-attempts:3}") int maxAttempts) {
+        this.imageStore = imageStore;
+        this.petImageRepository = petImageRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Cleanup runs after the caller's commit, so it must not join the finished transaction
+        this.cleanupTemplate = new TransactionTemplate(transactionManager);
+        this.cleanupTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cleanupTemplate.setReadOnly(true);
+        this.quality = quality;
+        this.maxAttempts = maxAttempts;
+
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "image-variants-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("pet.images.variants.queue.size", executor, e -> e.getQueue().size())
+                .description("Images waiting for variant generation")
+                .register(meterRegistry);
+        Gauge.builder("pet.images.variants.queue.remaining", executor, e -> e.getQueue().remainingCapacity())
+                .description("Free slots in the variant generation queue")
+                .register(meterRegistry);
+        Gauge.builder("pet.images.variants.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Workers currently generating variants")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("pet.images.variants.rejected")
+                .description("Images turned away because the queue was full; retried by the sweep job")
+                .register(meterRegistry);
+        this.failed = Counter.builder("pet.images.variants.failed")
+                .description("Failed variant generation attempts")
+                .register(meterRegistry);
+        this.processing = Timer.builder("pet.images.variants.processing")
+                .description("Time to generate and store all variants of one image")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue variant generation for an image once the surrounding transaction commits
+     */
+    public void submitAfterCommit(UUID imageId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(imageId);
+                }
+            });
+        } else {
+            submit(imageId);
+        }
+    }
+
+    /**
+     * Queue variant generation for an image
+     * @return false if the queue is full; the image is left for the next sweep
+     */
+    public boolean submit(UUID imageId) {
+        if (!queued.add(imageId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    processing.record(() -> process(imageId));
+                } finally {
+                    queued.remove(imageId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            queued.remove(imageId);
+            rejected.increment();
+            log.debug("Variant queue full, image {} left pending", imageId);
+            return false;
+        }
+    }
+
+    /**
+     * Delete the given variant files once the surrounding transaction commits, unless an image still
+     * references them. Runs on a worker; if the queue is full the files are left in place.
+     * @param urls variant URLs the caller's change stops using; nulls and external URLs are ignored
+     */
+    public void deleteUnusedAfterCommit(Collection<String> urls) {
+        List<String> candidates = urls.stream().filter(Objects::nonNull).toList();
+        if (candidates.isEmpty()) {
+            return;
+        }
+        Runnable cleanup = () -> {
+            try {
+                executor.execute(() -> deleteUnused(candidates));
+            } catch (RejectedExecutionException e) {
+                log.debug("Variant queue full, {} unused variant files left in place", candidates.size());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cleanup.run();
+                }
+            });
+        } else {
+            cleanup.run();
+        }
+    }
+
+    /**
+     * Queue pending images, oldest first, up to the free capacity of the queue. Picks up images turned away
+     * by a full queue and those left unfinished by a restart.
+     * @return number of images queued
+     */
+    public int submitPending() {
+        int capacity = executor.getQueue().remainingCapacity();
+        if (capacity == 0) {
+            return 0;
+        }
+        int submitted = 0;
+        for (UUID imageId : petImageRepository.findIdsByVariantStatus(ImageVariantStatus.PENDING, PageRequest.of(0, capacity))) {
+            if (!submit(imageId)) {
+                break;
+            }
+            submitted++;
+        }
+        return submitted;
+    }
+
+    private void process(UUID imageId) {
+        Optional<PetImage> image = petImageRepository.findById(imageId);
+        if (image.isEmpty() || image.get().getVariantStatus() != ImageVariantStatus.PENDING) {
+            return;
+        }
+        String sourceUrl = image.get().getImageUrl();
+        Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+        int updated;
+        storeLock.readLock().lock();
+        try {
+            Optional<Path> source = imageStore.keyOf(sourceUrl).flatMap(imageStore::find);
+            ImageVariantStatus status;
+            int attempts = image.get().getVariantAttempts();
+            try {
+                if (source.isEmpty()) {
+                    throw new IOException("Source " + sourceUrl + " is not in the image store");
+                }
+                generate(source.get(), urls);
+                status = ImageVariantStatus.READY;
+            } catch (IOException | RuntimeException e) {
+                failed.increment();
+                attempts++;
+                status = attempts >= maxAttempts ? ImageVariantStatus.FAILED : ImageVariantStatus.PENDING;
+                log.warn("Generating variants of pet image {} failed (attempt {} of {})", imageId, attempts, maxAttempts, e);
+                urls.clear();
+            }
+            ImageVariantStatus outcome = status;
+            int attemptsMade = attempts;
+            updated = transactionTemplate.execute(tx -> petImageRepository.updateVariants(imageId, sourceUrl, outcome,
+                    attemptsMade, urls.get(ImageVariant.THUMBNAIL), urls.get(ImageVariant.MEDIUM), urls.get(ImageVariant.LARGE)));
+        } finally {
+            storeLock.readLock().unlock();
+        }
+        if (updated == 0) {
+            log.debug("Pet image {} changed while its variants were generated, result discarded", imageId);
+            deleteUnused(urls.values());
+        }
+    }
+
+    private void deleteUnused(Collection<String> urls) {
+        storeLock.writeLock().lock();
+        try {
+            for (String url : urls) {
+                Optional<String> key = imageStore.keyOf(url);
+                if (key.isEmpty() || Boolean.TRUE.equals(cleanupTemplate.execute(tx -> petImageRepository.isStoredFileReferenced(key.get())))) {
+                    continue;
+                }
+                try {
+                    imageStore.delete(key.get());
+                } catch (IOException e) {
+                    log.warn("Deleting unused variant {} failed", key.get(), e);
+                }
+            }
+        } finally {
+            storeLock.writeLock().unlock();
+        }
+    }
+
+    private void generate(Path source, Map<ImageVariant, String> urls) throws IOException {
+        ImageVariant[] variants = ImageVariant.values();
+        BufferedImage current = ImageResizer.readUpright(source, variants[variants.length - 1].getWidth());
+        // Widest first, so each smaller variant is scaled from the previous one rather than the original
+        for (int i = variants.length - 1; i >= 0; i--) {
+            current = ImageResizer.scaleToWidth(current, variants[i].getWidth());
+            ByteArrayOutputStream encoded = new ByteArrayOutputStream(64 * 1024);
+            ImageResizer.writeProgressiveJpeg(current, quality, encoded);
+            urls.put(variants[i], imageStore.store(new ByteArrayInputStream(encoded.toByteArray())).url());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdownNow();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Image variant workers did not stop in time; unfinished images stay pending");
+        }
+    }
+}
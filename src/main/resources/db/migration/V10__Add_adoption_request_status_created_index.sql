@@ -0,0 +1,4 @@
+-- Supports the batched expiry of stale PENDING requests (oldest first within a status).
+-- The new index also serves every status-only lookup, so the single-column one is dropped.
+CREATE INDEX IF NOT EXISTS idx_adoption_requests_status_created ON adoption_requests (status, created_at);
+DROP INDEX IF EXISTS idx_adoption_requests_status;
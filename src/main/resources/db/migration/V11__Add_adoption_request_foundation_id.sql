@@ -0,0 +1,14 @@
+-- Copy the pet's foundation onto each adoption request so foundation inboxes and counts
+-- are answered from one index instead of joining through pets.
+ALTER TABLE IF EXISTS adoption_requests ADD COLUMN IF NOT EXISTS foundation_id UUID REFERENCES foundations(id) ON DELETE CASCADE;
+
+UPDATE adoption_requests ar
+SET foundation_id = p.foundation_id
+FROM pets p
+WHERE p.id = ar.pet_id
+  AND ar.foundation_id IS NULL;
+
+ALTER TABLE IF EXISTS adoption_requests ALTER COLUMN foundation_id SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_adoption_requests_foundation_status_created
+    ON adoption_requests (foundation_id, status, created_at);
@@ -0,0 +1,13 @@
+-- Per-foundation counters maintained by the pet, adoption request and contact message write paths
+-- with in-place increments, so dashboards and "foundations with available pets" read one row.
+ALTER TABLE IF EXISTS foundations ADD COLUMN IF NOT EXISTS available_pet_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE IF EXISTS foundations ADD COLUMN IF NOT EXISTS pending_request_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE IF EXISTS foundations ADD COLUMN IF NOT EXISTS unread_message_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE foundations f
+SET available_pet_count = (SELECT COUNT(*) FROM pets p WHERE p.foundation_id = f.id AND p.status = 'AVAILABLE'),
+    pending_request_count = (SELECT COUNT(*) FROM adoption_requests ar WHERE ar.foundation_id = f.id AND ar.status = 'PENDING'),
+    unread_message_count = (SELECT COUNT(*) FROM contact_messages cm WHERE cm.foundation_id = f.id AND cm.is_read = FALSE);
+
+CREATE INDEX IF NOT EXISTS idx_foundations_with_available_pets
+    ON foundations (id) WHERE available_pet_count > 0;
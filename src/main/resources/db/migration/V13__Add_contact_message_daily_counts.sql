@@ -0,0 +1,19 @@
+-- Per-foundation contact messages received and read, bucketed by the day they were received.
+-- Maintained by the contact message write paths, so today/week/month totals sum at most 30 rows.
+CREATE TABLE IF NOT EXISTS contact_message_daily_counts (
+    foundation_id UUID NOT NULL REFERENCES foundations(id) ON DELETE CASCADE,
+    bucket_date DATE NOT NULL,
+    message_count BIGINT NOT NULL DEFAULT 0,
+    read_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (foundation_id, bucket_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_contact_message_daily_counts_date
+    ON contact_message_daily_counts (bucket_date);
+
+INSERT INTO contact_message_daily_counts (foundation_id, bucket_date, message_count, read_count)
+SELECT foundation_id, CAST(created_at AS DATE), COUNT(*), COUNT(*) FILTER (WHERE is_read)
+FROM contact_messages
+GROUP BY foundation_id, CAST(created_at AS DATE)
+ON CONFLICT (foundation_id, bucket_date) DO UPDATE
+    SET message_count = EXCLUDED.message_count, read_count = EXCLUDED.read_count;
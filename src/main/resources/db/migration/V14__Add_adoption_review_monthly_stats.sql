@@ -0,0 +1,12 @@
+-- Review decisions per foundation and month with a serialized review latency sketch,
+-- flushed periodically from memory so review analytics never scan adoption_requests.
+CREATE TABLE IF NOT EXISTS adoption_review_monthly_stats (
+    foundation_id UUID NOT NULL REFERENCES foundations(id) ON DELETE CASCADE,
+    month_start DATE NOT NULL,
+    approved_count BIGINT NOT NULL DEFAULT 0,
+    rejected_count BIGINT NOT NULL DEFAULT 0,
+    cancelled_count BIGINT NOT NULL DEFAULT 0,
+    latency_sketch BYTEA,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (foundation_id, month_start)
+);
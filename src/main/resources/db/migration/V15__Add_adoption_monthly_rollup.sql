@@ -0,0 +1,36 @@
+-- Adoption outcomes per foundation, month and species, incremented by the adoption request and pet
+-- write paths, so monthly reports read a handful of rows instead of joining adoption_requests to pets.
+CREATE TABLE IF NOT EXISTS adoption_monthly_rollup (
+    foundation_id UUID NOT NULL REFERENCES foundations(id) ON DELETE CASCADE,
+    month_start DATE NOT NULL,
+    species VARCHAR(50) NOT NULL,
+    outcome VARCHAR(20) NOT NULL,
+    outcome_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (foundation_id, month_start, species, outcome)
+);
+
+CREATE INDEX IF NOT EXISTS idx_adoption_monthly_rollup_month
+    ON adoption_monthly_rollup (month_start);
+
+-- Adoption time of pets currently adopted, the month their ADOPTED outcome is counted in; pets adopted
+-- before this column existed are dated by their last update.
+ALTER TABLE IF EXISTS pets ADD COLUMN IF NOT EXISTS adopted_at TIMESTAMP WITH TIME ZONE;
+UPDATE pets SET adopted_at = COALESCE(updated_at, created_at) WHERE status = 'ADOPTED' AND adopted_at IS NULL;
+
+-- Same backfill as AdoptionMonthlyRollupRepository.insertFromSourceTables
+INSERT INTO adoption_monthly_rollup (foundation_id, month_start, species, outcome, outcome_count)
+SELECT foundation_id, month_start, species, outcome, COUNT(*)
+FROM (
+    SELECT ar.foundation_id AS foundation_id,
+           CAST(date_trunc('month', COALESCE(ar.reviewed_at, ar.updated_at)) AS DATE) AS month_start,
+           p.species AS species, CAST(ar.status AS VARCHAR(20)) AS outcome
+    FROM adoption_requests ar
+    JOIN pets p ON p.id = ar.pet_id
+    WHERE ar.status IN ('APPROVED', 'REJECTED')
+    UNION ALL
+    SELECT p.foundation_id, CAST(date_trunc('month', p.adopted_at) AS DATE), p.species, 'ADOPTED'
+    FROM pets p
+    WHERE p.status = 'ADOPTED' AND p.adopted_at IS NOT NULL
+) outcomes
+GROUP BY foundation_id, month_start, species, outcome
+ON CONFLICT (foundation_id, month_start, species, outcome) DO UPDATE SET outcome_count = EXCLUDED.outcome_count;
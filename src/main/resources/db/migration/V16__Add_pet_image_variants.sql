@@ -0,0 +1,15 @@
+-- Resized variants of stored pet images, produced in the background after the image is saved.
+-- variant_status is NULL for external URLs, which are not processed.
+ALTER TABLE IF EXISTS pet_images ADD COLUMN IF NOT EXISTS variant_status VARCHAR(20);
+ALTER TABLE IF EXISTS pet_images ADD COLUMN IF NOT EXISTS thumbnail_url VARCHAR(500);
+ALTER TABLE IF EXISTS pet_images ADD COLUMN IF NOT EXISTS medium_url VARCHAR(500);
+ALTER TABLE IF EXISTS pet_images ADD COLUMN IF NOT EXISTS large_url VARCHAR(500);
+-- Failed generation attempts for the current source; the image is retried while PENDING and left FAILED
+-- once the attempts run out
+ALTER TABLE IF EXISTS pet_images ADD COLUMN IF NOT EXISTS variant_attempts INTEGER NOT NULL DEFAULT 0;
+
+UPDATE pet_images SET variant_status = 'PENDING' WHERE image_url LIKE '%/api/v1/images/%';
+
+-- The sweep job only ever looks for pending images
+CREATE INDEX IF NOT EXISTS idx_pet_images_variant_pending
+    ON pet_images (created_at) WHERE variant_status = 'PENDING';
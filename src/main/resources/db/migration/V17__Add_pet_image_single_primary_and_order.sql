@@ -0,0 +1,24 @@
+-- At most one primary image per pet, and an explicit gallery order.
+
+-- Keep only the newest primary image of pets that have several
+UPDATE pet_images pi
+SET is_primary = FALSE
+WHERE pi.is_primary
+  AND EXISTS (SELECT 1 FROM pet_images o
+              WHERE o.pet_id = pi.pet_id AND o.is_primary
+                AND (o.created_at > pi.created_at OR (o.created_at = pi.created_at AND o.id > pi.id)));
+
+-- A partial exclusion constraint rather than a partial unique index: unique indexes are checked row by
+-- row, which would reject the single UPDATE moving the primary flag from one image to another, while a
+-- DEFERRABLE constraint is checked at the end of the statement. It is backed by a btree index on
+-- (pet_id) WHERE is_primary, which also serves primary image lookups.
+ALTER TABLE pet_images ADD CONSTRAINT pet_images_one_primary_per_pet
+    EXCLUDE USING btree (pet_id WITH =) WHERE (is_primary) DEFERRABLE INITIALLY IMMEDIATE;
+
+ALTER TABLE IF EXISTS pet_images ADD COLUMN IF NOT EXISTS display_order INTEGER;
+
+UPDATE pet_images pi
+SET display_order = ranked.position
+FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY pet_id ORDER BY is_primary DESC, created_at, id) AS position
+      FROM pet_images) ranked
+WHERE pi.id = ranked.id;
@@ -0,0 +1,3 @@
+-- Supports keyset (cursor) pagination of the pet catalog by status.
+-- Matches ORDER BY created_at DESC, id DESC so deep pages are a single index range scan.
+CREATE INDEX IF NOT EXISTS idx_pets_status_created_at_id ON pets (status, created_at DESC, id DESC);
@@ -0,0 +1,31 @@
+-- Full-text search over pet name, breed and description.
+-- Accent-insensitive Spanish and English configurations are combined into one weighted
+-- tsvector (name > breed > description) maintained by Postgres as a generated column.
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_ts_config WHERE cfgname = 'pets_es') THEN
+        CREATE TEXT SEARCH CONFIGURATION pets_es (COPY = spanish);
+        ALTER TEXT SEARCH CONFIGURATION pets_es
+            ALTER MAPPING FOR hword, hword_part, word WITH unaccent, spanish_stem;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_ts_config WHERE cfgname = 'pets_en') THEN
+        CREATE TEXT SEARCH CONFIGURATION pets_en (COPY = english);
+        ALTER TEXT SEARCH CONFIGURATION pets_en
+            ALTER MAPPING FOR hword, hword_part, word WITH unaccent, english_stem;
+    END IF;
+END
+$$;
+
+ALTER TABLE pets ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('pets_es'::regconfig, coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('pets_en'::regconfig, coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('pets_es'::regconfig, coalesce(breed, '')), 'B') ||
+        setweight(to_tsvector('pets_en'::regconfig, coalesce(breed, '')), 'B') ||
+        setweight(to_tsvector('pets_es'::regconfig, coalesce(description, '')), 'C') ||
+        setweight(to_tsvector('pets_en'::regconfig, coalesce(description, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_pets_search_vector ON pets USING GIN (search_vector);
@@ -0,0 +1,14 @@
+-- Per-foundation pet counts by status, maintained transactionally by the pet service
+-- so foundation statistics are a primary-key lookup instead of COUNT(*) over pets.
+CREATE TABLE IF NOT EXISTS foundation_pet_status_counts (
+    foundation_id UUID NOT NULL REFERENCES foundations(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    pet_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (foundation_id, status)
+);
+
+INSERT INTO foundation_pet_status_counts (foundation_id, status, pet_count)
+SELECT foundation_id, status, COUNT(*)
+FROM pets
+GROUP BY foundation_id, status
+ON CONFLICT (foundation_id, status) DO UPDATE SET pet_count = EXCLUDED.pet_count;
@@ -0,0 +1,5 @@
+-- Per-user security stamp embedded in issued JWTs. Rotating it (password change, deactivation,
+-- role change) invalidates every outstanding token for that user.
+ALTER TABLE IF EXISTS users ADD COLUMN IF NOT EXISTS security_stamp UUID;
+UPDATE users SET security_stamp = uuid_generate_v4() WHERE security_stamp IS NULL;
+ALTER TABLE IF EXISTS users ALTER COLUMN security_stamp SET NOT NULL;
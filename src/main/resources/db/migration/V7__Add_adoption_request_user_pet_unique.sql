@@ -0,0 +1,23 @@
+-- One adoption request per (user, pet). Submitting a second request fails on the constraint, which the
+-- submit path reports as a conflict instead of running a separate existence check.
+-- Of existing duplicates keep the one that matters most: an approval, then a live request, then the earliest.
+DELETE FROM adoption_requests
+WHERE id IN (
+    SELECT id
+    FROM (
+        SELECT id,
+               ROW_NUMBER() OVER (
+                   PARTITION BY user_id, pet_id
+                   ORDER BY CASE status WHEN 'APPROVED' THEN 0 WHEN 'PENDING' THEN 1 ELSE 2 END,
+                            created_at, id
+               ) AS rank_in_pair
+        FROM adoption_requests
+    ) ranked
+    WHERE rank_in_pair > 1
+);
+
+ALTER TABLE IF EXISTS adoption_requests
+    ADD CONSTRAINT uk_adoption_requests_user_pet UNIQUE (user_id, pet_id);
+
+-- The unique constraint's index covers (user_id, pet_id) lookups
+DROP INDEX IF EXISTS idx_adoption_requests_user_pet;
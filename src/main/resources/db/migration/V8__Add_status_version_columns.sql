@@ -0,0 +1,4 @@
+-- Optimistic locking for pets and adoption requests; status transitions bump the version too,
+-- so a general update racing a status change fails instead of overwriting it.
+ALTER TABLE IF EXISTS pets ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE IF EXISTS adoption_requests ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
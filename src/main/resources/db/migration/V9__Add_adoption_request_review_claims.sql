@@ -0,0 +1,4 @@
+-- Review leases: a reviewer claims PENDING requests until claim_expires_at; expired or
+-- unclaimed requests can be claimed by anyone else in the foundation.
+ALTER TABLE IF EXISTS adoption_requests ADD COLUMN IF NOT EXISTS claimed_by UUID REFERENCES users(id) ON DELETE SET NULL;
+ALTER TABLE IF EXISTS adoption_requests ADD COLUMN IF NOT EXISTS claim_expires_at TIMESTAMP WITH TIME ZONE;
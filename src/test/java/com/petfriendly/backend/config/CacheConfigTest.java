@@ -0,0 +1,87 @@
+package com.petfriendly.backend.config;
+
+import com.petfriendly.backend.entity.Foundation;
+import com.petfriendly.backend.entity.Pet;
+import com.petfriendly.backend.entity.PetSpecies;
+import com.petfriendly.backend.entity.PetStatus;
+import com.petfriendly.backend.repository.FoundationRepository;
+import com.petfriendly.backend.service.PetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheConfigTest {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private FoundationRepository foundationRepository;
+
+    @Autowired
+    private PetService petService;
+
+    private Cache petsCache;
+    private UUID petId;
+
+    @BeforeEach
+    void setUp() {
+        Foundation foundation = foundationRepository.save(Foundation.builder()
+                .name("Paws " + UUID.randomUUID())
+                .city("Bogota")
+                .contactEmail(UUID.randomUUID() + "@paws.example")
+                .build());
+        petId = petService.createPet(Pet.builder()
+                .name("Luna")
+                .species(PetSpecies.DOG)
+                .status(PetStatus.AVAILABLE)
+                .foundation(foundation)
+                .build()).getId();
+        petsCache = cacheManager.getCache(CacheConfig.PETS_CACHE);
+        petService.findResponseById(petId);
+    }
+
+    @Test
+    void evictionInsideACallersTransactionWaitsForItsCommit() {
+        assertThat(petsCache.get(petId)).isNotNull();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            petService.updateStatus(petId, PetStatus.PENDING);
+            assertThat(petsCache.get(petId)).isNotNull();
+        });
+
+        assertThat(petsCache.get(petId)).isNull();
+    }
+
+    @Test
+    void rolledBackTransactionKeepsTheEntry() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            petService.updateStatus(petId, PetStatus.PENDING);
+            status.setRollbackOnly();
+        });
+
+        assertThat(petsCache.get(petId)).isNotNull();
+    }
+
+    @Test
+    void writeWithoutACallerTransactionEvicts() {
+        petService.updateStatus(petId, PetStatus.PENDING);
+
+        assertThat(petsCache.get(petId)).isNull();
+    }
+}
@@ -0,0 +1,123 @@
+package com.petfriendly.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petfriendly.backend.dto.request.AdoptionRequestCreateRequest;
+import com.petfriendly.backend.entity.Foundation;
+import com.petfriendly.backend.entity.Pet;
+import com.petfriendly.backend.entity.PetSpecies;
+import com.petfriendly.backend.entity.PetStatus;
+import com.petfriendly.backend.entity.User;
+import com.petfriendly.backend.enums.Role;
+import com.petfriendly.backend.repository.AdoptionRequestRepository;
+import com.petfriendly.backend.repository.FoundationRepository;
+import com.petfriendly.backend.repository.UserRepository;
+import com.petfriendly.backend.security.UserPrincipal;
+import com.petfriendly.backend.service.PetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdoptionRequestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FoundationRepository foundationRepository;
+
+    @Autowired
+    private AdoptionRequestRepository adoptionRequestRepository;
+
+    @Autowired
+    private PetService petService;
+
+    private UserPrincipal applicant;
+    private Pet pet;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@adopter.example")
+                .password("secret-password")
+                .firstName("Ana")
+                .lastName("Lopez")
+                .role(Role.USER)
+                .build());
+        applicant = UserPrincipal.create(user);
+
+        Foundation foundation = foundationRepository.save(Foundation.builder()
+                .name("Paws " + UUID.randomUUID())
+                .city("Bogota")
+                .contactEmail(UUID.randomUUID() + "@paws.example")
+                .build());
+        pet = petService.createPet(Pet.builder()
+                .name("Luna")
+                .species(PetSpecies.DOG)
+                .status(PetStatus.AVAILABLE)
+                .foundation(foundation)
+                .build());
+    }
+
+    @Test
+    void firstRequestIsCreated() throws Exception {
+        submit(pet.getId()).andExpect(status().isCreated());
+
+        assertThat(adoptionRequestRepository.findByUser_Id(applicant.getId())).hasSize(1);
+    }
+
+    @Test
+    void repeatedRequestForTheSamePetIsAConflict() throws Exception {
+        submit(pet.getId()).andExpect(status().isCreated());
+
+        submit(pet.getId()).andExpect(status().isConflict());
+
+        assertThat(adoptionRequestRepository.findByUser_Id(applicant.getId())).hasSize(1);
+    }
+
+    @Test
+    void requestForAnUnknownPetIsNotFound() throws Exception {
+        submit(UUID.randomUUID()).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void requestFromAnUnknownUserIsNotFound() throws Exception {
+        UserPrincipal deleted = UserPrincipal.fromClaims(UUID.randomUUID(), "gone@adopter.example", Role.USER,
+                UUID.randomUUID());
+
+        submit(deleted, pet.getId()).andExpect(status().isNotFound());
+    }
+
+    private ResultActions submit(UUID petId) throws Exception {
+        return submit(applicant, petId);
+    }
+
+    private ResultActions submit(UserPrincipal principal, UUID petId) throws Exception {
+        AdoptionRequestCreateRequest body = new AdoptionRequestCreateRequest(petId, "We have a large backyard.", null, null);
+        return mockMvc.perform(post("/api/v1/adoption-requests")
+                .with(user(principal))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body)));
+    }
+}
@@ -0,0 +1,69 @@
+package com.petfriendly.backend.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageControllerTest {
+
+    private static final long LENGTH = 1000;
+
+    @Test
+    void closedRange() {
+        assertThat(ImageController.parseRange("bytes=0-499", LENGTH)).containsExactly(0, 499);
+        assertThat(ImageController.parseRange("bytes=500-500", LENGTH)).containsExactly(500, 500);
+    }
+
+    @Test
+    void closedRangeIsClampedToTheLastByte() {
+        assertThat(ImageController.parseRange("bytes=900-5000", LENGTH)).containsExactly(900, 999);
+    }
+
+    @Test
+    void openEndedRangeRunsToTheLastByte() {
+        assertThat(ImageController.parseRange("bytes=200-", LENGTH)).containsExactly(200, 999);
+        assertThat(ImageController.parseRange("bytes=999-", LENGTH)).containsExactly(999, 999);
+    }
+
+    @Test
+    void suffixRangeCoversTheLastBytes() {
+        assertThat(ImageController.parseRange("bytes=-100", LENGTH)).containsExactly(900, 999);
+    }
+
+    @Test
+    void suffixLongerThanTheFileCoversAllOfIt() {
+        assertThat(ImageController.parseRange("bytes=-5000", LENGTH)).containsExactly(0, 999);
+    }
+
+    @Test
+    void surroundingWhitespaceIsAccepted() {
+        assertThat(ImageController.parseRange("  bytes=10-19 ", LENGTH)).containsExactly(10, 19);
+    }
+
+    @Test
+    void rangeStartingAtOrPastTheEndIsUnsatisfiable() {
+        assertThat(ImageController.parseRange("bytes=1000-", LENGTH)).isNull();
+        assertThat(ImageController.parseRange("bytes=1000-1200", LENGTH)).isNull();
+        assertThat(ImageController.parseRange("bytes=0-", 0)).isNull();
+    }
+
+    @Test
+    void emptySuffixIsUnsatisfiable() {
+        assertThat(ImageController.parseRange("bytes=-0", LENGTH)).isNull();
+    }
+
+    @Test
+    void malformedRangesAreIgnored() {
+        assertThat(ImageController.parseRange("bytes=-", LENGTH)).isEmpty();
+        assertThat(ImageController.parseRange("bytes=abc-def", LENGTH)).isEmpty();
+        assertThat(ImageController.parseRange("bytes=500-100", LENGTH)).isEmpty();
+        assertThat(ImageController.parseRange("bytes=99999999999999999999-", LENGTH)).isEmpty();
+        assertThat(ImageController.parseRange("", LENGTH)).isEmpty();
+    }
+
+    @Test
+    void otherUnitsAndMultipleRangesAreIgnored() {
+        assertThat(ImageController.parseRange("items=0-10", LENGTH)).isEmpty();
+        assertThat(ImageController.parseRange("bytes=0-10,20-30", LENGTH)).isEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+package com.petfriendly.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petfriendly.backend.entity.Foundation;
+import com.petfriendly.backend.entity.Pet;
+import com.petfriendly.backend.entity.PetSpecies;
+import com.petfriendly.backend.entity.PetStatus;
+import com.petfriendly.backend.repository.FoundationRepository;
+import com.petfriendly.backend.service.PetService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PetControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private FoundationRepository foundationRepository;
+
+    @Autowired
+    private PetService petService;
+
+    @Test
+    void petCardsDefaultToNewestFirst() throws Exception {
+        // A city of its own keeps pets created by other tests out of the page
+        String city = "City " + UUID.randomUUID();
+        Foundation foundation = foundationRepository.save(Foundation.builder()
+                .name("Paws " + UUID.randomUUID())
+                .city(city)
+                .contactEmail(UUID.randomUUID() + "@paws.example")
+                .build());
+        for (int i = 0; i < 5; i++) {
+            petService.createPet(Pet.builder()
+                    .name("Pet " + i)
+                    .species(PetSpecies.DOG)
+                    .status(PetStatus.AVAILABLE)
+                    .foundation(foundation)
+                    .build());
+        }
+
+        String body = mockMvc.perform(get("/api/v1/pets/available/cards").param("city", city))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<LocalDateTime> createdAt = new ArrayList<>();
+        for (JsonNode card : objectMapper.readTree(body).get("content")) {
+            createdAt.add(LocalDateTime.parse(card.get("createdAt").asText()));
+        }
+        assertThat(createdAt).hasSize(5).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+}
@@ -0,0 +1,227 @@
+package com.petfriendly.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petfriendly.backend.dto.request.PetImageUploadRequest;
+import com.petfriendly.backend.entity.Foundation;
+import com.petfriendly.backend.entity.Pet;
+import com.petfriendly.backend.entity.PetSpecies;
+import com.petfriendly.backend.entity.PetStatus;
+import com.petfriendly.backend.entity.User;
+import com.petfriendly.backend.enums.Role;
+import com.petfriendly.backend.repository.FoundationRepository;
+import com.petfriendly.backend.repository.PetImageRepository;
+import com.petfriendly.backend.repository.UserRepository;
+import com.petfriendly.backend.security.UserPrincipal;
+import com.petfriendly.backend.service.PetImageUploadService;
+import com.petfriendly.backend.service.PetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PetImageUploadControllerTest {
+
+    private static final String UPLOADS = "/api/v1/pet-images/uploads";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FoundationRepository foundationRepository;
+
+    @Autowired
+    private PetImageRepository petImageRepository;
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private PetImageUploadService petImageUploadService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UserPrincipal admin;
+    private Pet pet;
+    private byte[] image;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        admin = UserPrincipal.create(userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@admin.example")
+                .password("secret-password")
+                .firstName("Eva")
+                .lastName("Rios")
+                .role(Role.SUPER_ADMIN)
+                .build()));
+        Foundation foundation = foundationRepository.save(Foundation.builder()
+                .name("Paws " + UUID.randomUUID())
+                .city("Bogota")
+                .contactEmail(UUID.randomUUID() + "@paws.example")
+                .build());
+        pet = petService.createPet(Pet.builder()
+                .name("Luna")
+                .species(PetSpecies.DOG)
+                .status(PetStatus.AVAILABLE)
+                .foundation(foundation)
+                .build());
+        image = jpeg();
+    }
+
+    @Test
+    void chunksResumeFromTheOffsetAndCommitCreatesThePetImage() throws Exception {
+        UUID uploadId = start(image.length);
+        int half = image.length / 2;
+
+        writeChunk(uploadId, 0, Arrays.copyOfRange(image, 0, half))
+                .andExpect(status().isOk())
+                .andExpect(header().string(PetImageUploadController.UPLOAD_OFFSET, String.valueOf(half)));
+        mockMvc.perform(get(UPLOADS + "/" + uploadId).with(user(admin)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(PetImageUploadController.UPLOAD_OFFSET, String.valueOf(half)));
+        writeChunk(uploadId, half, Arrays.copyOfRange(image, half, image.length))
+                .andExpect(status().isOk())
+                .andExpect(header().string(PetImageUploadController.UPLOAD_OFFSET, String.valueOf(image.length)));
+
+        String body = mockMvc.perform(post(UPLOADS + "/" + uploadId + "/commit").with(user(admin)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode created = objectMapper.readTree(body);
+        assertThat(created.get("imageUrl").asText()).isEqualTo("/api/v1/images/" + sha256(image) + ".jpg");
+        assertThat(petImageRepository.countByPet_Id(pet.getId())).isEqualTo(1);
+        mockMvc.perform(get(UPLOADS + "/" + uploadId).with(user(admin)))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post(UPLOADS + "/" + uploadId + "/commit").with(user(admin)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void chunkAtAnotherOffsetIsAConflictCarryingTheCurrentOffset() throws Exception {
+        UUID uploadId = start(image.length);
+        writeChunk(uploadId, 0, Arrays.copyOfRange(image, 0, 100)).andExpect(status().isOk());
+
+        writeChunk(uploadId, 0, Arrays.copyOfRange(image, 0, 100))
+                .andExpect(status().isConflict())
+                .andExpect(header().string(PetImageUploadController.UPLOAD_OFFSET, "100"));
+        writeChunk(uploadId, 150, Arrays.copyOfRange(image, 150, 200))
+                .andExpect(status().isConflict())
+                .andExpect(header().string(PetImageUploadController.UPLOAD_OFFSET, "100"));
+    }
+
+    @Test
+    void chunkRunningPastTheDeclaredSizeIsTooLarge() throws Exception {
+        UUID uploadId = start(image.length - 1);
+
+        writeChunk(uploadId, 0, image).andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test
+    void incompleteUploadCannotBeCommitted() throws Exception {
+        UUID uploadId = start(image.length);
+        writeChunk(uploadId, 0, Arrays.copyOfRange(image, 0, 100)).andExpect(status().isOk());
+
+        mockMvc.perform(post(UPLOADS + "/" + uploadId + "/commit").with(user(admin)))
+                .andExpect(status().isConflict());
+        assertThat(petImageRepository.countByPet_Id(pet.getId())).isZero();
+    }
+
+    @Test
+    void uploadIsKeptUntilThePetImageCommitsSoARolledBackCommitCanBeRetried() throws Exception {
+        UUID uploadId = start(image.length);
+        writeChunk(uploadId, 0, image).andExpect(status().isOk());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            try {
+                petImageUploadService.commitUpload(uploadId);
+                // Not committed yet: the upload is still known but cannot be committed a second time
+                assertThat(petImageUploadService.getStatus(uploadId).getOffset()).isEqualTo(image.length);
+                assertThatThrownBy(() -> petImageUploadService.commitUpload(uploadId))
+                        .isInstanceOf(IllegalStateException.class);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            tx.setRollbackOnly();
+        });
+        assertThat(petImageRepository.countByPet_Id(pet.getId())).isZero();
+
+        petImageUploadService.commitUpload(uploadId);
+
+        assertThat(petImageRepository.countByPet_Id(pet.getId())).isEqualTo(1);
+        assertThatThrownBy(() -> petImageUploadService.getStatus(uploadId)).isInstanceOf(NoSuchElementException.class);
+    }
+
+    private UUID start(long size) throws Exception {
+        PetImageUploadRequest request = new PetImageUploadRequest(pet.getId(), size, null, "Luna in the garden", false);
+        String body = mockMvc.perform(post(UPLOADS).with(user(admin))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(PetImageUploadController.UPLOAD_OFFSET, "0"))
+                .andReturn().getResponse().getContentAsString();
+        return UUID.fromString(objectMapper.readTree(body).get("uploadId").asText());
+    }
+
+    private ResultActions writeChunk(UUID uploadId, long offset, byte[] chunk) throws Exception {
+        return mockMvc.perform(put(UPLOADS + "/" + uploadId).with(user(admin))
+                .header(PetImageUploadController.UPLOAD_OFFSET, offset)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(chunk));
+    }
+
+    private static byte[] jpeg() throws IOException {
+        BufferedImage picture = new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB);
+        // Random pixels make every test's image distinct, so stored files are never shared between tests
+        Random random = new Random();
+        for (int y = 0; y < picture.getHeight(); y++) {
+            for (int x = 0; x < picture.getWidth(); x++) {
+                picture.setRGB(x, y, random.nextInt());
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(picture, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] bytes) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+}
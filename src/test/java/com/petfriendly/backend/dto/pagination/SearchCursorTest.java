@@ -0,0 +1,57 @@
+package com.petfriendly.backend.dto.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+    @Test
+    void roundTripKeepsScoreIdAndAsOf() {
+        SearchCursor cursor = new SearchCursor(0.1234567890123456789, UUID.randomUUID(),
+                Instant.now().truncatedTo(ChronoUnit.MILLIS));
+
+        assertThat(SearchCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripKeepsExtremeScores() {
+        UUID id = UUID.randomUUID();
+        Instant asOf = Instant.ofEpochMilli(1_700_000_000_123L);
+        for (double score : new double[] {0.0, Double.MIN_VALUE, 1e-300, 0.1 + 0.2, 12345.6789}) {
+            SearchCursor cursor = new SearchCursor(score, id, asOf);
+            assertThat(SearchCursor.decode(cursor.encode())).isEqualTo(cursor);
+        }
+    }
+
+    @Test
+    void encodeDropsSubMillisecondPrecision() {
+        Instant asOf = Instant.parse("2026-01-02T03:04:05.123456789Z");
+        SearchCursor decoded = SearchCursor.decode(new SearchCursor(1.0, UUID.randomUUID(), asOf).encode());
+
+        assertThat(decoded.asOf()).isEqualTo(Instant.parse("2026-01-02T03:04:05.123Z"));
+    }
+
+    @Test
+    void decodeRejectsMalformedCursors() {
+        assertThatThrownBy(() -> SearchCursor.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SearchCursor.decode(encodeRaw("1.0|" + UUID.randomUUID())))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SearchCursor.decode(encodeRaw("high|" + UUID.randomUUID() + "|0")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SearchCursor.decode(encodeRaw("1.0|not-a-uuid|0")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,148 @@
+package com.petfriendly.backend.service.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class QuantileSketchTest {
+
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double[] QUANTILES = {0.0, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 1.0};
+
+    @Test
+    void emptySketchHasNoQuantiles() {
+        QuantileSketch sketch = new QuantileSketch();
+
+        assertThat(sketch.getCount()).isZero();
+        assertThat(sketch.quantile(0.5)).isNull();
+        assertThat(QuantileSketch.fromBytes(sketch.toBytes()).quantile(0.5)).isNull();
+        assertThat(QuantileSketch.fromBytes(null).getCount()).isZero();
+        assertThat(QuantileSketch.fromBytes(new byte[0]).getCount()).isZero();
+    }
+
+    @Test
+    void uniformValuesStayWithinTheRelativeAccuracy() {
+        double[] values = new double[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i + 1;
+        }
+
+        assertAccurate(sketchOf(values), values);
+    }
+
+    @Test
+    void heavyTailedValuesStayWithinTheRelativeAccuracy() {
+        // Log-normal durations spanning minutes to months, like review times in seconds
+        Random random = new Random(42);
+        double[] values = new double[20_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(11 + 2 * random.nextGaussian());
+        }
+
+        assertAccurate(sketchOf(values), values);
+    }
+
+    @Test
+    void valuesBelowOneAreReportedAsZero() {
+        QuantileSketch sketch = sketchOf(0.0, 0.2, 0.9, 100.0);
+
+        assertThat(sketch.quantile(0.0)).isEqualTo(0.0);
+        assertThat(sketch.quantile(0.5)).isEqualTo(0.0);
+        assertThat(sketch.quantile(1.0)).isCloseTo(100.0, within(100.0 * RELATIVE_ACCURACY));
+    }
+
+    @Test
+    void quantileOutsideZeroToOneIsClamped() {
+        QuantileSketch sketch = sketchOf(10.0, 1000.0);
+
+        assertThat(sketch.quantile(-1.0)).isEqualTo(sketch.quantile(0.0));
+        assertThat(sketch.quantile(2.0)).isEqualTo(sketch.quantile(1.0));
+    }
+
+    @Test
+    void mergedSketchAnswersLikeOneBuiltFromAllValues() {
+        Random random = new Random(7);
+        double[] values = new double[5_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1 + random.nextDouble() * 86_400;
+        }
+        QuantileSketch first = sketchOf(Arrays.copyOfRange(values, 0, 2_000));
+        QuantileSketch second = sketchOf(Arrays.copyOfRange(values, 2_000, values.length));
+
+        first.merge(second);
+
+        QuantileSketch whole = sketchOf(values);
+        assertThat(first.getCount()).isEqualTo(whole.getCount());
+        for (double q : QUANTILES) {
+            assertThat(first.quantile(q)).isEqualTo(whole.quantile(q));
+        }
+        assertThat(second.getCount()).isEqualTo(3_000);
+    }
+
+    @Test
+    void mergingAnEmptySketchChangesNothing() {
+        QuantileSketch sketch = sketchOf(5.0, 50.0, 500.0);
+        Double median = sketch.quantile(0.5);
+
+        sketch.merge(new QuantileSketch());
+
+        assertThat(sketch.getCount()).isEqualTo(3);
+        assertThat(sketch.quantile(0.5)).isEqualTo(median);
+    }
+
+    @Test
+    void copyIsIndependent() {
+        QuantileSketch sketch = sketchOf(5.0, 50.0);
+        QuantileSketch copy = sketch.copy();
+
+        copy.add(500.0);
+
+        assertThat(sketch.getCount()).isEqualTo(2);
+        assertThat(copy.getCount()).isEqualTo(3);
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        QuantileSketch sketch = sketchOf(0.5, 3.0, 30.0, 3_000.0, 3_000.0);
+
+        QuantileSketch decoded = QuantileSketch.fromBytes(sketch.toBytes());
+
+        assertThat(decoded.getCount()).isEqualTo(sketch.getCount());
+        for (double q : QUANTILES) {
+            assertThat(decoded.quantile(q)).isEqualTo(sketch.quantile(q));
+        }
+    }
+
+    @Test
+    void unknownFormatVersionIsRejected() {
+        byte[] bytes = sketchOf(3.0).toBytes();
+        bytes[0] = 99;
+
+        assertThatThrownBy(() -> QuantileSketch.fromBytes(bytes))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static QuantileSketch sketchOf(double... values) {
+        QuantileSketch sketch = new QuantileSketch();
+        for (double value : values) {
+            sketch.add(value);
+        }
+        return sketch;
+    }
+
+    private static void assertAccurate(QuantileSketch sketch, double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (double q : QUANTILES) {
+            double exact = sorted[(int) Math.floor(q * (sorted.length - 1))];
+            assertThat(sketch.quantile(q))
+                    .as("quantile %s", q)
+                    .isCloseTo(exact, within(exact * RELATIVE_ACCURACY * (1 + 1e-9)));
+        }
+    }
+}
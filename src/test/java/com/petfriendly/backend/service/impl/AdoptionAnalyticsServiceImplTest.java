@@ -0,0 +1,88 @@
+package com.petfriendly.backend.service.impl;
+
+import com.petfriendly.backend.entity.AdoptionRequestStatus;
+import com.petfriendly.backend.repository.AdoptionReviewMonthlyStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdoptionAnalyticsServiceImplTest {
+
+    private static final LocalDateTime REVIEWED_AT = LocalDateTime.of(2024, 3, 15, 12, 0);
+    private static final YearMonth MONTH = YearMonth.from(REVIEWED_AT);
+
+    private final UUID foundationId = UUID.randomUUID();
+    private final AdoptionReviewMonthlyStatsRepository statsRepository = mock(AdoptionReviewMonthlyStatsRepository.class);
+    private final AdoptionAnalyticsServiceImpl analyticsService =
+            new AdoptionAnalyticsServiceImpl(statsRepository, mock(PlatformTransactionManager.class));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(analyticsService, "maxMonths", 24);
+        ReflectionTestUtils.setField(analyticsService, "maxFlushAttempts", 3);
+        when(statsRepository.findByFoundationIdAndMonthStartBetweenOrderByMonthStart(any(), any(), any()))
+                .thenReturn(List.of());
+    }
+
+    @Test
+    void failedFlushIsRetriedAndStaysReadable() {
+        when(statsRepository.findForUpdate(eq(foundationId), any())).thenThrow(new QueryTimeoutException("slow"));
+        approve();
+
+        assertThat(analyticsService.flush()).isZero();
+
+        assertThat(approved()).isEqualTo(1);
+        analyticsService.flush();
+        verify(statsRepository, times(2)).findForUpdate(eq(foundationId), any());
+    }
+
+    @Test
+    void monthIsDroppedAfterTheLastAttempt() {
+        when(statsRepository.findForUpdate(eq(foundationId), any())).thenThrow(new QueryTimeoutException("slow"));
+        approve();
+
+        for (int attempt = 0; attempt < 5; attempt++) {
+            analyticsService.flush();
+        }
+
+        verify(statsRepository, times(3)).findForUpdate(eq(foundationId), any());
+        assertThat(approved()).isZero();
+    }
+
+    @Test
+    void rejectedRowIsDroppedAtOnce() {
+        when(statsRepository.findForUpdate(eq(foundationId), any()))
+                .thenThrow(new DataIntegrityViolationException("foundation deleted"));
+        approve();
+
+        analyticsService.flush();
+        analyticsService.flush();
+
+        verify(statsRepository, times(1)).findForUpdate(eq(foundationId), any());
+        assertThat(approved()).isZero();
+    }
+
+    private void approve() {
+        analyticsService.recordDecision(foundationId, AdoptionRequestStatus.APPROVED, REVIEWED_AT.minusHours(1), REVIEWED_AT);
+    }
+
+    private long approved() {
+        return analyticsService.getReviewAnalytics(foundationId, MONTH, MONTH).getOverall().getApproved();
+    }
+}
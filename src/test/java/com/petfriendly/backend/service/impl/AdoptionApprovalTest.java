@@ -0,0 +1,169 @@
+package com.petfriendly.backend.service.impl;
+
+import com.petfriendly.backend.entity.AdoptionRequest;
+import com.petfriendly.backend.entity.AdoptionRequestStatus;
+import com.petfriendly.backend.entity.Foundation;
+import com.petfriendly.backend.entity.Pet;
+import com.petfriendly.backend.entity.PetSpecies;
+import com.petfriendly.backend.entity.PetStatus;
+import com.petfriendly.backend.entity.User;
+import com.petfriendly.backend.enums.Role;
+import com.petfriendly.backend.repository.AdoptionRequestRepository;
+import com.petfriendly.backend.repository.FoundationRepository;
+import com.petfriendly.backend.repository.PetRepository;
+import com.petfriendly.backend.repository.UserRepository;
+import com.petfriendly.backend.service.AdoptionRequestService;
+import com.petfriendly.backend.service.AdoptionRequestService.AdoptionApproval;
+import com.petfriendly.backend.service.PetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AdoptionApprovalTest {
+
+    @Autowired
+    private AdoptionRequestService adoptionRequestService;
+
+    @Autowired
+    private AdoptionRequestRepository adoptionRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FoundationRepository foundationRepository;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private PetService petService;
+
+    private Foundation foundation;
+    private Pet pet;
+
+    @BeforeEach
+    void setUp() {
+        foundation = foundationRepository.save(Foundation.builder()
+                .name("Paws " + UUID.randomUUID())
+                .city("Bogota")
+                .contactEmail(UUID.randomUUID() + "@paws.example")
+                .build());
+        pet = newPet("Luna");
+    }
+
+    @Test
+    void approvalAdoptsThePetAndRejectsThePendingSiblings() {
+        AdoptionRequest approved = submit(pet);
+        AdoptionRequest sibling = submit(pet);
+        AdoptionRequest otherSibling = submit(pet);
+        AdoptionRequest withdrawn = submit(pet);
+        adoptionRequestService.cancelRequest(withdrawn.getId());
+        AdoptionRequest otherPet = submit(newPet("Max"));
+        assertThat(pendingRequestCount()).isEqualTo(4);
+
+        AdoptionApproval approval = adoptionRequestService.approveAdoption(approved.getId(), "Great home");
+
+        assertThat(approval.getApprovedRequest().getStatus()).isEqualTo(AdoptionRequestStatus.APPROVED);
+        assertThat(approval.getPetStatus()).isEqualTo(PetStatus.ADOPTED);
+        assertThat(approval.getRejectedRequests()).isEqualTo(2);
+        assertThat(petRepository.findById(pet.getId()).orElseThrow().getStatus()).isEqualTo(PetStatus.ADOPTED);
+        assertThat(statusOf(approved)).isEqualTo(AdoptionRequestStatus.APPROVED);
+        assertThat(statusOf(sibling)).isEqualTo(AdoptionRequestStatus.REJECTED);
+        assertThat(statusOf(otherSibling)).isEqualTo(AdoptionRequestStatus.REJECTED);
+        assertThat(statusOf(withdrawn)).isEqualTo(AdoptionRequestStatus.CANCELLED);
+        assertThat(statusOf(otherPet)).isEqualTo(AdoptionRequestStatus.PENDING);
+        // The approved request and its two rejected siblings leave the count; the other pet's request stays
+        assertThat(pendingRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentApprovalsForOnePetLetExactlyOneWin() {
+        AdoptionRequest first = submit(pet);
+        AdoptionRequest second = submit(pet);
+
+        CyclicBarrier start = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<Throwable> failures = new ArrayList<>();
+        int approvals = 0;
+        try {
+            List<CompletableFuture<AdoptionApproval>> approvers = List.of(first, second).stream()
+                    .map(request -> CompletableFuture.supplyAsync(() -> {
+                        await(start);
+                        return adoptionRequestService.approveAdoption(request.getId(), null);
+                    }, executor))
+                    .toList();
+            for (CompletableFuture<AdoptionApproval> approver : approvers) {
+                try {
+                    approver.join();
+                    approvals++;
+                } catch (CompletionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(approvals).isEqualTo(1);
+        assertThat(failures).singleElement()
+                .isInstanceOfAny(IllegalStateException.class, OptimisticLockingFailureException.class);
+        assertThat(List.of(statusOf(first), statusOf(second)))
+                .containsExactlyInAnyOrder(AdoptionRequestStatus.APPROVED, AdoptionRequestStatus.REJECTED);
+        assertThat(petRepository.findById(pet.getId()).orElseThrow().getStatus()).isEqualTo(PetStatus.ADOPTED);
+        assertThat(pendingRequestCount()).isZero();
+    }
+
+    private Pet newPet(String name) {
+        return petService.createPet(Pet.builder()
+                .name(name)
+                .species(PetSpecies.DOG)
+                .status(PetStatus.AVAILABLE)
+                .foundation(foundation)
+                .build());
+    }
+
+    private AdoptionRequest submit(Pet requested) {
+        User user = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@adopter.example")
+                .password("secret-password")
+                .firstName("Ana")
+                .lastName("Lopez")
+                .role(Role.USER)
+                .build());
+        return adoptionRequestService.submitAdoptionRequest(user.getId(), requested.getId(), "We have a large backyard.",
+                null, null);
+    }
+
+    private AdoptionRequestStatus statusOf(AdoptionRequest request) {
+        return adoptionRequestRepository.findById(request.getId()).orElseThrow().getStatus();
+    }
+
+    private long pendingRequestCount() {
+        return foundationRepository.findById(foundation.getId()).orElseThrow().getPendingRequestCount();
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
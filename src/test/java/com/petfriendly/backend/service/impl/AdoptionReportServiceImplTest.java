@@ -0,0 +1,144 @@
+package com.petfriendly.backend.service.impl;
+
+import com.petfriendly.backend.entity.AdoptionOutcome;
+import com.petfriendly.backend.entity.AdoptionRequest;
+import com.petfriendly.backend.entity.Foundation;
+import com.petfriendly.backend.entity.Pet;
+import com.petfriendly.backend.entity.PetSpecies;
+import com.petfriendly.backend.entity.PetStatus;
+import com.petfriendly.backend.entity.User;
+import com.petfriendly.backend.enums.Role;
+import com.petfriendly.backend.repository.FoundationRepository;
+import com.petfriendly.backend.repository.UserRepository;
+import com.petfriendly.backend.service.AdoptionReportService;
+import com.petfriendly.backend.service.AdoptionReportService.MonthlyAdoptionReport;
+import com.petfriendly.backend.service.AdoptionRequestService;
+import com.petfriendly.backend.service.PetService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AdoptionReportServiceImplTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+
+    @Autowired
+    private AdoptionReportService adoptionReportService;
+
+    @Autowired
+    private FoundationRepository foundationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private AdoptionRequestService adoptionRequestService;
+
+    @Test
+    void outcomesOfOneCellAccumulate() {
+        UUID foundationId = newFoundation();
+
+        adoptionReportService.recordOutcome(foundationId, PetSpecies.CAT, AdoptionOutcome.REJECTED, MARCH, 1);
+        adoptionReportService.recordOutcome(foundationId, PetSpecies.CAT, AdoptionOutcome.REJECTED, MARCH, 2);
+        adoptionReportService.recordOutcome(foundationId, PetSpecies.CAT, AdoptionOutcome.ADOPTED, MARCH, 1);
+        adoptionReportService.recordOutcome(foundationId, PetSpecies.DOG, AdoptionOutcome.REJECTED, MARCH.plusMonths(1), 1);
+
+        List<MonthlyAdoptionReport> reports = adoptionReportService.getMonthlyReport(foundationId, MARCH, MARCH.plusMonths(1));
+        assertThat(reports).hasSize(2);
+        assertThat(reports.get(0).getMonth()).isEqualTo(MARCH);
+        assertThat(reports.get(0).getSpecies()).isEqualTo(PetSpecies.CAT);
+        assertThat(reports.get(0).getRejectedRequests()).isEqualTo(3);
+        assertThat(reports.get(0).getAdoptedPets()).isEqualTo(1);
+        assertThat(reports.get(1).getMonth()).isEqualTo(MARCH.plusMonths(1));
+        assertThat(reports.get(1).getSpecies()).isEqualTo(PetSpecies.DOG);
+        assertThat(reports.get(1).getRejectedRequests()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuildReproducesTheRollupKeptByTheWritePaths() {
+        UUID foundationId = newFoundation();
+        YearMonth month = YearMonth.now();
+
+        // Approved with a sibling rejected, so adopted
+        Pet luna = newPet(foundationId, "Luna", PetSpecies.DOG);
+        AdoptionRequest approved = submit(luna);
+        submit(luna);
+        adoptionRequestService.approveAdoption(approved.getId(), null);
+        // Adopted, then returned: no longer counted as adopted
+        Pet max = newPet(foundationId, "Max", PetSpecies.DOG);
+        petService.markAsAdopted(max.getId());
+        petService.updateStatus(max.getId(), PetStatus.AVAILABLE);
+        // Rejected, then re-classified: the rejection moves to the new species
+        Pet kiwi = newPet(foundationId, "Kiwi", PetSpecies.DOG);
+        adoptionRequestService.rejectRequest(submit(kiwi).getId(), null);
+        petService.updatePet(kiwi.getId(), Pet.builder().species(PetSpecies.BIRD).build());
+        // Adopted, then re-classified
+        Pet misu = newPet(foundationId, "Misu", PetSpecies.DOG);
+        petService.markAsAdopted(misu.getId());
+        petService.updatePet(misu.getId(), Pet.builder().species(PetSpecies.CAT).status(PetStatus.ADOPTED).build());
+        // A deleted rejection and a deleted pet with a rejection leave no trace
+        Pet rex = newPet(foundationId, "Rex", PetSpecies.DOG);
+        AdoptionRequest deleted = submit(rex);
+        adoptionRequestService.rejectRequest(deleted.getId(), null);
+        adoptionRequestService.deleteById(deleted.getId());
+        Pet nube = newPet(foundationId, "Nube", PetSpecies.CAT);
+        adoptionRequestService.rejectRequest(submit(nube).getId(), null);
+        petService.deleteById(nube.getId());
+
+        List<MonthlyAdoptionReport> live = adoptionReportService.getMonthlyReport(foundationId, month, month);
+        assertThat(live).extracting(MonthlyAdoptionReport::getSpecies, MonthlyAdoptionReport::getApprovedRequests,
+                        MonthlyAdoptionReport::getRejectedRequests, MonthlyAdoptionReport::getAdoptedPets)
+                .containsExactly(
+                        tuple(PetSpecies.DOG, 1L, 1L, 1L),
+                        tuple(PetSpecies.CAT, 0L, 0L, 1L),
+                        tuple(PetSpecies.BIRD, 0L, 1L, 0L));
+
+        adoptionReportService.rebuildMonthlyRollup();
+
+        assertThat(adoptionReportService.getMonthlyReport(foundationId, month, month))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(live);
+    }
+
+    private Pet newPet(UUID foundationId, String name, PetSpecies species) {
+        return petService.createPet(Pet.builder()
+                .name(name)
+                .species(species)
+                .status(PetStatus.AVAILABLE)
+                .foundation(foundationRepository.findById(foundationId).orElseThrow())
+                .build());
+    }
+
+    private AdoptionRequest submit(Pet pet) {
+        User user = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@adopter.example")
+                .password("secret-password")
+                .firstName("Ana")
+                .lastName("Lopez")
+                .role(Role.USER)
+                .build());
+        return adoptionRequestService.submitAdoptionRequest(user.getId(), pet.getId(), "We have a large backyard.",
+                null, null);
+    }
+
+    private UUID newFoundation() {
+        return foundationRepository.save(Foundation.builder()
+                .name("Paws " + UUID.randomUUID())
+                .city("Bogota")
+                .contactEmail(UUID.randomUUID() + "@paws.example")
+                .build()).getId();
+    }
+}
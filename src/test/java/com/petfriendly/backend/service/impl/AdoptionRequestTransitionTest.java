@@ -0,0 +1,138 @@
+package com.petfriendly.backend.service.impl;
+
+import com.petfriendly.backend.entity.AdoptionRequest;
+import com.petfriendly.backend.entity.AdoptionRequestStatus;
+import com.petfriendly.backend.entity.Foundation;
+import com.petfriendly.backend.entity.Pet;
+import com.petfriendly.backend.entity.PetSpecies;
+import com.petfriendly.backend.entity.PetStatus;
+import com.petfriendly.backend.entity.User;
+import com.petfriendly.backend.enums.Role;
+import com.petfriendly.backend.repository.AdoptionRequestRepository;
+import com.petfriendly.backend.repository.FoundationRepository;
+import com.petfriendly.backend.repository.UserRepository;
+import com.petfriendly.backend.service.AdoptionReportService;
+import com.petfriendly.backend.service.AdoptionRequestService;
+import com.petfriendly.backend.service.PetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AdoptionRequestTransitionTest {
+
+    @Autowired
+    private AdoptionRequestService adoptionRequestService;
+
+    @Autowired
+    private AdoptionRequestRepository adoptionRequestRepository;
+
+    @Autowired
+    private AdoptionReportService adoptionReportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FoundationRepository foundationRepository;
+
+    @Autowired
+    private PetService petService;
+
+    private Foundation foundation;
+    private AdoptionRequest submitted;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@adopter.example")
+                .password("secret-password")
+                .firstName("Ana")
+                .lastName("Lopez")
+                .role(Role.USER)
+                .build());
+        foundation = foundationRepository.save(Foundation.builder()
+                .name("Paws " + UUID.randomUUID())
+                .city("Bogota")
+                .contactEmail(UUID.randomUUID() + "@paws.example")
+                .build());
+        Pet pet = petService.createPet(Pet.builder()
+                .name("Luna")
+                .species(PetSpecies.DOG)
+                .status(PetStatus.AVAILABLE)
+                .foundation(foundation)
+                .build());
+        submitted = adoptionRequestService.submitAdoptionRequest(user.getId(), pet.getId(), "We have a large backyard.",
+                "Two dogs before", "House");
+    }
+
+    @Test
+    void transitionReturnsTheUpdatedRow() {
+        AdoptionRequest cancelled = adoptionRequestService.cancelRequest(submitted.getId());
+
+        assertThat(cancelled.getStatus()).isEqualTo(AdoptionRequestStatus.CANCELLED);
+        assertThat(cancelled.getReviewNotes()).isEqualTo("Cancelled by user");
+        assertThat(cancelled.getUser().getId()).isEqualTo(submitted.getUser().getId());
+        assertThat(cancelled.getPet().getId()).isEqualTo(submitted.getPet().getId());
+        assertThat(cancelled.getFoundationId()).isEqualTo(foundation.getId());
+        assertThat(cancelled.getMessage()).isEqualTo("We have a large backyard.");
+        assertThat(cancelled.getExperience()).isEqualTo("Two dogs before");
+        assertThat(cancelled.getLivingSituation()).isEqualTo("House");
+        assertThat(cancelled.getVersion()).isEqualTo(1);
+
+        AdoptionRequest stored = adoptionRequestRepository.findById(submitted.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(AdoptionRequestStatus.CANCELLED);
+        assertThat(stored.getVersion()).isEqualTo(cancelled.getVersion());
+        assertThat(stored.getCreatedAt()).isEqualTo(cancelled.getCreatedAt());
+    }
+
+    @Test
+    void decidedRequestCannotMoveAgain() {
+        adoptionRequestService.cancelRequest(submitted.getId());
+
+        assertThatThrownBy(() -> adoptionRequestService.rejectRequest(submitted.getId()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void approvedRequestCannotBeCancelled() {
+        adoptionRequestService.approveAdoption(submitted.getId(), null);
+
+        assertThatThrownBy(() -> adoptionRequestService.cancelRequest(submitted.getId()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(adoptionRequestRepository.findById(submitted.getId()).orElseThrow().getStatus())
+                .isEqualTo(AdoptionRequestStatus.APPROVED);
+    }
+
+    @Test
+    void decisionsAreCountedInTheMonthlyRollup() {
+        adoptionRequestService.approveAdoption(submitted.getId(), null);
+        assertThatThrownBy(() -> adoptionRequestService.cancelRequest(submitted.getId()))
+                .isInstanceOf(IllegalStateException.class);
+
+        YearMonth month = YearMonth.now();
+        assertThat(adoptionReportService.getMonthlyReport(foundation.getId(), month, month))
+                .singleElement()
+                .satisfies(report -> {
+                    assertThat(report.getSpecies()).isEqualTo(PetSpecies.DOG);
+                    assertThat(report.getApprovedRequests()).isEqualTo(1);
+                    assertThat(report.getAdoptedPets()).isEqualTo(1);
+                    assertThat(report.getRejectedRequests()).isZero();
+                });
+    }
+
+    @Test
+    void unknownRequestIsNotFound() {
+        assertThatThrownBy(() -> adoptionRequestService.cancelRequest(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.petfriendly.backend.service.impl;
+
+import com.petfriendly.backend.entity.ContactMessage;
+import com.petfriendly.backend.entity.Foundation;
+import com.petfriendly.backend.repository.ContactMessageDailyCountRepository;
+import com.petfriendly.backend.repository.FoundationRepository;
+import com.petfriendly.backend.service.ContactMessageService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ContactMessageServiceImplTest {
+
+    @Autowired
+    private ContactMessageService contactMessageService;
+
+    @Autowired
+    private ContactMessageDailyCountRepository dailyCountRepository;
+
+    @Autowired
+    private FoundationRepository foundationRepository;
+
+    @Test
+    void messagesOfTheSameDayShareOneBucket() {
+        Foundation foundation = foundationRepository.save(Foundation.builder()
+                .name("Paws " + UUID.randomUUID())
+                .city("Bogota")
+                .contactEmail(UUID.randomUUID() + "@paws.example")
+                .build());
+
+        ContactMessage first = contactMessageService.createContactMessage(message(foundation));
+        contactMessageService.createContactMessage(message(foundation));
+
+        assertThat(dailyCountRepository.findDailyCountsByFoundationSince(foundation.getId(),
+                first.getCreatedAt().toLocalDate()))
+                .singleElement()
+                .satisfies(bucket -> assertThat(bucket.getCount()).isEqualTo(2));
+    }
+
+    private static ContactMessage message(Foundation foundation) {
+        return ContactMessage.builder()
+                .senderName("Ana Lopez")
+                .senderEmail("ana@adopter.example")
+                .subject("Visit")
+                .message("Can we visit on Saturday?")
+                .foundation(foundation)
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.petfriendly.backend.service.impl;
+
+import com.petfriendly.backend.repository.FoundationRepository;
+import com.petfriendly.backend.service.AdoptionRequestService;
+import com.petfriendly.backend.service.AdoptionRequestService.AdoptionRequestStatistics;
+import com.petfriendly.backend.service.ContactMessageService;
+import com.petfriendly.backend.service.ContactMessageService.ContactMessageStatistics;
+import com.petfriendly.backend.service.FoundationDashboardService.FoundationDashboard;
+import com.petfriendly.backend.service.FoundationService;
+import com.petfriendly.backend.service.FoundationService.FoundationStatistics;
+import com.petfriendly.backend.service.PetService;
+import com.petfriendly.backend.service.PetService.PetStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FoundationDashboardServiceImplTest {
+
+    private static final UUID FOUNDATION_ID = UUID.randomUUID();
+
+    private final FoundationRepository foundationRepository = mock(FoundationRepository.class);
+    private final FoundationService foundationService = mock(FoundationService.class);
+    private final PetService petService = mock(PetService.class);
+    private final AdoptionRequestService adoptionRequestService = mock(AdoptionRequestService.class);
+    private final ContactMessageService contactMessageService = mock(ContactMessageService.class);
+
+    private final PetStatistics pets = new PetStatistics(5, 2, 1, 1, 1);
+    private final FoundationStatistics foundation = new FoundationStatistics(5, 2, 1, 3);
+    private final AdoptionRequestStatistics adoptionRequests = new AdoptionRequestStatistics(4, 3, 1, 0, 0);
+    private final ContactMessageStatistics contactMessages = new ContactMessageStatistics(6, 2, 4, 1, 3, 6);
+
+    private FoundationDashboardServiceImpl dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardService = new FoundationDashboardServiceImpl(foundationRepository, foundationService, petService,
+                adoptionRequestService, contactMessageService);
+        ReflectionTestUtils.setField(dashboardService, "branchTimeout", Duration.ofMillis(500));
+        when(foundationRepository.existsById(FOUNDATION_ID)).thenReturn(true);
+        when(petService.getPetStatistics(FOUNDATION_ID)).thenReturn(pets);
+        when(foundationService.getFoundationStatistics(FOUNDATION_ID, pets)).thenReturn(foundation);
+        when(adoptionRequestService.getStatisticsByFoundation(FOUNDATION_ID)).thenReturn(adoptionRequests);
+        when(contactMessageService.getStatisticsByFoundation(FOUNDATION_ID)).thenReturn(contactMessages);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardService.shutdown();
+    }
+
+    @Test
+    void gathersEveryBlockAndRunsThePetAggregateOnce() {
+        FoundationDashboard dashboard = dashboardService.getDashboard(FOUNDATION_ID);
+
+        assertThat(dashboard.getFoundation()).isSameAs(foundation);
+        assertThat(dashboard.getPets()).isSameAs(pets);
+        assertThat(dashboard.getAdoptionRequests()).isSameAs(adoptionRequests);
+        assertThat(dashboard.getContactMessages()).isSameAs(contactMessages);
+        assertThat(dashboard.getUnavailableSections()).isEmpty();
+        verify(petService, times(1)).getPetStatistics(FOUNDATION_ID);
+        verify(foundationService, never()).getFoundationStatistics(FOUNDATION_ID);
+    }
+
+    @Test
+    void blockMissingTheDeadlineIsReportedUnavailable() {
+        when(contactMessageService.getStatisticsByFoundation(FOUNDATION_ID)).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return contactMessages;
+        });
+
+        long started = System.nanoTime();
+        FoundationDashboard dashboard = dashboardService.getDashboard(FOUNDATION_ID);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+        assertThat(dashboard.getContactMessages()).isNull();
+        assertThat(dashboard.getUnavailableSections()).containsExactly("contactMessages");
+        assertThat(dashboard.getAdoptionRequests()).isSameAs(adoptionRequests);
+        assertThat(dashboard.getPets()).isSameAs(pets);
+    }
+
+    @Test
+    void failingBlockIsReportedUnavailable() {
+        when(adoptionRequestService.getStatisticsByFoundation(FOUNDATION_ID))
+                .thenThrow(new IllegalStateException("database down"));
+
+        FoundationDashboard dashboard = dashboardService.getDashboard(FOUNDATION_ID);
+
+        assertThat(dashboard.getAdoptionRequests()).isNull();
+        assertThat(dashboard.getUnavailableSections()).containsExactly("adoptionRequests");
+        assertThat(dashboard.getFoundation()).isSameAs(foundation);
+    }
+
+    @Test
+    void failingPetBlockTakesTheFoundationBlockWithIt() {
+        when(petService.getPetStatistics(FOUNDATION_ID)).thenThrow(new IllegalStateException("database down"));
+
+        FoundationDashboard dashboard = dashboardService.getDashboard(FOUNDATION_ID);
+
+        assertThat(dashboard.getFoundation()).isNull();
+        assertThat(dashboard.getPets()).isNull();
+        assertThat(dashboard.getUnavailableSections()).containsExactly("foundation", "pets");
+        assertThat(dashboard.getContactMessages()).isSameAs(contactMessages);
+    }
+
+    @Test
+    void unknownFoundationIsRejected() {
+        when(foundationRepository.existsById(FOUNDATION_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> dashboardService.getDashboard(FOUNDATION_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,159 @@
+package com.petfriendly.backend.service.impl;
+
+import com.petfriendly.backend.entity.Foundation;
+import com.petfriendly.backend.entity.Pet;
+import com.petfriendly.backend.entity.PetImage;
+import com.petfriendly.backend.entity.PetSpecies;
+import com.petfriendly.backend.entity.PetStatus;
+import com.petfriendly.backend.repository.FoundationRepository;
+import com.petfriendly.backend.repository.PetImageRepository;
+import com.petfriendly.backend.service.PetImageService;
+import com.petfriendly.backend.service.PetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PetImageServiceImplTest {
+
+    @Autowired
+    private PetImageService petImageService;
+
+    @Autowired
+    private PetImageRepository petImageRepository;
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private FoundationRepository foundationRepository;
+
+    private Foundation foundation;
+    private Pet pet;
+
+    @BeforeEach
+    void setUp() {
+        foundation = foundationRepository.save(Foundation.builder()
+                .name("Paws " + UUID.randomUUID())
+                .city("Medellin")
+                .contactEmail(UUID.randomUUID() + "@paws.example")
+                .build());
+        pet = pet("Kira");
+    }
+
+    @Test
+    void switchingThePrimaryImageLeavesExactlyOnePrimary() {
+        PetImage first = image(pet, true);
+        PetImage second = image(pet, false);
+        PetImage third = image(pet, false);
+
+        petImageService.setPrimaryImage(second.getId());
+        assertThat(primaryIds(pet)).containsExactly(second.getId());
+
+        petImageService.setPrimaryImage(third.getId());
+        petImageService.setPrimaryImage(third.getId());
+        assertThat(primaryIds(pet)).containsExactly(third.getId());
+        assertThat(petImageRepository.findById(first.getId()).orElseThrow().getIsPrimary()).isFalse();
+    }
+
+    @Test
+    void switchingThePrimaryImageLeavesOtherPetsAlone() {
+        Pet other = pet("Milo");
+        PetImage otherPrimary = image(other, true);
+        image(pet, true);
+        PetImage second = image(pet, false);
+
+        petImageService.setPrimaryImage(second.getId());
+
+        assertThat(primaryIds(pet)).containsExactly(second.getId());
+        assertThat(primaryIds(other)).containsExactly(otherPrimary.getId());
+    }
+
+    @Test
+    void reorderPutsListedImagesFirstAndKeepsTheOthersAfterThemInOrder() {
+        PetImage a = image(pet, false);
+        PetImage b = image(pet, false);
+        PetImage c = image(pet, false);
+        PetImage d = image(pet, false);
+        petImageService.reorderImages(pet.getId(), List.of(a.getId(), b.getId(), c.getId(), d.getId()));
+
+        petImageService.reorderImages(pet.getId(), List.of(d.getId(), b.getId()));
+
+        assertThat(gallery(pet)).containsExactly(d.getId(), b.getId(), a.getId(), c.getId());
+        assertThat(displayOrders(pet)).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    void reorderPlacesImagesThatWereNeverOrderedAfterTheOrderedOnes() {
+        PetImage a = image(pet, false);
+        PetImage b = image(pet, false);
+        petImageService.reorderImages(pet.getId(), List.of(b.getId(), a.getId()));
+        PetImage added = image(pet, false);
+
+        petImageService.reorderImages(pet.getId(), List.of(a.getId()));
+
+        assertThat(gallery(pet)).containsExactly(a.getId(), b.getId(), added.getId());
+        assertThat(displayOrders(pet)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void reorderListingAnotherPetsImageIsRolledBack() {
+        PetImage a = image(pet, false);
+        PetImage b = image(pet, false);
+        petImageService.reorderImages(pet.getId(), List.of(a.getId(), b.getId()));
+        PetImage foreign = image(pet("Milo"), false);
+
+        assertThatThrownBy(() -> petImageService.reorderImages(pet.getId(), List.of(b.getId(), foreign.getId())))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(gallery(pet)).containsExactly(a.getId(), b.getId());
+        assertThat(displayOrders(pet)).containsExactly(1, 2);
+        assertThat(petImageRepository.findById(foreign.getId()).orElseThrow().getDisplayOrder()).isNull();
+    }
+
+    @Test
+    void reorderRejectsRepeatedImages() {
+        PetImage a = image(pet, false);
+
+        assertThatThrownBy(() -> petImageService.reorderImages(pet.getId(), List.of(a.getId(), a.getId())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Pet pet(String name) {
+        return petService.createPet(Pet.builder()
+                .name(name)
+                .species(PetSpecies.CAT)
+                .status(PetStatus.AVAILABLE)
+                .foundation(foundation)
+                .build());
+    }
+
+    private PetImage image(Pet owner, boolean primary) {
+        return petImageService.createPetImage(
+                new PetImage("https://cdn.example/" + UUID.randomUUID() + ".jpg", primary, owner));
+    }
+
+    private List<UUID> primaryIds(Pet owner) {
+        return petImageRepository.findByPet_Id(owner.getId()).stream()
+                .filter(image -> Boolean.TRUE.equals(image.getIsPrimary()))
+                .map(PetImage::getId)
+                .toList();
+    }
+
+    private List<UUID> gallery(Pet owner) {
+        return petImageRepository.findGalleryByPetId(owner.getId()).stream().map(PetImage::getId).toList();
+    }
+
+    private List<Integer> displayOrders(Pet owner) {
+        return petImageRepository.findGalleryByPetId(owner.getId()).stream().map(PetImage::getDisplayOrder).toList();
+    }
+}
@@ -0,0 +1,84 @@
+package com.petfriendly.backend.service.impl;
+
+import com.petfriendly.backend.entity.Foundation;
+import com.petfriendly.backend.entity.Pet;
+import com.petfriendly.backend.entity.PetSpecies;
+import com.petfriendly.backend.entity.PetStatus;
+import com.petfriendly.backend.repository.FoundationPetStatusCountRepository;
+import com.petfriendly.backend.repository.FoundationRepository;
+import com.petfriendly.backend.service.PetService;
+import org.junit.jupiter.api.RepeatedTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PetStatusCountConcurrencyTest {
+
+    private static final int WRITERS = 4;
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private FoundationRepository foundationRepository;
+
+    @Autowired
+    private FoundationPetStatusCountRepository statusCountRepository;
+
+    @RepeatedTest(5)
+    void concurrentFirstPetsOfAStatusAllCount() throws Exception {
+        Foundation foundation = foundationRepository.save(Foundation.builder()
+                .name("Paws " + UUID.randomUUID())
+                .city("Bogota")
+                .contactEmail(UUID.randomUUID() + "@paws.example")
+                .build());
+
+        // PENDING pets leave the foundation's available counter alone, so nothing else serializes the writers
+        CyclicBarrier start = new CyclicBarrier(WRITERS);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<CompletableFuture<Pet>> writers = IntStream.range(0, WRITERS)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                        await(start);
+                        return petService.createPet(Pet.builder()
+                                .name("Pet " + i)
+                                .species(PetSpecies.DOG)
+                                .status(PetStatus.PENDING)
+                                .foundation(foundation)
+                                .build());
+                    }, executor))
+                    .toList();
+            CompletableFuture.allOf(writers.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(statusCountRepository.findByFoundationId(foundation.getId()))
+                .singleElement()
+                .satisfies(counter -> {
+                    assertThat(counter.getStatus()).isEqualTo(PetStatus.PENDING);
+                    assertThat(counter.getPetCount()).isEqualTo(WRITERS);
+                });
+        assertThat(petService.getPetStatistics(foundation.getId()).getPendingPets()).isEqualTo(WRITERS);
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.petfriendly.backend.service.index;
+
+import com.petfriendly.backend.entity.Foundation;
+import com.petfriendly.backend.entity.Pet;
+import com.petfriendly.backend.entity.PetGender;
+import com.petfriendly.backend.entity.PetSize;
+import com.petfriendly.backend.entity.PetSpecies;
+import com.petfriendly.backend.entity.PetStatus;
+import com.petfriendly.backend.repository.PetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AvailablePetIndexTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final PetRepository petRepository = mock(PetRepository.class);
+    private final Foundation bogota = Foundation.builder().id(UUID.randomUUID()).name("Paws").city("Bogota").build();
+    private final Foundation cali = Foundation.builder().id(UUID.randomUUID()).name("Tails").city("Cali").build();
+
+    private Pet oldDog;
+    private Pet youngCat;
+    private Pet newDog;
+    private AvailablePetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        oldDog = pet(PetSpecies.DOG, PetSize.LARGE, PetGender.MALE, 9, bogota, T0);
+        youngCat = pet(PetSpecies.CAT, PetSize.SMALL, PetGender.FEMALE, 1, bogota, T0.plusDays(1));
+        newDog = pet(PetSpecies.DOG, PetSize.SMALL, PetGender.FEMALE, 3, cali, T0.plusDays(2));
+        when(petRepository.findAvailableWithFoundation()).thenReturn(List.of(oldDog, youngCat, newDog));
+        index = new AvailablePetIndex(petRepository, true);
+    }
+
+    @Test
+    void searchIsUnavailableUntilLoaded() {
+        assertThat(index.search(null, null, null, null, PageRequest.of(0, 10))).isEmpty();
+
+        index.rebuild();
+
+        assertThat(index.search(null, null, null, null, PageRequest.of(0, 10))).isPresent();
+    }
+
+    @Test
+    void changesBeforeLoadAreReplayedOnTopOfSnapshot() {
+        Pet rabbit = pet(PetSpecies.RABBIT, PetSize.SMALL, PetGender.MALE, 2, cali, T0.plusDays(5));
+        index.refresh(rabbit);
+        index.evict(oldDog.getId());
+
+        index.rebuild();
+
+        assertThat(ids(null, null, null, null, PageRequest.of(0, 10)))
+                .containsExactly(rabbit.getId(), newDog.getId(), youngCat.getId());
+    }
+
+    @Test
+    void disabledIndexNeverAnswers() {
+        AvailablePetIndex disabled = new AvailablePetIndex(petRepository, false);
+        disabled.warmUp();
+
+        assertThat(disabled.search(null, null, null, null, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void unsortedSearchReturnsNewestFirst() {
+        index.rebuild();
+
+        assertThat(ids(null, null, null, null, PageRequest.of(0, 10)))
+                .containsExactly(newDog.getId(), youngCat.getId(), oldDog.getId());
+    }
+
+    @Test
+    void filtersIntersect() {
+        index.rebuild();
+
+        assertThat(ids(PetSpecies.DOG, null, null, null, PageRequest.of(0, 10)))
+                .containsExactly(newDog.getId(), oldDog.getId());
+        assertThat(ids(PetSpecies.DOG, PetSize.SMALL, null, null, PageRequest.of(0, 10)))
+                .containsExactly(newDog.getId());
+        assertThat(ids(null, null, PetGender.FEMALE, "Bogota", PageRequest.of(0, 10)))
+                .containsExactly(youngCat.getId());
+    }
+
+    @Test
+    void filterOnValueWithoutPetsMatchesNothing() {
+        index.rebuild();
+
+        Page<UUID> page = index.search(PetSpecies.FISH, null, null, "Medellin", PageRequest.of(0, 10)).orElseThrow();
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isZero();
+    }
+
+    @Test
+    void pagesCarryTotalAndOffset() {
+        index.rebuild();
+
+        Page<UUID> second = index.search(null, null, null, null, PageRequest.of(1, 2)).orElseThrow();
+
+        assertThat(second.getContent()).containsExactly(oldDog.getId());
+        assertThat(second.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void supportsCreatedAtAndAgeSortsOnly() {
+        index.rebuild();
+
+        assertThat(ids(null, null, null, null, PageRequest.of(0, 10, Sort.by("createdAt"))))
+                .containsExactly(oldDog.getId(), youngCat.getId(), newDog.getId());
+        assertThat(ids(null, null, null, null, PageRequest.of(0, 10, Sort.by("age"))))
+                .containsExactly(youngCat.getId(), newDog.getId(), oldDog.getId());
+        assertThat(ids(null, null, null, null, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "age"))))
+                .containsExactly(oldDog.getId(), newDog.getId(), youngCat.getId());
+        assertThat(index.search(null, null, null, null, PageRequest.of(0, 10, Sort.by("name")))).isEmpty();
+        assertThat(index.search(null, null, null, null, PageRequest.of(0, 10, Sort.by("age", "createdAt")))).isEmpty();
+    }
+
+    @Test
+    void refreshAppliesStatusAndAttributeChanges() {
+        index.rebuild();
+
+        youngCat.setStatus(PetStatus.ADOPTED);
+        index.refresh(youngCat);
+        oldDog.setSize(PetSize.SMALL);
+        index.refresh(oldDog);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(ids(null, PetSize.SMALL, null, null, PageRequest.of(0, 10)))
+                .containsExactly(newDog.getId(), oldDog.getId());
+        assertThat(ids(null, PetSize.LARGE, null, null, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void freedSlotsAreReusedWithoutLeakingOldAttributes() {
+        index.rebuild();
+
+        index.evict(oldDog.getId());
+        Pet bird = pet(PetSpecies.BIRD, null, null, null, cali, T0.plusDays(3));
+        index.refresh(bird);
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(ids(null, PetSize.LARGE, null, null, PageRequest.of(0, 10))).isEmpty();
+        assertThat(ids(null, null, null, "Cali", PageRequest.of(0, 10)))
+                .containsExactly(bird.getId(), newDog.getId());
+        // A pet without an age sorts after every pet with one
+        assertThat(ids(null, null, null, null, PageRequest.of(0, 10, Sort.by("age"))))
+                .containsExactly(youngCat.getId(), newDog.getId(), bird.getId());
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        index.rebuild();
+
+        for (int i = 0; i < 600; i++) {
+            index.refresh(pet(PetSpecies.RABBIT, PetSize.SMALL, PetGender.MALE, i % 15, cali, T0.plusMinutes(i)));
+        }
+
+        assertThat(index.size()).isEqualTo(603);
+        assertThat(index.search(PetSpecies.RABBIT, null, null, null, PageRequest.of(0, 10)).orElseThrow()
+                .getTotalElements()).isEqualTo(600);
+    }
+
+    private List<UUID> ids(PetSpecies species, PetSize size, PetGender gender, String city, Pageable pageable) {
+        return index.search(species, size, gender, city, pageable).orElseThrow().getContent();
+    }
+
+    private static Pet pet(PetSpecies species, PetSize size, PetGender gender, Integer age,
+                           Foundation foundation, LocalDateTime createdAt) {
+        return Pet.builder()
+                .id(UUID.randomUUID())
+                .name("Pet")
+                .species(species)
+                .size(size)
+                .gender(gender)
+                .age(age)
+                .status(PetStatus.AVAILABLE)
+                .foundation(foundation)
+                .createdAt(createdAt)
+                .build();
+    }
+}
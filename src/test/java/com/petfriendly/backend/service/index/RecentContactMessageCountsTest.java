@@ -0,0 +1,178 @@
+package com.petfriendly.backend.service.index;
+
+import com.petfriendly.backend.repository.ContactMessageDailyCountRepository;
+import com.petfriendly.backend.repository.projection.DailyMessageCount;
+import com.petfriendly.backend.service.index.RecentContactMessageCounts.DayRing;
+import com.petfriendly.backend.service.index.RecentContactMessageCounts.Window;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static com.petfriendly.backend.service.index.RecentContactMessageCounts.DAYS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecentContactMessageCountsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 15);
+
+    private final DayRing ring = new DayRing();
+
+    private final UUID foundationId = UUID.randomUUID();
+    private final ContactMessageDailyCountRepository repository = mock(ContactMessageDailyCountRepository.class);
+    private final RecentContactMessageCounts counts =
+            new RecentContactMessageCounts(repository, Duration.ofMinutes(1), 100);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void sameDayAccumulates() {
+        add(TODAY, 2);
+        add(TODAY, 3);
+
+        assertThat(ring.window(TODAY)).isEqualTo(new Window(5, 5, 5));
+    }
+
+    @Test
+    void newerDayReusesTheSlotOfTheDayThirtyDaysBefore() {
+        LocalDate old = TODAY.minusDays(DAYS);
+        add(old, 7);
+        add(TODAY, 2);
+
+        assertThat(ring.window(TODAY)).isEqualTo(new Window(2, 2, 2));
+    }
+
+    @Test
+    void olderDayDoesNotOverwriteANewerOneInItsSlot() {
+        add(TODAY, 2);
+        add(TODAY.minusDays(DAYS), 7);
+
+        assertThat(ring.window(TODAY)).isEqualTo(new Window(2, 2, 2));
+    }
+
+    @Test
+    void slotsKeepWorkingAfterTheRingWrapsSeveralTimes() {
+        for (int day = 0; day < 3 * DAYS; day++) {
+            add(TODAY.plusDays(day), 1);
+        }
+
+        assertThat(ring.window(TODAY.plusDays(3 * DAYS - 1))).isEqualTo(new Window(1, 7, DAYS));
+    }
+
+    @Test
+    void weekCoversTodayAndTheSixDaysBefore() {
+        add(TODAY.minusDays(6), 1);
+        add(TODAY.minusDays(7), 10);
+
+        assertThat(ring.window(TODAY)).isEqualTo(new Window(0, 1, 11));
+    }
+
+    @Test
+    void monthCoversTodayAndTheTwentyNineDaysBefore() {
+        add(TODAY.minusDays(DAYS - 1), 1);
+        add(TODAY.minusDays(DAYS), 10);
+
+        assertThat(ring.window(TODAY)).isEqualTo(new Window(0, 0, 1));
+    }
+
+    @Test
+    void staleSlotsAgeOutWithoutNewWrites() {
+        add(TODAY, 4);
+
+        assertThat(ring.window(TODAY.plusDays(6))).isEqualTo(new Window(0, 4, 4));
+        assertThat(ring.window(TODAY.plusDays(7))).isEqualTo(new Window(0, 0, 4));
+        assertThat(ring.window(TODAY.plusDays(DAYS))).isEqualTo(new Window(0, 0, 0));
+    }
+
+    @Test
+    void daysAfterTheWindowDateAreIgnored() {
+        add(TODAY.plusDays(1), 3);
+
+        assertThat(ring.window(TODAY)).isEqualTo(new Window(0, 0, 0));
+    }
+
+    @Test
+    void committedWriteIsAddedToALoadedRing() {
+        stored(1);
+        assertThat(counts.forFoundation(foundationId).today()).isEqualTo(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        counts.record(foundationId, LocalDate.now(), 1);
+        stored(2);
+        commit();
+
+        assertThat(counts.forFoundation(foundationId).today()).isEqualTo(2);
+        verify(repository, times(1)).findDailyCountsByFoundationSince(eq(foundationId), any());
+    }
+
+    @Test
+    void ringLoadedWhileAWriteCommitsIsNotCachedSoTheWriteCountsOnce() {
+        TransactionSynchronizationManager.initSynchronization();
+        counts.record(foundationId, LocalDate.now(), 1);
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        // the row is committed, the after-commit delta has not run yet
+        stored(1);
+        assertThat(counts.forFoundation(foundationId).today()).isEqualTo(1);
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(counts.forFoundation(foundationId).today()).isEqualTo(1);
+        assertThat(counts.forFoundation(foundationId).today()).isEqualTo(1);
+        verify(repository, times(2)).findDailyCountsByFoundationSince(eq(foundationId), any());
+    }
+
+    @Test
+    void rolledBackWriteLeavesTheRingAlone() {
+        stored(1);
+        counts.forFoundation(foundationId);
+
+        TransactionSynchronizationManager.initSynchronization();
+        counts.record(foundationId, LocalDate.now(), 1);
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(counts.forFoundation(foundationId).today()).isEqualTo(1);
+        verify(repository, times(1)).findDailyCountsByFoundationSince(eq(foundationId), any());
+    }
+
+    private void stored(long today) {
+        DailyMessageCount count = new DailyMessageCount() {
+            @Override
+            public LocalDate getDay() {
+                return LocalDate.now();
+            }
+
+            @Override
+            public long getCount() {
+                return today;
+            }
+        };
+        when(repository.findDailyCountsByFoundationSince(eq(foundationId), any())).thenReturn(List.of(count));
+    }
+
+    private void commit() {
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private void add(LocalDate day, long delta) {
+        ring.add(day.toEpochDay(), delta);
+    }
+}
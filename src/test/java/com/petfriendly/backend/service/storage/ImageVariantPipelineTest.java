@@ -0,0 +1,163 @@
+package com.petfriendly.backend.service.storage;
+
+import com.petfriendly.backend.entity.ImageVariantStatus;
+import com.petfriendly.backend.entity.PetImage;
+import com.petfriendly.backend.repository.PetImageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageVariantPipelineTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @TempDir
+    Path root;
+
+    private final PetImageRepository petImageRepository = mock(PetImageRepository.class);
+    private ImageStore imageStore;
+    private ImageVariantPipeline pipeline;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        imageStore = new ImageStore(root, DataSize.ofMegabytes(5));
+        pipeline = pipeline(2, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.shutdown();
+    }
+
+    @Test
+    void submittedImageGetsThreeStoredVariants() throws IOException {
+        PetImage image = pendingImage(imageStore.store(new ByteArrayInputStream(jpeg(1600, 1200))).url(), 0);
+        when(petImageRepository.updateVariants(eq(image.getId()), anyString(), eq(ImageVariantStatus.READY), anyInt(),
+                anyString(), anyString(), anyString())).thenReturn(1);
+
+        assertThat(pipeline.submit(image.getId())).isTrue();
+
+        ArgumentCaptor<String> thumbnail = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> medium = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> large = ArgumentCaptor.forClass(String.class);
+        verify(petImageRepository, timeout(10_000)).updateVariants(eq(image.getId()), eq(image.getImageUrl()),
+                eq(ImageVariantStatus.READY), eq(0), thumbnail.capture(), medium.capture(), large.capture());
+        assertThat(List.of(thumbnail.getValue(), medium.getValue(), large.getValue()))
+                .doesNotHaveDuplicates()
+                .allSatisfy(url -> assertThat(imageStore.keyOf(url).flatMap(imageStore::find)).isPresent());
+        assertThat(ImageIO.read(stored(large.getValue()).toFile()).getWidth()).isEqualTo(ImageVariant.LARGE.getWidth());
+        assertThat(ImageIO.read(stored(thumbnail.getValue()).toFile()).getWidth()).isEqualTo(ImageVariant.THUMBNAIL.getWidth());
+    }
+
+    @Test
+    void failedAttemptStaysPendingUntilTheAttemptsRunOut() {
+        String missing = ImageStore.urlOf("0".repeat(64) + ".jpg");
+        PetImage retried = pendingImage(missing, 0);
+        PetImage exhausted = pendingImage(missing, MAX_ATTEMPTS - 1);
+
+        pipeline.submit(retried.getId());
+        pipeline.submit(exhausted.getId());
+
+        verify(petImageRepository, timeout(10_000)).updateVariants(eq(retried.getId()), eq(missing),
+                eq(ImageVariantStatus.PENDING), eq(1), isNull(), isNull(), isNull());
+        verify(petImageRepository, timeout(10_000)).updateVariants(eq(exhausted.getId()), eq(missing),
+                eq(ImageVariantStatus.FAILED), eq(MAX_ATTEMPTS), isNull(), isNull(), isNull());
+    }
+
+    @Test
+    void fullQueueTurnsImagesAway() throws InterruptedException {
+        pipeline.shutdown();
+        pipeline = pipeline(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        UUID busy = UUID.randomUUID();
+        when(petImageRepository.findById(busy)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+
+        try {
+            assertThat(pipeline.submit(busy)).isTrue();
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(pipeline.submit(UUID.randomUUID())).isTrue();
+            assertThat(pipeline.submit(UUID.randomUUID())).isFalse();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void unusedVariantFilesAreDeletedAndReferencedOnesKept() throws IOException, InterruptedException {
+        String unused = imageStore.store(new ByteArrayInputStream(jpeg(200, 100))).url();
+        String referenced = imageStore.store(new ByteArrayInputStream(jpeg(300, 100))).url();
+        when(petImageRepository.isStoredFileReferenced(imageStore.keyOf(referenced).orElseThrow())).thenReturn(true);
+
+        pipeline.deleteUnusedAfterCommit(List.of(unused, referenced));
+
+        verify(petImageRepository, timeout(10_000)).isStoredFileReferenced(imageStore.keyOf(unused).orElseThrow());
+        verify(petImageRepository, timeout(10_000)).isStoredFileReferenced(imageStore.keyOf(referenced).orElseThrow());
+        pipeline.shutdown();
+        assertThat(imageStore.keyOf(unused).flatMap(imageStore::find)).isEmpty();
+        assertThat(imageStore.keyOf(referenced).flatMap(imageStore::find)).isPresent();
+    }
+
+    private ImageVariantPipeline pipeline(int workers, int queueCapacity) {
+        return new ImageVariantPipeline(imageStore, petImageRepository, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), workers, queueCapacity, 0.8f, MAX_ATTEMPTS);
+    }
+
+    private PetImage pendingImage(String url, int attempts) {
+        PetImage image = new PetImage();
+        image.setId(UUID.randomUUID());
+        image.setImageUrl(url);
+        image.setVariantStatus(ImageVariantStatus.PENDING);
+        image.setVariantAttempts(attempts);
+        when(petImageRepository.findById(image.getId())).thenReturn(Optional.of(image));
+        return image;
+    }
+
+    private Path stored(String url) {
+        return imageStore.keyOf(url).flatMap(imageStore::find).orElseThrow();
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(width % 256, 120, 80));
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+}